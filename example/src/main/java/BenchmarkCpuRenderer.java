@@ -0,0 +1,123 @@
+import imgui.ImDrawData;
+import imgui.ImGui;
+import imgui.ImGuiIO;
+import imgui.cpu.ImGuiImplCpu;
+import imgui.flag.ImGuiCond;
+import imgui.flag.ImGuiTableFlags;
+
+import java.nio.IntBuffer;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Renders a 1920x1080 frame with {@link ImGuiImplCpu} on pools with different parallelism and reports the scaling.
+ * Doesn't need a GPU or a display, so could be run on a headless machine.
+ */
+public final class BenchmarkCpuRenderer {
+    private static final int WIDTH = 1920;
+    private static final int HEIGHT = 1080;
+    private static final int WARMUP_FRAMES = 50;
+    private static final int MEASURED_FRAMES = 200;
+
+    private BenchmarkCpuRenderer() {
+    }
+
+    public static void main(final String[] args) {
+        ImGui.createContext();
+
+        final ImGuiIO io = ImGui.getIO();
+        io.setIniFilename(null);
+        io.setDisplaySize(WIDTH, HEIGHT);
+        io.setDeltaTime(1f / 60);
+
+        final IntBuffer framebuffer = IntBuffer.allocate(WIDTH * HEIGHT);
+        final int maxParallelism = Runtime.getRuntime().availableProcessors();
+
+        // Let windows settle their size and position
+        io.getFonts().build();
+        for (int i = 0; i < 3; i++) {
+            buildFrame();
+        }
+
+        System.out.println("threads    ms/frame    speedup");
+
+        double singleThreadTime = 0;
+        for (int parallelism = 1; parallelism <= maxParallelism; parallelism = nextParallelism(parallelism, maxParallelism)) {
+            final ForkJoinPool pool = new ForkJoinPool(parallelism);
+            final ImGuiImplCpu renderer = new ImGuiImplCpu(pool);
+            renderer.setClearColor(0xFF737373);
+            renderer.init();
+
+            // Draw data refers to the font texture of the current renderer, so the frame is rebuilt after its initialization
+            buildFrame();
+            final ImDrawData drawData = ImGui.getDrawData();
+
+            if (parallelism == 1) {
+                System.out.printf("Frame %dx%d: %d vertices, %d indices, %d commands%n",
+                    WIDTH, HEIGHT, drawData.getTotalVtxCount(), drawData.getTotalIdxCount(), drawData.getTotalCmdCount());
+            }
+
+            for (int i = 0; i < WARMUP_FRAMES; i++) {
+                renderer.renderDrawData(drawData, framebuffer, WIDTH, HEIGHT);
+            }
+
+            final long start = System.nanoTime();
+            for (int i = 0; i < MEASURED_FRAMES; i++) {
+                renderer.renderDrawData(drawData, framebuffer, WIDTH, HEIGHT);
+            }
+            final double frameTime = (System.nanoTime() - start) / 1e6 / MEASURED_FRAMES;
+
+            if (parallelism == 1) {
+                singleThreadTime = frameTime;
+            }
+            System.out.printf("%7d    %8.3f    %7.2fx%n", parallelism, frameTime, singleThreadTime / frameTime);
+
+            renderer.dispose();
+            pool.shutdown();
+        }
+
+        ImGui.destroyContext();
+    }
+
+    private static int nextParallelism(final int parallelism, final int maxParallelism) {
+        if (parallelism == maxParallelism) {
+            return maxParallelism + 1;
+        }
+        return Math.min(parallelism * 2, maxParallelism);
+    }
+
+    /**
+     * Fills the screen with a typical dashboard: a table with text, plots and the demo window on top of it.
+     */
+    private static void buildFrame() {
+        ImGui.newFrame();
+
+        ImGui.setNextWindowPos(0, 0, ImGuiCond.Always);
+        ImGui.setNextWindowSize(WIDTH, HEIGHT, ImGuiCond.Always);
+        ImGui.begin("Dashboard");
+
+        final float[] values = new float[100];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (float) Math.sin(i * 0.1);
+        }
+        for (int i = 0; i < 4; i++) {
+            ImGui.plotLines("Signal " + i, values, values.length, i * 10, "", -1, 1, WIDTH / 2f, 80);
+        }
+
+        if (ImGui.beginTable("Values", 6, ImGuiTableFlags.Borders | ImGuiTableFlags.RowBg)) {
+            for (int row = 0; row < 40; row++) {
+                for (int column = 0; column < 6; column++) {
+                    ImGui.tableNextColumn();
+                    ImGui.text("Row " + row + ", column " + column + ": " + row * column);
+                }
+            }
+            ImGui.endTable();
+        }
+
+        ImGui.end();
+
+        ImGui.setNextWindowPos(WIDTH / 2f, 50, ImGuiCond.Always);
+        ImGui.showDemoWindow();
+
+        ImGui.render();
+    }
+}
@@ -0,0 +1,114 @@
+import imgui.ImFontAtlas;
+import imgui.ImFontGlyphPager;
+import imgui.ImGui;
+import imgui.type.ImInt;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/**
+ * Rebuilds a paged atlas the way {@link ImFontGlyphPager} does when new text is shown and reports the part of the texture,
+ * which the partial font texture update of ImGuiImplGl3 would upload: the band between the first and the last changed rows.
+ * Every rebuild packs all glyphs again, so a new glyph usually moves most of them and the band covers nearly the whole texture.
+ * Doesn't need a GPU or a display, so could be run on a headless machine.
+ */
+public final class BenchmarkFontsTexturePartialUpdate {
+    private static final float FONT_SIZE = 16;
+    private static final double PERCENT = 100.0;
+    // Pangram, so every step adds a few Cyrillic glyphs
+    private static final String[] TEXT = {
+        "\u0421\u044a\u0435\u0448\u044c",
+        "\u0436\u0435",
+        "\u0435\u0449\u0451",
+        "\u044d\u0442\u0438\u0445",
+        "\u043c\u044f\u0433\u043a\u0438\u0445",
+        "\u0444\u0440\u0430\u043d\u0446\u0443\u0437\u0441\u043a\u0438\u0445",
+        "\u0431\u0443\u043b\u043e\u043a",
+        "\u0434\u0430",
+        "\u0432\u044b\u043f\u0435\u0439",
+        "\u0447\u0430\u044e",
+    };
+
+    private BenchmarkFontsTexturePartialUpdate() {
+    }
+
+    public static void main(final String[] args) {
+        ImGui.createContext();
+
+        final ImFontAtlas fonts = ImGui.getIO().getFonts();
+        final byte[] fontData = loadFromResources("Tahoma.ttf");
+        final ImFontGlyphPager pager = new ImFontGlyphPager(fonts.getGlyphRangesCyrillic(), fonts.getGlyphRangesDefault());
+
+        final ImInt width = new ImInt();
+        final ImInt height = new ImInt();
+        byte[] previousPixels = null;
+        int previousHeight = 0;
+        long totalBytes = 0;
+        long uploadedBytes = 0;
+
+        System.out.println("glyphs    texture     changed rows    uploaded");
+
+        for (final String word : TEXT) {
+            if (!pager.requestText(word)) {
+                continue;
+            }
+
+            fonts.clear();
+            fonts.addFontFromMemoryTTF(fontData, FONT_SIZE, pager.buildRanges());
+            fonts.build();
+
+            final ByteBuffer buffer = fonts.getTexDataAsAlpha8(width, height);
+            final byte[] pixels = new byte[buffer.remaining()];
+            buffer.get(pixels);
+
+            final int rowSize = width.get();
+            final int textureSize = rowSize * height.get();
+            final int bandRows;
+            if (previousPixels == null || previousHeight != height.get()) {
+                bandRows = height.get(); // The texture is recreated when its size changes
+            } else {
+                bandRows = getChangedBandRows(previousPixels, pixels, rowSize, height.get());
+            }
+
+            totalBytes += textureSize;
+            uploadedBytes += (long) bandRows * rowSize;
+            System.out.printf("%6d    %4dx%-4d    %5d/%-5d    %7.1f%%%n",
+                pager.getResidentGlyphCount(), width.get(), height.get(), bandRows, height.get(), PERCENT * bandRows / height.get());
+
+            previousPixels = pixels;
+            previousHeight = height.get();
+        }
+
+        System.out.printf("Uploaded %d of %d bytes (%.1f%%)%n", uploadedBytes, totalBytes, PERCENT * uploadedBytes / totalBytes);
+
+        ImGui.destroyContext();
+    }
+
+    private static int getChangedBandRows(final byte[] previous, final byte[] current, final int rowSize, final int height) {
+        int firstRow = -1;
+        int lastRow = -1;
+        for (int row = 0; row < height; row++) {
+            for (int i = row * rowSize; i < (row + 1) * rowSize; i++) {
+                if (previous[i] != current[i]) {
+                    if (firstRow == -1) {
+                        firstRow = row;
+                    }
+                    lastRow = row;
+                    break;
+                }
+            }
+        }
+        return firstRow == -1 ? 0 : lastRow - firstRow + 1;
+    }
+
+    private static byte[] loadFromResources(final String name) {
+        try {
+            return Files.readAllBytes(Paths.get(BenchmarkFontsTexturePartialUpdate.class.getResource(name).toURI()));
+        } catch (IOException | URISyntaxException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -20,6 +20,12 @@ public class Configuration {
      * When true, application will be maximized by default.
      */
     private boolean fullScreen = false;
+    /**
+     * When true, frames with the draw data identical to the previous frame are not rendered and buffers are not swapped.
+     * Useful for mostly static interfaces, since idle application doesn't load GPU and CPU.
+     * Ignored when multi-viewports are enabled.
+     */
+    private boolean skipUnchangedFrames = false;
 
     public String getTitle() {
         return title;
@@ -52,4 +58,28 @@ public class Configuration {
     public void setFullScreen(final boolean fullScreen) {
         this.fullScreen = fullScreen;
     }
+
+    public boolean isSkipUnchangedFrames() {
+        return skipUnchangedFrames;
+    }
+
+    /**
+     * Allows to skip the rendering and the buffer swap of frames, which draw data is identical to the previous frame.
+     * Only the draw data and the background color are compared, so content changed in other ways is not shown until the next different frame:
+     * <ul>
+     *     <li>pixels of textures updated without changes in the draw data, e.g. video frames or thumbnails uploaded with the
+     *     {@link imgui.gl3.ImGuiImplGl3TextureManager};</li>
+     *     <li>anything drawn with raw OpenGL calls in the {@link Window#process()}.</li>
+     * </ul>
+     * In such cases {@link Window#requestRedraw()} should be called to render the frame anyway.
+     * For the texture manager it could be done with {@code textureManager.setUploadCallback(window::requestRedraw)}.
+     * Skipping is not used when multi-viewports are enabled.
+     * <p>
+     * Disabled by default.
+     *
+     * @param skipUnchangedFrames true to skip unchanged frames
+     */
+    public void setSkipUnchangedFrames(final boolean skipUnchangedFrames) {
+        this.skipUnchangedFrames = skipUnchangedFrames;
+    }
 }
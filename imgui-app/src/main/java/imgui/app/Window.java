@@ -29,6 +29,13 @@ public abstract class Window {
 
     private String glslVersion = null;
 
+    private boolean skipUnchangedFrames = false;
+    private boolean hasLastFrameHash = false;
+    private long lastFrameHash = 0;
+    private long skippedFrameCount = 0;
+    private double idleWaitTimeout = 1.0 / 60;
+    private volatile boolean redrawRequested = false;
+
     /**
      * Pointer to the native GLFW window.
      */
@@ -45,6 +52,7 @@ public abstract class Window {
      * @param config configuration object with basic window information
      */
     protected void init(final Configuration config) {
+        skipUnchangedFrames = config.isSkipUnchangedFrames();
         initWindow(config);
         initImGui(config);
         imGuiGlfw.init(handle, true);
@@ -89,6 +97,9 @@ public abstract class Window {
             GLFW.glfwGetWindowSize(handle, pWidth, pHeight);
             final GLFWVidMode vidmode = Objects.requireNonNull(GLFW.glfwGetVideoMode(GLFW.glfwGetPrimaryMonitor()));
             GLFW.glfwSetWindowPos(handle, (vidmode.width() - pWidth.get(0)) / 2, (vidmode.height() - pHeight.get(0)) / 2);
+            if (vidmode.refreshRate() > 0) {
+                idleWaitTimeout = 1.0 / vidmode.refreshRate();
+            }
         }
 
         GLFW.glfwMakeContextCurrent(handle);
@@ -199,6 +210,14 @@ public abstract class Window {
      */
     protected void endFrame() {
         ImGui.render();
+
+        if (isFrameUnchanged()) {
+            skippedFrameCount++;
+            // Nothing to present, so wait for the next event instead of the buffer swap, which would throttle the loop otherwise
+            GLFW.glfwWaitEventsTimeout(idleWaitTimeout);
+            return;
+        }
+
         imGuiGl3.renderDrawData(ImGui.getDrawData());
 
         if (ImGui.getIO().hasConfigFlags(ImGuiConfigFlags.ViewportsEnable)) {
@@ -211,6 +230,42 @@ public abstract class Window {
         renderBuffer();
     }
 
+    /**
+     * Forces the next frame to be rendered, even if its draw data is identical to the previous frame.
+     * Should be called when the visible content changes without changes in the draw data, e.g. when pixels of a texture
+     * shown with {@link ImGui#image(int, float, float)} are updated or when the frame is drawn with raw OpenGL calls.
+     * Makes sense only when unchanged frames skipping is enabled, see {@link Configuration#setSkipUnchangedFrames(boolean)}.
+     * Could be called from any thread.
+     */
+    public final void requestRedraw() {
+        redrawRequested = true;
+    }
+
+    /**
+     * Compares the hash of the current draw data with the previous frame, when unchanged frames skipping is enabled.
+     *
+     * @return true if the frame could be skipped
+     */
+    private boolean isFrameUnchanged() {
+        if (!skipUnchangedFrames || ImGui.getIO().hasConfigFlags(ImGuiConfigFlags.ViewportsEnable)) {
+            hasLastFrameHash = false;
+            return false;
+        }
+
+        // Background color is not a part of the draw data, but it's visible in the frame as well
+        long frameHash = ImGui.getDrawData().getHash();
+        frameHash = frameHash * 31 + Float.floatToIntBits(colorBg.getRed());
+        frameHash = frameHash * 31 + Float.floatToIntBits(colorBg.getGreen());
+        frameHash = frameHash * 31 + Float.floatToIntBits(colorBg.getBlue());
+        frameHash = frameHash * 31 + Float.floatToIntBits(colorBg.getAlpha());
+
+        final boolean unchanged = hasLastFrameHash && frameHash == lastFrameHash && !redrawRequested;
+        redrawRequested = false;
+        lastFrameHash = frameHash;
+        hasLastFrameHash = true;
+        return unchanged;
+    }
+
     /**
      * Method to render the OpenGL buffer and poll window events.
      */
@@ -243,6 +298,13 @@ public abstract class Window {
         return handle;
     }
 
+    /**
+     * @return amount of frames which were not rendered, since their draw data was identical to the previous frame
+     */
+    public final long getSkippedFrameCount() {
+        return skippedFrameCount;
+    }
+
     /**
      * @return {@link Color} instance, which represents background color for the window
      */
@@ -4,6 +4,7 @@ import imgui.binding.ImGuiStruct;
 
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
 
 /**
  * All draw data to render Dear ImGui frame
@@ -17,8 +18,34 @@ public final class ImDrawData extends ImGuiStruct {
     public static final int SIZEOF_IM_DRAW_IDX = 2;
     public static final int SIZEOF_IM_DRAW_VERT = 20;
 
+    /**
+     * Size of a single packed command written by {@link #getCmdBufferData(ByteBuffer)}.
+     * Layout (all fields are 4 bytes in the native byte order):
+     * <pre>
+     *   offset  type   field
+     *   0       float  ClipRect.x
+     *   4       float  ClipRect.y
+     *   8       float  ClipRect.z
+     *   12      float  ClipRect.w
+     *   16      int    TextureId
+     *   20      int    ElemCount
+     *   24      int    IdxOffset
+     *   28      int    VtxOffset
+     *   32      int    index of the cmd list owning the command
+     * </pre>
+     */
+    public static final int SIZEOF_IM_DRAW_CMD_DATA = 36;
+    public static final int CMD_DATA_OFFSET_CLIP_RECT = 0;
+    public static final int CMD_DATA_OFFSET_TEXTURE_ID = 16;
+    public static final int CMD_DATA_OFFSET_ELEM_COUNT = 20;
+    public static final int CMD_DATA_OFFSET_IDX_OFFSET = 24;
+    public static final int CMD_DATA_OFFSET_VTX_OFFSET = 28;
+    public static final int CMD_DATA_OFFSET_CMD_LIST_IDX = 32;
+
     private static final int RESIZE_FACTOR = 5_000;
 
+    private static final ByteBuffer EMPTY_BUFFER = ByteBuffer.allocateDirect(0).order(ByteOrder.nativeOrder());
+
     private static ByteBuffer dataBuffer = ByteBuffer.allocateDirect(25_000).order(ByteOrder.nativeOrder());
 
     private static final ImGuiViewport OWNER_VIEWPORT = new ImGuiViewport(0);
@@ -31,6 +58,17 @@ public final class ImDrawData extends ImGuiStruct {
         #include "_common.h"
 
         #define IM_DRAW_DATA ((ImDrawData*)STRUCT_PTR)
+
+        // Must match the layout described for ImDrawData.SIZEOF_IM_DRAW_CMD_DATA
+        struct ImDrawCmdData {
+            float ClipRect[4];
+            int TextureId;
+            int ElemCount;
+            int IdxOffset;
+            int VtxOffset;
+            int CmdListIdx;
+        };
+
      */
 
     ///////// Start of Render Methods | Binding
@@ -66,6 +104,34 @@ public final class ImDrawData extends ImGuiStruct {
         Jni::ImVec4Cpy(env, &IM_DRAW_DATA->CmdLists[cmdListIdx]->CmdBuffer[cmdBufferIdx].ClipRect, dstImVec4);
     */
 
+    /**
+     * Clipping rectangle (x1, y1, x2, y2). Subtract ImDrawData.DisplayPos to get clipping rectangle in "viewport" coordinates
+     * <p>
+     * Writes x, y, z and w into dst[offset] .. dst[offset + 3].
+     */
+    public void getCmdListCmdBufferClipRect(final int cmdListIdx, final int cmdBufferIdx, final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 4);
+        nGetCmdListCmdBufferClipRect(cmdListIdx, cmdBufferIdx, dst, offset);
+    }
+
+    private native void nGetCmdListCmdBufferClipRect(int cmdListIdx, int cmdBufferIdx, float[] dst, int offset); /*
+        Jni::ImVec4Cpy(&IM_DRAW_DATA->CmdLists[cmdListIdx]->CmdBuffer[cmdBufferIdx].ClipRect, dst + offset);
+    */
+
+    /**
+     * Clipping rectangle (x1, y1, x2, y2). Subtract ImDrawData.DisplayPos to get clipping rectangle in "viewport" coordinates
+     * <p>
+     * Writes x, y, z and w into the direct buffer at absolute indices offset .. offset + 3. Buffer position is ignored.
+     */
+    public void getCmdListCmdBufferClipRect(final int cmdListIdx, final int cmdBufferIdx, final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 4);
+        nGetCmdListCmdBufferClipRect(cmdListIdx, cmdBufferIdx, dst, offset);
+    }
+
+    private native void nGetCmdListCmdBufferClipRect(int cmdListIdx, int cmdBufferIdx, FloatBuffer dst, int offset); /*
+        Jni::ImVec4Cpy(&IM_DRAW_DATA->CmdLists[cmdListIdx]->CmdBuffer[cmdBufferIdx].ClipRect, dst + offset);
+    */
+
     /**
      * User-provided texture ID. Set by user in ImfontAtlas::SetTexID() for fonts or passed to Image*() functions.
      * Ignore if never using images or multiple fonts atlas.
@@ -115,6 +181,24 @@ public final class ImDrawData extends ImGuiStruct {
         memcpy(idxBuffer, IM_DRAW_DATA->CmdLists[cmdListIdx]->IdxBuffer.Data, idxBufferCapacity);
     */
 
+    /**
+     * Index buffer. Unlike {@link #getCmdListIdxBufferData(int)} the returned direct buffer wraps the native memory in place, without copying it.
+     * <p>
+     * The buffer is valid only until the next NewFrame() call. Accessing it after that is undefined behaviour and may crash the JVM.
+     */
+    public ByteBuffer getCmdListIdxBufferView(final int cmdListIdx) {
+        final ByteBuffer view = nGetCmdListIdxBufferView(cmdListIdx);
+        return view != null ? view.order(ByteOrder.nativeOrder()) : EMPTY_BUFFER;
+    }
+
+    private native ByteBuffer nGetCmdListIdxBufferView(int cmdListIdx); /*
+        const ImVector<ImDrawIdx>& idxBuffer = IM_DRAW_DATA->CmdLists[cmdListIdx]->IdxBuffer;
+        if (idxBuffer.Data == NULL || idxBuffer.Size == 0) {
+            return NULL;
+        }
+        return env->NewDirectByteBuffer(idxBuffer.Data, (jlong)idxBuffer.Size * sizeof(ImDrawIdx));
+    */
+
     /**
      * Vertex buffer.
      */
@@ -141,6 +225,167 @@ public final class ImDrawData extends ImGuiStruct {
         memcpy(vtxBuffer, IM_DRAW_DATA->CmdLists[cmdListIdx]->VtxBuffer.Data, vtxBufferCapacity);
     */
 
+    /**
+     * Vertex buffer. Unlike {@link #getCmdListVtxBufferData(int)} the returned direct buffer wraps the native memory in place, without copying it.
+     * <p>
+     * The buffer is valid only until the next NewFrame() call. Accessing it after that is undefined behaviour and may crash the JVM.
+     */
+    public ByteBuffer getCmdListVtxBufferView(final int cmdListIdx) {
+        final ByteBuffer view = nGetCmdListVtxBufferView(cmdListIdx);
+        return view != null ? view.order(ByteOrder.nativeOrder()) : EMPTY_BUFFER;
+    }
+
+    private native ByteBuffer nGetCmdListVtxBufferView(int cmdListIdx); /*
+        const ImVector<ImDrawVert>& vtxBuffer = IM_DRAW_DATA->CmdLists[cmdListIdx]->VtxBuffer;
+        if (vtxBuffer.Data == NULL || vtxBuffer.Size == 0) {
+            return NULL;
+        }
+        return env->NewDirectByteBuffer(vtxBuffer.Data, (jlong)vtxBuffer.Size * sizeof(ImDrawVert));
+    */
+
+    /**
+     * Sum of the CmdBuffer.Size of all cmd lists. Use it to calculate the capacity of the buffer passed to {@link #getCmdBufferData(ByteBuffer)}.
+     */
+    public native int getTotalCmdCount(); /*
+        int count = 0;
+        for (int n = 0; n < IM_DRAW_DATA->CmdListsCount; n++) {
+            count += IM_DRAW_DATA->CmdLists[n]->CmdBuffer.Size;
+        }
+        return count;
+    */
+
+    /**
+     * Writes commands of all cmd lists into the provided direct buffer in one native call.
+     * Every command is written as a packed struct of {@link #SIZEOF_IM_DRAW_CMD_DATA} bytes, see its documentation for the layout.
+     * Commands are written in the rendering order: cmd list by cmd list, command by command.
+     * <p>
+     * Writing starts at the zero position of the buffer. If the buffer can't fit all commands, only the first fitting ones are written.
+     * After the call the buffer limit is set to the end of the written data.
+     *
+     * @param dstBuffer direct buffer with the native byte order to write commands to
+     * @return amount of written commands
+     */
+    public int getCmdBufferData(final ByteBuffer dstBuffer) {
+        if (!dstBuffer.isDirect()) {
+            throw new IllegalArgumentException("Buffer must be direct");
+        }
+
+        final int cmdCount = nGetCmdBufferData(dstBuffer, dstBuffer.capacity() / SIZEOF_IM_DRAW_CMD_DATA);
+
+        dstBuffer.position(0);
+        dstBuffer.limit(cmdCount * SIZEOF_IM_DRAW_CMD_DATA);
+
+        return cmdCount;
+    }
+
+    private native int nGetCmdBufferData(ByteBuffer dstBuffer, int maxCmdCount); /*
+        ImDrawCmdData* dst = (ImDrawCmdData*)dstBuffer;
+        int count = 0;
+        for (int n = 0; n < IM_DRAW_DATA->CmdListsCount; n++) {
+            const ImDrawList* cmdList = IM_DRAW_DATA->CmdLists[n];
+            for (int i = 0; i < cmdList->CmdBuffer.Size; i++) {
+                if (count >= maxCmdCount) {
+                    return count;
+                }
+                const ImDrawCmd* cmd = &cmdList->CmdBuffer.Data[i];
+                ImDrawCmdData* data = &dst[count++];
+                data->ClipRect[0] = cmd->ClipRect.x;
+                data->ClipRect[1] = cmd->ClipRect.y;
+                data->ClipRect[2] = cmd->ClipRect.z;
+                data->ClipRect[3] = cmd->ClipRect.w;
+                data->TextureId = (int)(intptr_t)cmd->GetTexID();
+                data->ElemCount = (int)cmd->ElemCount;
+                data->IdxOffset = (int)cmd->IdxOffset;
+                data->VtxOffset = (int)cmd->VtxOffset;
+                data->CmdListIdx = n;
+            }
+        }
+        return count;
+    */
+
+    /**
+     * Copies vertex and index buffers of all cmd lists into the provided direct buffers in one native call.
+     * Buffers of cmd lists are written one after another, in the same order as cmd lists are stored.
+     * Sizes of the written buffers are stored in the cmdListSizes array as pairs: [vtxSize0, idxSize0, vtxSize1, idxSize1, ...].
+     * <p>
+     * Vertex buffer should fit {@link #getTotalVtxCount()} vertices, index buffer should fit {@link #getTotalIdxCount()} indices
+     * and the sizes array should have at least two elements for every cmd list.
+     *
+     * @param vtxDstBuffer direct buffer to copy vertices to
+     * @param idxDstBuffer direct buffer to copy indices to
+     * @param cmdListSizes array to store amount of vertices and indices of every cmd list
+     */
+    public void copyCmdListsBufferData(final ByteBuffer vtxDstBuffer, final ByteBuffer idxDstBuffer, final int[] cmdListSizes) {
+        if (!vtxDstBuffer.isDirect() || !idxDstBuffer.isDirect()) {
+            throw new IllegalArgumentException("Buffers must be direct");
+        }
+        if (vtxDstBuffer.capacity() < getTotalVtxCount() * SIZEOF_IM_DRAW_VERT || idxDstBuffer.capacity() < getTotalIdxCount() * SIZEOF_IM_DRAW_IDX) {
+            throw new IllegalArgumentException("Buffers are too small to fit the draw data");
+        }
+        if (cmdListSizes.length < getCmdListsCount() * 2) {
+            throw new IllegalArgumentException("Sizes array is too small to fit all cmd lists");
+        }
+
+        nCopyCmdListsBufferData(vtxDstBuffer, idxDstBuffer, cmdListSizes);
+
+        vtxDstBuffer.position(0);
+        vtxDstBuffer.limit(getTotalVtxCount() * SIZEOF_IM_DRAW_VERT);
+        idxDstBuffer.position(0);
+        idxDstBuffer.limit(getTotalIdxCount() * SIZEOF_IM_DRAW_IDX);
+    }
+
+    private native void nCopyCmdListsBufferData(ByteBuffer vtxDstBuffer, ByteBuffer idxDstBuffer, int[] cmdListSizes); /*
+        char* vtxDst = vtxDstBuffer;
+        char* idxDst = idxDstBuffer;
+        for (int n = 0; n < IM_DRAW_DATA->CmdListsCount; n++) {
+            const ImDrawList* cmdList = IM_DRAW_DATA->CmdLists[n];
+            const size_t vtxSize = cmdList->VtxBuffer.Size * sizeof(ImDrawVert);
+            const size_t idxSize = cmdList->IdxBuffer.Size * sizeof(ImDrawIdx);
+            if (vtxSize > 0) {
+                memcpy(vtxDst, cmdList->VtxBuffer.Data, vtxSize);
+            }
+            if (idxSize > 0) {
+                memcpy(idxDst, cmdList->IdxBuffer.Data, idxSize);
+            }
+            vtxDst += vtxSize;
+            idxDst += idxSize;
+            cmdListSizes[n * 2] = cmdList->VtxBuffer.Size;
+            cmdListSizes[n * 2 + 1] = cmdList->IdxBuffer.Size;
+        }
+    */
+
+    /**
+     * Fingerprint of the draw data, computed natively in one call.
+     * The hash covers display position, size and framebuffer scale, commands of all cmd lists and their vertices and indices.
+     * Two draw data with the same hash render the same image, as long as the content of the used textures is the same.
+     * Could be used to skip the rendering of frames which are identical to the previous one.
+     *
+     * @return 64-bit hash of the draw data
+     */
+    public native long getHash(); /*
+        uint64_t hash = JNI_HASH_SEED;
+        hash = Jni::HashData(hash, &IM_DRAW_DATA->DisplayPos, sizeof(ImVec2));
+        hash = Jni::HashData(hash, &IM_DRAW_DATA->DisplaySize, sizeof(ImVec2));
+        hash = Jni::HashData(hash, &IM_DRAW_DATA->FramebufferScale, sizeof(ImVec2));
+        hash = Jni::HashData(hash, &IM_DRAW_DATA->CmdListsCount, sizeof(int));
+        for (int n = 0; n < IM_DRAW_DATA->CmdListsCount; n++) {
+            const ImDrawList* cmdList = IM_DRAW_DATA->CmdLists[n];
+            for (int i = 0; i < cmdList->CmdBuffer.Size; i++) {
+                const ImDrawCmd* cmd = &cmdList->CmdBuffer.Data[i];
+                const ImTextureID textureId = cmd->GetTexID();
+                hash = Jni::HashData(hash, &cmd->ClipRect, sizeof(ImVec4));
+                hash = Jni::HashData(hash, &textureId, sizeof(ImTextureID));
+                hash = Jni::HashData(hash, &cmd->VtxOffset, sizeof(unsigned int));
+                hash = Jni::HashData(hash, &cmd->IdxOffset, sizeof(unsigned int));
+                hash = Jni::HashData(hash, &cmd->ElemCount, sizeof(unsigned int));
+                hash = Jni::HashData(hash, &cmd->UserCallback, sizeof(ImDrawCallback));
+            }
+            hash = Jni::HashData(hash, cmdList->VtxBuffer.Data, cmdList->VtxBuffer.Size * sizeof(ImDrawVert));
+            hash = Jni::HashData(hash, cmdList->IdxBuffer.Data, cmdList->IdxBuffer.Size * sizeof(ImDrawIdx));
+        }
+        return (jlong)hash;
+    */
+
     public static native int sizeOfImDrawVert(); /*
         return (int)sizeof(ImDrawVert);
     */
@@ -195,6 +440,34 @@ public final class ImDrawData extends ImGuiStruct {
         Jni::ImVec2Cpy(env, &IM_DRAW_DATA->DisplayPos, dstImVec2);
     */
 
+    /**
+     * Upper-left position of the viewport to render (== upper-left of the orthogonal projection matrix to use)
+     * <p>
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public void getDisplayPos(final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetDisplayPos(dst, offset);
+    }
+
+    private native void nGetDisplayPos(float[] dst, int offset); /*
+        Jni::ImVec2Cpy(&IM_DRAW_DATA->DisplayPos, dst + offset);
+    */
+
+    /**
+     * Upper-left position of the viewport to render (== upper-left of the orthogonal projection matrix to use)
+     * <p>
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public void getDisplayPos(final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetDisplayPos(dst, offset);
+    }
+
+    private native void nGetDisplayPos(FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(&IM_DRAW_DATA->DisplayPos, dst + offset);
+    */
+
     /**
      * Upper-left position of the viewport to render (== upper-left of the orthogonal projection matrix to use)
      */
@@ -227,6 +500,36 @@ public final class ImDrawData extends ImGuiStruct {
         Jni::ImVec2Cpy(env, &IM_DRAW_DATA->DisplaySize, dstImVec2);
     */
 
+    /**
+     * Size of the viewport to render (== io.DisplaySize for the main viewport)
+     * (DisplayPos + DisplaySize == lower-right of the orthogonal projection matrix to use)
+     * <p>
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public void getDisplaySize(final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetDisplaySize(dst, offset);
+    }
+
+    private native void nGetDisplaySize(float[] dst, int offset); /*
+        Jni::ImVec2Cpy(&IM_DRAW_DATA->DisplaySize, dst + offset);
+    */
+
+    /**
+     * Size of the viewport to render (== io.DisplaySize for the main viewport)
+     * (DisplayPos + DisplaySize == lower-right of the orthogonal projection matrix to use)
+     * <p>
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public void getDisplaySize(final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetDisplaySize(dst, offset);
+    }
+
+    private native void nGetDisplaySize(FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(&IM_DRAW_DATA->DisplaySize, dst + offset);
+    */
+
     /**
      * Size of the viewport to render (== io.DisplaySize for the main viewport)
      * (DisplayPos + DisplaySize == lower-right of the orthogonal projection matrix to use)
@@ -259,6 +562,34 @@ public final class ImDrawData extends ImGuiStruct {
         Jni::ImVec2Cpy(env, &IM_DRAW_DATA->FramebufferScale, dstImVec2);
     */
 
+    /**
+     * Amount of pixels for each unit of DisplaySize. Based on io.DisplayFramebufferScale. Generally (1,1) on normal display, (2,2) on OSX with Retina display.
+     * <p>
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public void getFramebufferScale(final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetFramebufferScale(dst, offset);
+    }
+
+    private native void nGetFramebufferScale(float[] dst, int offset); /*
+        Jni::ImVec2Cpy(&IM_DRAW_DATA->FramebufferScale, dst + offset);
+    */
+
+    /**
+     * Amount of pixels for each unit of DisplaySize. Based on io.DisplayFramebufferScale. Generally (1,1) on normal display, (2,2) on OSX with Retina display.
+     * <p>
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public void getFramebufferScale(final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetFramebufferScale(dst, offset);
+    }
+
+    private native void nGetFramebufferScale(FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(&IM_DRAW_DATA->FramebufferScale, dst + offset);
+    */
+
     /**
      * Amount of pixels for each unit of DisplaySize. Based on io.DisplayFramebufferScale. Generally (1,1) on normal display, (2,2) on OSX with Retina display.
      */
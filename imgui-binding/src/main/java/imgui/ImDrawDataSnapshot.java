@@ -0,0 +1,264 @@
+package imgui;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Deep copy of the {@link ImDrawData}: cmd lists, their commands, vertices and indices.
+ * Unlike the {@link ImDrawData} itself, which points to the memory owned by Dear ImGui and is valid only until the next frame,
+ * snapshot owns its data and doesn't touch the native context after the capture. Thus it could be passed to another thread.
+ * <p>
+ * Storage is pooled: buffers are allocated once, grow when needed and are reused by every next capture.
+ * The intended usage is double buffering: the UI thread captures frame N+1 into one snapshot, while the render thread submits
+ * frame N from another one. Synchronization of the hand-off is up to the application.
+ * <p>
+ * Geometry of all cmd lists is stored in one vertex and one index buffer, commands are stored in the layout described by
+ * {@link ImDrawData#getCmdBufferData(ByteBuffer)}.
+ */
+public final class ImDrawDataSnapshot {
+    private static final int RESIZE_FACTOR = 5_000;
+
+    private ByteBuffer vtxBufferData = ByteBuffer.allocateDirect(RESIZE_FACTOR * ImDrawData.SIZEOF_IM_DRAW_VERT).order(ByteOrder.nativeOrder());
+    private ByteBuffer idxBufferData = ByteBuffer.allocateDirect(RESIZE_FACTOR * ImDrawData.SIZEOF_IM_DRAW_IDX).order(ByteOrder.nativeOrder());
+    private ByteBuffer cmdBufferData = ByteBuffer.allocateDirect(RESIZE_FACTOR).order(ByteOrder.nativeOrder());
+
+    // Views used to return buffers of a single cmd list
+    private ByteBuffer vtxBufferView = vtxBufferData.duplicate().order(ByteOrder.nativeOrder());
+    private ByteBuffer idxBufferView = idxBufferData.duplicate().order(ByteOrder.nativeOrder());
+
+    private int[] cmdListSizes = new int[32]; // pairs of vertices and indices amount
+    private int[] cmdListVtxOffsets = new int[16];
+    private int[] cmdListIdxOffsets = new int[16];
+
+    private int cmdListsCount = 0;
+    private int totalVtxCount = 0;
+    private int totalIdxCount = 0;
+    private int cmdCount = 0;
+    private int ownerViewportId = 0;
+    private float displayPosX = 0;
+    private float displayPosY = 0;
+    private float displaySizeX = 0;
+    private float displaySizeY = 0;
+    private float framebufferScaleX = 0;
+    private float framebufferScaleY = 0;
+
+    /**
+     * Copies the draw data into the snapshot, replacing its previous content.
+     * Should be called on the thread which owns the Dear ImGui context, after the {@link ImGui#render()} and before the next frame.
+     *
+     * @param drawData draw data to copy
+     * @return this snapshot
+     */
+    public ImDrawDataSnapshot capture(final ImDrawData drawData) {
+        cmdListsCount = drawData.getCmdListsCount();
+        totalVtxCount = drawData.getTotalVtxCount();
+        totalIdxCount = drawData.getTotalIdxCount();
+
+        final ImGuiViewport ownerViewport = drawData.getOwnerViewport();
+        ownerViewportId = ownerViewport.isValidPtr() ? ownerViewport.getID() : 0;
+
+        displayPosX = drawData.getDisplayPosX();
+        displayPosY = drawData.getDisplayPosY();
+        displaySizeX = drawData.getDisplaySizeX();
+        displaySizeY = drawData.getDisplaySizeY();
+        framebufferScaleX = drawData.getFramebufferScaleX();
+        framebufferScaleY = drawData.getFramebufferScaleY();
+
+        ensureCapacity(drawData.getTotalCmdCount());
+
+        if (cmdListsCount > 0) {
+            cmdCount = drawData.getCmdBufferData(cmdBufferData);
+            drawData.copyCmdListsBufferData(vtxBufferData, idxBufferData, cmdListSizes);
+        } else {
+            cmdCount = 0;
+            vtxBufferData.clear().limit(0);
+            idxBufferData.clear().limit(0);
+            cmdBufferData.clear().limit(0);
+        }
+
+        int vtxOffset = 0;
+        int idxOffset = 0;
+        for (int n = 0; n < cmdListsCount; n++) {
+            cmdListVtxOffsets[n] = vtxOffset;
+            cmdListIdxOffsets[n] = idxOffset;
+            vtxOffset += cmdListSizes[n * 2];
+            idxOffset += cmdListSizes[n * 2 + 1];
+        }
+
+        return this;
+    }
+
+    private void ensureCapacity(final int totalCmdCount) {
+        final int vtxCapacity = totalVtxCount * ImDrawData.SIZEOF_IM_DRAW_VERT;
+        if (vtxBufferData.capacity() < vtxCapacity) {
+            vtxBufferData = ByteBuffer.allocateDirect(vtxCapacity + RESIZE_FACTOR * ImDrawData.SIZEOF_IM_DRAW_VERT).order(ByteOrder.nativeOrder());
+            vtxBufferView = vtxBufferData.duplicate().order(ByteOrder.nativeOrder());
+        }
+
+        final int idxCapacity = totalIdxCount * ImDrawData.SIZEOF_IM_DRAW_IDX;
+        if (idxBufferData.capacity() < idxCapacity) {
+            idxBufferData = ByteBuffer.allocateDirect(idxCapacity + RESIZE_FACTOR * ImDrawData.SIZEOF_IM_DRAW_IDX).order(ByteOrder.nativeOrder());
+            idxBufferView = idxBufferData.duplicate().order(ByteOrder.nativeOrder());
+        }
+
+        final int cmdCapacity = totalCmdCount * ImDrawData.SIZEOF_IM_DRAW_CMD_DATA;
+        if (cmdBufferData.capacity() < cmdCapacity) {
+            cmdBufferData = ByteBuffer.allocateDirect(cmdCapacity + RESIZE_FACTOR).order(ByteOrder.nativeOrder());
+        }
+
+        if (cmdListVtxOffsets.length < cmdListsCount) {
+            cmdListSizes = new int[cmdListsCount * 4];
+            cmdListVtxOffsets = new int[cmdListsCount * 2];
+            cmdListIdxOffsets = new int[cmdListsCount * 2];
+        }
+    }
+
+    /**
+     * @return amount of cmd lists in the captured draw data
+     */
+    public int getCmdListsCount() {
+        return cmdListsCount;
+    }
+
+    /**
+     * @return amount of vertices of all cmd lists
+     */
+    public int getTotalVtxCount() {
+        return totalVtxCount;
+    }
+
+    /**
+     * @return amount of indices of all cmd lists
+     */
+    public int getTotalIdxCount() {
+        return totalIdxCount;
+    }
+
+    /**
+     * @return amount of commands of all cmd lists, including user callbacks: they are copied as plain commands without the callback itself
+     */
+    public int getCmdCount() {
+        return cmdCount;
+    }
+
+    /**
+     * @return ID of the viewport which owned the captured draw data, or 0 if there was no owner
+     */
+    public int getOwnerViewportId() {
+        return ownerViewportId;
+    }
+
+    /**
+     * Commands of all cmd lists in the layout described by {@link ImDrawData#getCmdBufferData(ByteBuffer)}.
+     * The buffer is owned by the snapshot and is rewritten by the next capture.
+     */
+    public ByteBuffer getCmdBufferData() {
+        return cmdBufferData;
+    }
+
+    /**
+     * Vertices of all cmd lists, stored one after another.
+     * The buffer is owned by the snapshot and is rewritten by the next capture.
+     */
+    public ByteBuffer getVtxBufferData() {
+        return vtxBufferData;
+    }
+
+    /**
+     * Indices of all cmd lists, stored one after another.
+     * The buffer is owned by the snapshot and is rewritten by the next capture.
+     */
+    public ByteBuffer getIdxBufferData() {
+        return idxBufferData;
+    }
+
+    public int getCmdListVtxBufferSize(final int cmdListIdx) {
+        return cmdListSizes[cmdListIdx * 2];
+    }
+
+    public int getCmdListIdxBufferSize(final int cmdListIdx) {
+        return cmdListSizes[cmdListIdx * 2 + 1];
+    }
+
+    /**
+     * @return offset of the cmd list vertices in the {@link #getVtxBufferData()}, in vertices
+     */
+    public int getCmdListVtxOffset(final int cmdListIdx) {
+        return cmdListVtxOffsets[cmdListIdx];
+    }
+
+    /**
+     * @return offset of the cmd list indices in the {@link #getIdxBufferData()}, in indices
+     */
+    public int getCmdListIdxOffset(final int cmdListIdx) {
+        return cmdListIdxOffsets[cmdListIdx];
+    }
+
+    /**
+     * Vertex buffer of the single cmd list. Returned buffer is shared among calls, its position and limit point to the cmd list data.
+     */
+    public ByteBuffer getCmdListVtxBufferData(final int cmdListIdx) {
+        final int start = cmdListVtxOffsets[cmdListIdx] * ImDrawData.SIZEOF_IM_DRAW_VERT;
+        vtxBufferView.limit(start + getCmdListVtxBufferSize(cmdListIdx) * ImDrawData.SIZEOF_IM_DRAW_VERT);
+        vtxBufferView.position(start);
+        return vtxBufferView;
+    }
+
+    /**
+     * Index buffer of the single cmd list. Returned buffer is shared among calls, its position and limit point to the cmd list data.
+     */
+    public ByteBuffer getCmdListIdxBufferData(final int cmdListIdx) {
+        final int start = cmdListIdxOffsets[cmdListIdx] * ImDrawData.SIZEOF_IM_DRAW_IDX;
+        idxBufferView.limit(start + getCmdListIdxBufferSize(cmdListIdx) * ImDrawData.SIZEOF_IM_DRAW_IDX);
+        idxBufferView.position(start);
+        return idxBufferView;
+    }
+
+    public ImVec2 getDisplayPos() {
+        return new ImVec2(displayPosX, displayPosY);
+    }
+
+    public void getDisplayPos(final ImVec2 dstImVec2) {
+        dstImVec2.set(displayPosX, displayPosY);
+    }
+
+    public float getDisplayPosX() {
+        return displayPosX;
+    }
+
+    public float getDisplayPosY() {
+        return displayPosY;
+    }
+
+    public ImVec2 getDisplaySize() {
+        return new ImVec2(displaySizeX, displaySizeY);
+    }
+
+    public void getDisplaySize(final ImVec2 dstImVec2) {
+        dstImVec2.set(displaySizeX, displaySizeY);
+    }
+
+    public float getDisplaySizeX() {
+        return displaySizeX;
+    }
+
+    public float getDisplaySizeY() {
+        return displaySizeY;
+    }
+
+    public ImVec2 getFramebufferScale() {
+        return new ImVec2(framebufferScaleX, framebufferScaleY);
+    }
+
+    public void getFramebufferScale(final ImVec2 dstImVec2) {
+        dstImVec2.set(framebufferScaleX, framebufferScaleY);
+    }
+
+    public float getFramebufferScaleX() {
+        return framebufferScaleX;
+    }
+
+    public float getFramebufferScaleY() {
+        return framebufferScaleY;
+    }
+}
@@ -2,6 +2,8 @@ package imgui;
 
 import imgui.binding.ImGuiStruct;
 
+import java.nio.FloatBuffer;
+
 /**
  * Draw command list
  * This is the low-level list of polygons that ImGui:: functions are filling. At the end of the frame,
@@ -103,6 +105,24 @@ public final class ImDrawList extends ImGuiStruct {
         Jni::ImVec2Cpy(env, IM_DRAW_LIST->GetClipRectMin(), dstImVec2);
     */
 
+    public void getClipRectMin(final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetClipRectMin(dst, offset);
+    }
+
+    private native void nGetClipRectMin(float[] dst, int offset); /*
+        Jni::ImVec2Cpy(IM_DRAW_LIST->GetClipRectMin(), dst + offset);
+    */
+
+    public void getClipRectMin(final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetClipRectMin(dst, offset);
+    }
+
+    private native void nGetClipRectMin(FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(IM_DRAW_LIST->GetClipRectMin(), dst + offset);
+    */
+
     public native float getClipRectMinX(); /*
         return IM_DRAW_LIST->GetClipRectMin().x;
     */
@@ -121,6 +141,24 @@ public final class ImDrawList extends ImGuiStruct {
         Jni::ImVec2Cpy(env, IM_DRAW_LIST->GetClipRectMax(), dstImVec2);
     */
 
+    public void getClipRectMax(final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetClipRectMax(dst, offset);
+    }
+
+    private native void nGetClipRectMax(float[] dst, int offset); /*
+        Jni::ImVec2Cpy(IM_DRAW_LIST->GetClipRectMax(), dst + offset);
+    */
+
+    public void getClipRectMax(final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetClipRectMax(dst, offset);
+    }
+
+    private native void nGetClipRectMax(FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(IM_DRAW_LIST->GetClipRectMax(), dst + offset);
+    */
+
     public native float getClipRectMaxX(); /*
         return IM_DRAW_LIST->GetClipRectMax().x;
     */
@@ -335,6 +373,16 @@ public final class ImDrawList extends ImGuiStruct {
         IM_DRAW_LIST->AddImage((ImTextureID)(intptr_t)textureID, ImVec2(pMinX, pMinY), ImVec2(pMaxX, pMaxY), ImVec2(uvMinX, uvMinY), ImVec2(uvMaxX, uvMaxY), col);
     */
 
+    public void addImage(final ImTextureRegion region, final float pMinX, final float pMinY, final float pMaxX, final float pMaxY) {
+        region.markUsed();
+        addImage(region.getTextureId(), pMinX, pMinY, pMaxX, pMaxY, region.getU0(), region.getV0(), region.getU1(), region.getV1());
+    }
+
+    public void addImage(final ImTextureRegion region, final float pMinX, final float pMinY, final float pMaxX, final float pMaxY, final int col) {
+        region.markUsed();
+        addImage(region.getTextureId(), pMinX, pMinY, pMaxX, pMaxY, region.getU0(), region.getV0(), region.getU1(), region.getV1(), col);
+    }
+
     public native void addImageQuad(int textureID, float p1X, float p1Y, float p2X, float p2Y, float p3X, float p3Y, float p4X, float p4Y); /*
         IM_DRAW_LIST->AddImageQuad((ImTextureID)(intptr_t)textureID, ImVec2(p1X, p1Y), ImVec2(p2X, p2Y), ImVec2(p3X, p3Y), ImVec2(p4X, p4Y));
     */
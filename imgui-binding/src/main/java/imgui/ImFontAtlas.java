@@ -1,10 +1,17 @@
 package imgui;
 
 import imgui.binding.ImGuiStructDestroyable;
+import imgui.flag.ImFontAtlasFlags;
 import imgui.type.ImInt;
 
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Load and rasterize multiple TTF/OTF fonts into a same texture. The font atlas will build a single texture holding:
@@ -26,6 +33,11 @@ import java.nio.ByteOrder;
  * - This is an old API and it is currently awkward for those and and various other reasons! We will address them in the future!
  */
 public final class ImFontAtlas extends ImGuiStructDestroyable {
+    // Pointers of atlases whose current texture data is built by the buildSdf(), Java wrappers of the same atlas could be different objects
+    private static final Set<Long> SDF_ATLASES = ConcurrentHashMap.newKeySet();
+    // Pointers of atlases to the native state of their buildAsync(), which glyphs are rasterized by workers and not packed yet
+    private static final Map<Long, Long> PARALLEL_BUILDS = new ConcurrentHashMap<>();
+
     private ByteBuffer alpha8pixels = null;
     private ByteBuffer rgba32pixels = null;
 
@@ -38,11 +50,242 @@ public final class ImFontAtlas extends ImGuiStructDestroyable {
 
     /*JNI
         #include "_common.h"
+        #include <imgui_internal.h>
+        #ifdef IMGUI_ENABLE_FREETYPE
+        #include <misc/freetype/imgui_freetype.h>
+        #endif
 
         #define IM_FONT_ATLAS ((ImFontAtlas*)STRUCT_PTR)
 
         jmethodID jImFontAtlasCreateAlpha8PixelsMID;
         jmethodID jImFontAtlasCreateRgba32PixelsMID;
+
+        // Build data format, should be incremented on every change of the layout
+        #define FONT_ATLAS_BUILD_DATA_MAGIC 0x41464d49
+        #define FONT_ATLAS_BUILD_DATA_VERSION 2
+
+        static int FindFontIndex(const ImFontAtlas* atlas, const ImFont* font) {
+            for (int i = 0; i < atlas->Fonts.Size; i++) {
+                if (atlas->Fonts[i] == font) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        // Writes data to the destination, or only counts its size when the destination is NULL
+        struct FontAtlasWriter {
+            char* Data;
+            size_t Size;
+
+            void Write(const void* src, size_t size) {
+                if (Data != NULL) {
+                    memcpy(Data + Size, src, size);
+                }
+                Size += size;
+            }
+        };
+
+        // Reads data from the source, or only validates its size when the destination is NULL
+        struct FontAtlasReader {
+            const char* Data;
+            size_t Size;
+            size_t Offset;
+
+            bool Read(void* dst, size_t size) {
+                if (Offset + size > Size) {
+                    return false;
+                }
+                if (dst != NULL) {
+                    memcpy(dst, Data + Offset, size);
+                }
+                Offset += size;
+                return true;
+            }
+        };
+
+        // Pixels are stored in the format the atlas was built in: alpha8 by default, RGBA32 when glyphs have colors (FreeType LoadColor)
+        static int GetBuildDataBytesPerPixel(const ImFontAtlas* atlas) {
+            if (atlas->TexPixelsAlpha8 != NULL && !atlas->TexPixelsUseColors) {
+                return 1;
+            }
+            if (atlas->TexPixelsRGBA32 != NULL) {
+                return 4;
+            }
+            return atlas->TexPixelsAlpha8 != NULL ? 1 : 0;
+        }
+
+        static void WriteFontAtlasBuildData(const ImFontAtlas* atlas, FontAtlasWriter* w) {
+            const int header[] = {FONT_ATLAS_BUILD_DATA_MAGIC, FONT_ATLAS_BUILD_DATA_VERSION, IMGUI_VERSION_NUM, (int)sizeof(ImFontGlyph), (int)sizeof(ImWchar)};
+            w->Write(header, sizeof(header));
+
+            w->Write(&atlas->TexWidth, sizeof(int));
+            w->Write(&atlas->TexHeight, sizeof(int));
+            w->Write(&atlas->TexUvScale, sizeof(ImVec2));
+            w->Write(&atlas->TexUvWhitePixel, sizeof(ImVec2));
+            w->Write(atlas->TexUvLines, sizeof(atlas->TexUvLines));
+            w->Write(&atlas->PackIdMouseCursors, sizeof(int));
+            w->Write(&atlas->PackIdLines, sizeof(int));
+
+            w->Write(&atlas->CustomRects.Size, sizeof(int));
+            for (int i = 0; i < atlas->CustomRects.Size; i++) {
+                const ImFontAtlasCustomRect& rect = atlas->CustomRects[i];
+                const int fontIdx = FindFontIndex(atlas, rect.Font);
+                w->Write(&rect.Width, sizeof(unsigned short));
+                w->Write(&rect.Height, sizeof(unsigned short));
+                w->Write(&rect.X, sizeof(unsigned short));
+                w->Write(&rect.Y, sizeof(unsigned short));
+                w->Write(&rect.GlyphID, sizeof(unsigned int));
+                w->Write(&rect.GlyphAdvanceX, sizeof(float));
+                w->Write(&rect.GlyphOffset, sizeof(ImVec2));
+                w->Write(&fontIdx, sizeof(int));
+            }
+
+            w->Write(&atlas->Fonts.Size, sizeof(int));
+            for (int i = 0; i < atlas->Fonts.Size; i++) {
+                const ImFont* font = atlas->Fonts[i];
+                w->Write(&font->FontSize, sizeof(float));
+                w->Write(&font->Ascent, sizeof(float));
+                w->Write(&font->Descent, sizeof(float));
+                w->Write(&font->MetricsTotalSurface, sizeof(int));
+                w->Write(&font->FallbackChar, sizeof(ImWchar));
+                w->Write(&font->EllipsisChar, sizeof(ImWchar));
+                w->Write(&font->ConfigDataCount, sizeof(short));
+                w->Write(&font->Glyphs.Size, sizeof(int));
+                w->Write(font->Glyphs.Data, font->Glyphs.Size * sizeof(ImFontGlyph));
+            }
+
+            const int bytesPerPixel = GetBuildDataBytesPerPixel(atlas);
+            const void* pixels = bytesPerPixel == 1 ? (const void*)atlas->TexPixelsAlpha8 : (const void*)atlas->TexPixelsRGBA32;
+            w->Write(&atlas->TexPixelsUseColors, sizeof(bool));
+            w->Write(&bytesPerPixel, sizeof(int));
+            w->Write(pixels, (size_t)atlas->TexWidth * atlas->TexHeight * bytesPerPixel);
+        }
+
+        // Called twice: to validate the data without touching the atlas, and then to apply it
+        static bool ReadFontAtlasBuildData(ImFontAtlas* atlas, FontAtlasReader* r, bool apply) {
+            int header[5];
+            if (!r->Read(header, sizeof(header))
+                || header[0] != FONT_ATLAS_BUILD_DATA_MAGIC || header[1] != FONT_ATLAS_BUILD_DATA_VERSION
+                || header[2] != IMGUI_VERSION_NUM || header[3] != (int)sizeof(ImFontGlyph) || header[4] != (int)sizeof(ImWchar)) {
+                return false;
+            }
+
+            int texWidth, texHeight;
+            if (!r->Read(&texWidth, sizeof(int)) || !r->Read(&texHeight, sizeof(int)) || texWidth <= 0 || texHeight <= 0) {
+                return false;
+            }
+
+            if (apply) {
+                atlas->ClearTexData();
+                atlas->TexWidth = texWidth;
+                atlas->TexHeight = texHeight;
+            }
+            if (!r->Read(apply ? &atlas->TexUvScale : NULL, sizeof(ImVec2))
+                || !r->Read(apply ? &atlas->TexUvWhitePixel : NULL, sizeof(ImVec2))
+                || !r->Read(apply ? atlas->TexUvLines : NULL, sizeof(atlas->TexUvLines))
+                || !r->Read(apply ? &atlas->PackIdMouseCursors : NULL, sizeof(int))
+                || !r->Read(apply ? &atlas->PackIdLines : NULL, sizeof(int))) {
+                return false;
+            }
+
+            int customRectCount;
+            if (!r->Read(&customRectCount, sizeof(int)) || customRectCount < 0) {
+                return false;
+            }
+            if (apply) {
+                atlas->CustomRects.resize(customRectCount);
+            }
+            for (int i = 0; i < customRectCount; i++) {
+                ImFontAtlasCustomRect rect;
+                int fontIdx;
+                if (!r->Read(&rect.Width, sizeof(unsigned short))
+                    || !r->Read(&rect.Height, sizeof(unsigned short))
+                    || !r->Read(&rect.X, sizeof(unsigned short))
+                    || !r->Read(&rect.Y, sizeof(unsigned short))
+                    || !r->Read(&rect.GlyphID, sizeof(unsigned int))
+                    || !r->Read(&rect.GlyphAdvanceX, sizeof(float))
+                    || !r->Read(&rect.GlyphOffset, sizeof(ImVec2))
+                    || !r->Read(&fontIdx, sizeof(int))
+                    || fontIdx >= atlas->Fonts.Size) {
+                    return false;
+                }
+                if (apply) {
+                    rect.Font = fontIdx >= 0 ? atlas->Fonts[fontIdx] : NULL;
+                    atlas->CustomRects[i] = rect;
+                }
+            }
+
+            int fontCount;
+            if (!r->Read(&fontCount, sizeof(int)) || fontCount != atlas->Fonts.Size) {
+                return false;
+            }
+            for (int i = 0; i < fontCount; i++) {
+                ImFont* font = atlas->Fonts[i];
+                float fontSize, ascent, descent;
+                int metricsTotalSurface, glyphCount;
+                ImWchar fallbackChar, ellipsisChar;
+                short configDataCount;
+                if (!r->Read(&fontSize, sizeof(float))
+                    || !r->Read(&ascent, sizeof(float))
+                    || !r->Read(&descent, sizeof(float))
+                    || !r->Read(&metricsTotalSurface, sizeof(int))
+                    || !r->Read(&fallbackChar, sizeof(ImWchar))
+                    || !r->Read(&ellipsisChar, sizeof(ImWchar))
+                    || !r->Read(&configDataCount, sizeof(short))
+                    || !r->Read(&glyphCount, sizeof(int))
+                    || glyphCount < 0) {
+                    return false;
+                }
+
+                // Same font setup as done by the atlas build, but with metrics and glyphs taken from the data
+                if (apply) {
+                    font->ClearOutputData();
+                    font->ContainerAtlas = atlas;
+                    font->ConfigData = NULL;
+                    for (int n = 0; n < atlas->ConfigData.Size; n++) {
+                        if (atlas->ConfigData[n].DstFont == font) {
+                            font->ConfigData = &atlas->ConfigData[n];
+                            break;
+                        }
+                    }
+                    font->ConfigDataCount = configDataCount;
+                    font->FontSize = fontSize;
+                    font->Ascent = ascent;
+                    font->Descent = descent;
+                    font->MetricsTotalSurface = metricsTotalSurface;
+                    font->FallbackChar = fallbackChar;
+                    font->Glyphs.resize(glyphCount);
+                }
+                if (!r->Read(apply ? font->Glyphs.Data : NULL, glyphCount * sizeof(ImFontGlyph))) {
+                    return false;
+                }
+                if (apply) {
+                    font->BuildLookupTable();
+                    font->EllipsisChar = ellipsisChar;
+                }
+            }
+
+            bool useColors;
+            int bytesPerPixel;
+            if (!r->Read(&useColors, sizeof(bool)) || !r->Read(&bytesPerPixel, sizeof(int)) || (bytesPerPixel != 1 && bytesPerPixel != 4)) {
+                return false;
+            }
+
+            const size_t pixelsSize = (size_t)texWidth * texHeight * bytesPerPixel;
+            void* pixels = NULL;
+            if (apply) {
+                pixels = IM_ALLOC(pixelsSize);
+                if (bytesPerPixel == 1) {
+                    atlas->TexPixelsAlpha8 = (unsigned char*)pixels;
+                } else {
+                    atlas->TexPixelsRGBA32 = (unsigned int*)pixels;
+                }
+                atlas->TexPixelsUseColors = useColors;
+                atlas->TexReady = true;
+            }
+            return r->Read(pixels, pixelsSize);
+        }
      */
 
     static native void nInit(); /*
@@ -61,6 +304,13 @@ public final class ImFontAtlas extends ImGuiStructDestroyable {
         return (intptr_t)(new ImFontConfig());
     */
 
+    @Override
+    public void destroy() {
+        discardParallelBuild();
+        SDF_ATLASES.remove(ptr);
+        super.destroy();
+    }
+
     public ImFont addFont(final ImFontConfig imFontConfig) {
         return new ImFont(nAddFont(imFontConfig.ptr));
     }
@@ -257,28 +507,50 @@ public final class ImFontAtlas extends ImGuiStructDestroyable {
     /**
      * Clear input data (all ImFontConfig structures including sizes, TTF data, glyph ranges, etc.) = all the data used to build the texture and fonts.
      */
-    public native void clearInputData(); /*
+    public void clearInputData() {
+        discardParallelBuild();
+        nClearInputData();
+    }
+
+    private native void nClearInputData(); /*
         IM_FONT_ATLAS->ClearInputData();
     */
 
     /**
      * Clear output texture data (CPU side). Saves RAM once the texture has been copied to graphics memory.
      */
-    public native void clearTexData(); /*
+    public void clearTexData() {
+        discardParallelBuild();
+        SDF_ATLASES.remove(ptr);
+        nClearTexData();
+    }
+
+    private native void nClearTexData(); /*
         IM_FONT_ATLAS->ClearTexData();
     */
 
     /**
      * Clear output font data (glyphs storage, UV coordinates).
      */
-    public native void clearFonts(); /*
+    public void clearFonts() {
+        discardParallelBuild();
+        nClearFonts();
+    }
+
+    private native void nClearFonts(); /*
         IM_FONT_ATLAS->ClearFonts();
     */
 
     /**
      * Clear all input and output.
      */
-    public native void clear(); /*
+    public void clear() {
+        discardParallelBuild();
+        SDF_ATLASES.remove(ptr);
+        nClear();
+    }
+
+    private native void nClear(); /*
         IM_FONT_ATLAS->Clear();
     */
 
@@ -290,11 +562,575 @@ public final class ImFontAtlas extends ImGuiStructDestroyable {
 
     /**
      * Build pixels data. This is called automatically for you by the GetTexData*** functions.
+     * After the {@link #buildAsync(Executor)} only packs glyphs rasterized by workers.
      */
-    public native boolean build(); /*
+    public boolean build() {
+        SDF_ATLASES.remove(ptr);
+        final Long buildPtr = PARALLEL_BUILDS.get(ptr);
+        if (buildPtr != null) {
+            if (!nIsParallelBuildRasterized(buildPtr)) {
+                throw new IllegalStateException("Font atlas is being built asynchronously");
+            }
+            PARALLEL_BUILDS.remove(ptr);
+            return nFinishParallelBuild(buildPtr);
+        }
+        return nBuild();
+    }
+
+    private native boolean nBuild(); /*
         return IM_FONT_ATLAS->Build();
     */
 
+    /**
+     * Builds the atlas with glyphs stored as signed distance fields instead of coverage.
+     * Such glyphs stay sharp when text is magnified (e.g. zoomed canvases), so one baked size could be used for all scales.
+     * Rendering requires a renderer which decodes the distance field, like ImGuiImplGl3 with the SDF fonts mode enabled.
+     * <p>
+     * To keep solid shapes intact, glyphs are rasterized without oversampling and glyph padding is increased to the double spread,
+     * so distance fields of neighbour glyphs don't overlap. Padding and oversampling of font configs are restored after the build.
+     * Glyph quads are extended by the spread to include the outer part of the field.
+     * <p>
+     * The atlas is built without baked lines and mouse cursors: {@link ImFontAtlasFlags#NoBakedLines} and {@link ImFontAtlasFlags#NoMouseCursors}
+     * are added to the atlas flags and stay there, since Dear ImGui reads them during every frame to decide how lines and cursors are drawn.
+     * Works with the alpha8 atlas data: RGBA32 data, if needed, should be retrieved after this call.
+     *
+     * @param spread distance in pixels at which the field reaches its limits, 4-8 for usual font sizes
+     * @return true if the atlas was built
+     */
+    public boolean buildSdf(final int spread) {
+        if (spread <= 0) {
+            throw new IllegalArgumentException("Spread must be positive: " + spread);
+        }
+        if (getLocked()) {
+            throw new IllegalStateException("Font atlas is locked");
+        }
+
+        discardParallelBuild();
+        final int texGlyphPadding = getTexGlyphPadding();
+        final int[] oversample = new int[nGetConfigDataSize() * 2];
+        nGetOversample(oversample);
+
+        addFlags(ImFontAtlasFlags.NoBakedLines | ImFontAtlasFlags.NoMouseCursors);
+        setTexGlyphPadding(Math.max(texGlyphPadding, spread * 2));
+        nDisableOversample();
+
+        SDF_ATLASES.remove(ptr);
+        try {
+            if (!nBuild()) {
+                return false;
+            }
+        } finally {
+            setTexGlyphPadding(texGlyphPadding);
+            nSetOversample(oversample);
+        }
+
+        final int[] rects = new int[nGetGlyphRectsCount() * 4];
+        nGetGlyphRects(rects);
+
+        final ImInt width = new ImInt();
+        final ImInt height = new ImInt();
+        final ByteBuffer pixels = getTexDataAsAlpha8(width, height);
+        new ImFontAtlasSdf().generate(pixels, width.get(), height.get(), rects, spread);
+
+        nExpandGlyphs(spread);
+        SDF_ATLASES.add(ptr);
+        return true;
+    }
+
+    /**
+     * Shows if the current texture data of the atlas holds signed distance fields, i.e. the atlas was built by the {@link #buildSdf(int)}
+     * and wasn't rebuilt, cleared or loaded since then. Renderers use it to choose how the atlas texture is decoded.
+     *
+     * @return true if the atlas was built by the {@link #buildSdf(int)}
+     */
+    public boolean isBuiltSdf() {
+        return SDF_ATLASES.contains(ptr);
+    }
+
+    private native int nGetConfigDataSize(); /*
+        return IM_FONT_ATLAS->ConfigData.Size;
+    */
+
+    private native void nGetOversample(int[] dst); /*
+        const ImFontAtlas* atlas = IM_FONT_ATLAS;
+        for (int i = 0; i < atlas->ConfigData.Size; i++) {
+            dst[i * 2] = atlas->ConfigData[i].OversampleH;
+            dst[i * 2 + 1] = atlas->ConfigData[i].OversampleV;
+        }
+    */
+
+    private native void nSetOversample(int[] src); /*
+        ImFontAtlas* atlas = IM_FONT_ATLAS;
+        for (int i = 0; i < atlas->ConfigData.Size; i++) {
+            atlas->ConfigData[i].OversampleH = src[i * 2];
+            atlas->ConfigData[i].OversampleV = src[i * 2 + 1];
+        }
+    */
+
+    private native void nDisableOversample(); /*
+        ImFontAtlas* atlas = IM_FONT_ATLAS;
+        for (int i = 0; i < atlas->ConfigData.Size; i++) {
+            atlas->ConfigData[i].OversampleH = 1;
+            atlas->ConfigData[i].OversampleV = 1;
+        }
+    */
+
+    private native int nGetGlyphRectsCount(); /*
+        const ImFontAtlas* atlas = IM_FONT_ATLAS;
+        int count = 0;
+        for (int i = 0; i < atlas->Fonts.Size; i++) {
+            const ImFont* font = atlas->Fonts[i];
+            for (int n = 0; n < font->Glyphs.Size; n++) {
+                if (font->Glyphs[n].Visible) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    */
+
+    private native void nGetGlyphRects(int[] rects); /*
+        const ImFontAtlas* atlas = IM_FONT_ATLAS;
+        int count = 0;
+        for (int i = 0; i < atlas->Fonts.Size; i++) {
+            const ImFont* font = atlas->Fonts[i];
+            for (int n = 0; n < font->Glyphs.Size; n++) {
+                const ImFontGlyph& glyph = font->Glyphs[n];
+                if (glyph.Visible) {
+                    rects[count * 4] = (int)(glyph.U0 * atlas->TexWidth + 0.5f);
+                    rects[count * 4 + 1] = (int)(glyph.V0 * atlas->TexHeight + 0.5f);
+                    rects[count * 4 + 2] = (int)(glyph.U1 * atlas->TexWidth + 0.5f);
+                    rects[count * 4 + 3] = (int)(glyph.V1 * atlas->TexHeight + 0.5f);
+                    count++;
+                }
+            }
+        }
+    */
+
+    private native void nExpandGlyphs(int spread); /*
+        ImFontAtlas* atlas = IM_FONT_ATLAS;
+        for (int i = 0; i < atlas->Fonts.Size; i++) {
+            ImFont* font = atlas->Fonts[i];
+            for (int n = 0; n < font->Glyphs.Size; n++) {
+                ImFontGlyph& glyph = font->Glyphs[n];
+                if (!glyph.Visible) {
+                    continue;
+                }
+                // Same clamping as done for the distance field, glyphs are rasterized without oversampling, so texels match pixels
+                const float left = ImMin((float)spread, glyph.U0 * atlas->TexWidth);
+                const float top = ImMin((float)spread, glyph.V0 * atlas->TexHeight);
+                const float right = ImMin((float)spread, atlas->TexWidth - glyph.U1 * atlas->TexWidth);
+                const float bottom = ImMin((float)spread, atlas->TexHeight - glyph.V1 * atlas->TexHeight);
+                glyph.X0 -= left;
+                glyph.Y0 -= top;
+                glyph.X1 += right;
+                glyph.Y1 += bottom;
+                glyph.U0 -= left * atlas->TexUvScale.x;
+                glyph.V0 -= top * atlas->TexUvScale.y;
+                glyph.U1 += right * atlas->TexUvScale.x;
+                glyph.V1 += bottom * atlas->TexUvScale.y;
+            }
+        }
+    */
+
+    /*JNI
+        // Parallel build rasterizes glyphs with its own copy of stb_truetype, which allocates with malloc() instead of ImGui::MemAlloc(),
+        // so worker threads don't touch the allocations counter of the current context
+        #include <vector>
+        #include <atomic>
+        #include <algorithm>
+        #define STBRP_STATIC
+        #define STB_RECT_PACK_IMPLEMENTATION
+        #include "imstb_rectpack.h"
+        #define STBTT_STATIC
+        #define STB_TRUETYPE_IMPLEMENTATION
+        #include "imstb_truetype.h"
+
+        #define PARALLEL_BUILD_TEX_HEIGHT_MAX (1024 * 32)
+
+        // Copy of the font source, so workers don't read the atlas, which could be modified while they are running
+        struct ParallelBuildSource {
+            const void* FontData;
+            int FontDataSize;
+            int FontNo;
+            float SizePixels;
+            int OversampleH;
+            int OversampleV;
+            float RasterizerMultiply;
+            stbtt_fontinfo FontInfo;
+            std::vector<int> Codepoints;
+
+            // Filled by the worker
+            std::vector<stbrp_rect> Sizes;
+            std::vector<bool> Rendered;
+            std::vector<stbtt_packedchar> PackedChars;
+            unsigned char* Pixels;
+            int PixelsWidth;
+            int Surface;
+        };
+
+        struct ParallelBuild {
+            int TexGlyphPadding;
+            std::vector<ParallelBuildSource> Sources;
+            std::atomic<int> Remaining;
+
+            ~ParallelBuild() {
+                for (size_t i = 0; i < Sources.size(); i++) {
+                    free(Sources[i].Pixels);
+                }
+            }
+        };
+
+        // Same heuristic as used by the stb_truetype builder of Dear ImGui
+        static int GetParallelBuildTexWidth(int surface) {
+            const int surfaceSqrt = (int)ImSqrt((float)surface) + 1;
+            return (surfaceSqrt >= 4096 * 0.7f) ? 4096 : (surfaceSqrt >= 2048 * 0.7f) ? 2048 : (surfaceSqrt >= 1024 * 0.7f) ? 1024 : 512;
+        }
+
+        static bool IsStbTruetypeBuilder(const ImFontAtlas* atlas) {
+            #ifdef IMGUI_ENABLE_FREETYPE
+            return atlas->FontBuilderIO == ImFontAtlasGetBuilderForStbTruetype();
+            #else
+            return atlas->FontBuilderIO == NULL || atlas->FontBuilderIO == ImFontAtlasGetBuilderForStbTruetype();
+            #endif
+        }
+
+        // Atlas input which affects rasterized glyphs should be the same as when the build was started
+        static bool MatchesParallelBuild(const ImFontAtlas* atlas, const ParallelBuild* build) {
+            if (!IsStbTruetypeBuilder(atlas) || atlas->TexGlyphPadding != build->TexGlyphPadding || atlas->ConfigData.Size != (int)build->Sources.size()) {
+                return false;
+            }
+            for (int i = 0; i < atlas->ConfigData.Size; i++) {
+                const ImFontConfig& cfg = atlas->ConfigData[i];
+                const ParallelBuildSource& src = build->Sources[i];
+                if (cfg.FontData != src.FontData || cfg.FontDataSize != src.FontDataSize || cfg.FontNo != src.FontNo || cfg.SizePixels != src.SizePixels
+                    || cfg.OversampleH != src.OversampleH || cfg.OversampleV != src.OversampleV || cfg.RasterizerMultiply != src.RasterizerMultiply
+                    || FindFontIndex(atlas, cfg.DstFont) < 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // Same glyphs selection as done by the stb_truetype builder: merged sources don't overwrite glyphs of previous sources
+        static ParallelBuild* BeginParallelBuild(ImFontAtlas* atlas) {
+            if (atlas->ConfigData.Size == 0 || !IsStbTruetypeBuilder(atlas)) {
+                return NULL;
+            }
+
+            ParallelBuild* build = new ParallelBuild();
+            build->TexGlyphPadding = atlas->TexGlyphPadding;
+            build->Sources.resize(atlas->ConfigData.Size);
+            build->Remaining = atlas->ConfigData.Size;
+
+            std::vector<std::vector<bool>> fontGlyphs(atlas->Fonts.Size);
+            for (int i = 0; i < atlas->ConfigData.Size; i++) {
+                const ImFontConfig& cfg = atlas->ConfigData[i];
+                ParallelBuildSource& src = build->Sources[i];
+                src.FontData = cfg.FontData;
+                src.FontDataSize = cfg.FontDataSize;
+                src.FontNo = cfg.FontNo;
+                src.SizePixels = cfg.SizePixels;
+                src.OversampleH = cfg.OversampleH;
+                src.OversampleV = cfg.OversampleV;
+                src.RasterizerMultiply = cfg.RasterizerMultiply;
+                src.Pixels = NULL;
+                src.PixelsWidth = 0;
+                src.Surface = 0;
+
+                const int fontIdx = FindFontIndex(atlas, cfg.DstFont);
+                const int fontOffset = cfg.FontData != NULL ? stbtt_GetFontOffsetForIndex((const unsigned char*)cfg.FontData, cfg.FontNo) : -1;
+                if (fontIdx < 0 || fontOffset < 0 || !stbtt_InitFont(&src.FontInfo, (const unsigned char*)cfg.FontData, fontOffset)) {
+                    delete build;
+                    return NULL;
+                }
+
+                std::vector<bool>& glyphs = fontGlyphs[fontIdx];
+                if (glyphs.empty()) {
+                    glyphs.resize(IM_UNICODE_CODEPOINT_MAX + 1);
+                }
+                const ImWchar* ranges = cfg.GlyphRanges != NULL ? cfg.GlyphRanges : atlas->GetGlyphRangesDefault();
+                for (const ImWchar* range = ranges; range[0] && range[1]; range += 2) {
+                    for (unsigned int codepoint = range[0]; codepoint <= range[1]; codepoint++) {
+                        if (glyphs[codepoint] || !stbtt_FindGlyphIndex(&src.FontInfo, codepoint)) {
+                            continue;
+                        }
+                        glyphs[codepoint] = true;
+                        src.Codepoints.push_back((int)codepoint);
+                    }
+                }
+                std::sort(src.Codepoints.begin(), src.Codepoints.end());
+            }
+            return build;
+        }
+
+        // Rasterizes glyphs of the source into its own texture, exactly as the stb_truetype builder does it into the atlas texture
+        static void RasterizeParallelBuildSource(ParallelBuild* build, int sourceIdx) {
+            ParallelBuildSource& src = build->Sources[sourceIdx];
+            const int count = (int)src.Codepoints.size();
+            const int padding = build->TexGlyphPadding;
+            const float scale = src.SizePixels > 0 ? stbtt_ScaleForPixelHeight(&src.FontInfo, src.SizePixels) : stbtt_ScaleForMappingEmToPixels(&src.FontInfo, -src.SizePixels);
+
+            src.Sizes.assign(count, stbrp_rect());
+            src.PackedChars.assign(count, stbtt_packedchar());
+            for (int i = 0; i < count; i++) {
+                int x0, y0, x1, y1;
+                const int glyph = stbtt_FindGlyphIndex(&src.FontInfo, src.Codepoints[i]);
+                stbtt_GetGlyphBitmapBoxSubpixel(&src.FontInfo, glyph, scale * src.OversampleH, scale * src.OversampleV, 0, 0, &x0, &y0, &x1, &y1);
+                src.Sizes[i].w = (stbrp_coord)(x1 - x0 + padding + src.OversampleH - 1);
+                src.Sizes[i].h = (stbrp_coord)(y1 - y0 + padding + src.OversampleV - 1);
+                src.Surface += src.Sizes[i].w * src.Sizes[i].h;
+            }
+
+            std::vector<stbrp_rect> rects(src.Sizes);
+            src.PixelsWidth = GetParallelBuildTexWidth(src.Surface);
+            stbtt_pack_context spc = {};
+            stbtt_PackBegin(&spc, NULL, src.PixelsWidth, PARALLEL_BUILD_TEX_HEIGHT_MAX, 0, padding, NULL);
+            if (count > 0) {
+                stbrp_pack_rects((stbrp_context*)spc.pack_info, rects.data(), count);
+            }
+
+            int height = 1;
+            src.Rendered.assign(count, false);
+            for (int i = 0; i < count; i++) {
+                if (rects[i].was_packed) {
+                    height = ImMax(height, rects[i].y + rects[i].h);
+                    src.Rendered[i] = rects[i].w != 0 && rects[i].h != 0;
+                }
+            }
+            src.Pixels = (unsigned char*)calloc((size_t)src.PixelsWidth * height, 1);
+            spc.pixels = src.Pixels;
+            spc.height = height;
+
+            stbtt_pack_range range = {};
+            range.font_size = src.SizePixels;
+            range.first_unicode_codepoint_in_range = 0;
+            range.array_of_unicode_codepoints = src.Codepoints.data();
+            range.num_chars = count;
+            range.chardata_for_range = src.PackedChars.data();
+            range.h_oversample = (unsigned char)src.OversampleH;
+            range.v_oversample = (unsigned char)src.OversampleV;
+            if (count > 0) {
+                stbtt_PackFontRangesRenderIntoRects(&spc, &src.FontInfo, &range, 1, rects.data());
+            }
+
+            if (src.RasterizerMultiply != 1.0f) {
+                unsigned char multiplyTable[256];
+                ImFontAtlasBuildMultiplyCalcLookupTable(multiplyTable, src.RasterizerMultiply);
+                for (int i = 0; i < count; i++) {
+                    if (rects[i].was_packed) {
+                        ImFontAtlasBuildMultiplyRectAlpha8(multiplyTable, src.Pixels, rects[i].x, rects[i].y, rects[i].w, rects[i].h, src.PixelsWidth);
+                    }
+                }
+            }
+            stbtt_PackEnd(&spc);
+        }
+
+        // Packs rasterized glyphs and custom rects into the atlas texture, then sets up fonts as the stb_truetype builder does it
+        static bool FinishParallelBuild(ImFontAtlas* atlas, ParallelBuild* build) {
+            ImFontAtlasBuildInit(atlas);
+
+            atlas->TexID = (ImTextureID)NULL;
+            atlas->TexWidth = atlas->TexHeight = 0;
+            atlas->TexUvScale = ImVec2(0.0f, 0.0f);
+            atlas->TexUvWhitePixel = ImVec2(0.0f, 0.0f);
+            atlas->ClearTexData();
+
+            int totalSurface = 0;
+            for (size_t i = 0; i < build->Sources.size(); i++) {
+                totalSurface += build->Sources[i].Surface;
+            }
+            atlas->TexWidth = atlas->TexDesiredWidth > 0 ? atlas->TexDesiredWidth : GetParallelBuildTexWidth(totalSurface);
+
+            std::vector<std::vector<stbrp_rect>> atlasRects(build->Sources.size());
+            stbtt_pack_context spc = {};
+            stbtt_PackBegin(&spc, NULL, atlas->TexWidth, PARALLEL_BUILD_TEX_HEIGHT_MAX, 0, atlas->TexGlyphPadding, NULL);
+            ImFontAtlasBuildPackCustomRects(atlas, spc.pack_info);
+            for (size_t i = 0; i < build->Sources.size(); i++) {
+                std::vector<stbrp_rect>& rects = atlasRects[i];
+                rects = build->Sources[i].Sizes;
+                if (!rects.empty()) {
+                    stbrp_pack_rects((stbrp_context*)spc.pack_info, rects.data(), (int)rects.size());
+                }
+                for (size_t n = 0; n < rects.size(); n++) {
+                    if (rects[n].was_packed) {
+                        atlas->TexHeight = ImMax(atlas->TexHeight, rects[n].y + rects[n].h);
+                    }
+                }
+            }
+            stbtt_PackEnd(&spc);
+
+            atlas->TexHeight = (atlas->Flags & ImFontAtlasFlags_NoPowerOfTwoHeight) ? (atlas->TexHeight + 1) : ImUpperPowerOfTwo(atlas->TexHeight);
+            atlas->TexUvScale = ImVec2(1.0f / atlas->TexWidth, 1.0f / atlas->TexHeight);
+            atlas->TexPixelsAlpha8 = (unsigned char*)IM_ALLOC(atlas->TexWidth * atlas->TexHeight);
+            memset(atlas->TexPixelsAlpha8, 0, atlas->TexWidth * atlas->TexHeight);
+
+            // Glyphs are moved from source textures to the atlas, padding stays on the left and the top as after the stb_truetype rendering
+            const int padding = atlas->TexGlyphPadding;
+            for (size_t i = 0; i < build->Sources.size(); i++) {
+                ParallelBuildSource& src = build->Sources[i];
+                for (size_t n = 0; n < src.PackedChars.size(); n++) {
+                    stbtt_packedchar& pc = src.PackedChars[n];
+                    const stbrp_rect& r = atlasRects[i][n];
+                    if (!src.Rendered[n] || !r.was_packed) {
+                        pc = stbtt_packedchar();
+                        continue;
+                    }
+                    const int w = pc.x1 - pc.x0;
+                    const int h = pc.y1 - pc.y0;
+                    for (int y = 0; y < h; y++) {
+                        memcpy(atlas->TexPixelsAlpha8 + (size_t)(r.y + padding + y) * atlas->TexWidth + r.x + padding,
+                            src.Pixels + (size_t)(pc.y0 + y) * src.PixelsWidth + pc.x0, w);
+                    }
+                    pc.x0 = (unsigned short)(r.x + padding);
+                    pc.y0 = (unsigned short)(r.y + padding);
+                    pc.x1 = (unsigned short)(pc.x0 + w);
+                    pc.y1 = (unsigned short)(pc.y0 + h);
+                }
+            }
+
+            for (size_t i = 0; i < build->Sources.size(); i++) {
+                ImFontConfig& cfg = atlas->ConfigData[(int)i];
+                ParallelBuildSource& src = build->Sources[i];
+                ImFont* dstFont = cfg.DstFont;
+
+                const float fontScale = stbtt_ScaleForPixelHeight(&src.FontInfo, cfg.SizePixels);
+                int unscaledAscent, unscaledDescent, unscaledLineGap;
+                stbtt_GetFontVMetrics(&src.FontInfo, &unscaledAscent, &unscaledDescent, &unscaledLineGap);
+                const float ascent = ImFloor(unscaledAscent * fontScale + ((unscaledAscent > 0.0f) ? +1 : -1));
+                const float descent = ImFloor(unscaledDescent * fontScale + ((unscaledDescent > 0.0f) ? +1 : -1));
+                ImFontAtlasBuildSetupFont(atlas, dstFont, &cfg, ascent, descent);
+
+                const float fontOffX = cfg.GlyphOffset.x;
+                const float fontOffY = cfg.GlyphOffset.y + IM_ROUND(dstFont->Ascent);
+                for (size_t n = 0; n < src.Codepoints.size(); n++) {
+                    stbtt_aligned_quad q;
+                    float unusedX = 0.0f, unusedY = 0.0f;
+                    stbtt_GetPackedQuad(src.PackedChars.data(), atlas->TexWidth, atlas->TexHeight, (int)n, &unusedX, &unusedY, &q, 0);
+                    dstFont->AddGlyph(&cfg, (ImWchar)src.Codepoints[n], q.x0 + fontOffX, q.y0 + fontOffY, q.x1 + fontOffX, q.y1 + fontOffY,
+                        q.s0, q.t0, q.s1, q.t1, src.PackedChars[n].xadvance);
+                }
+            }
+
+            ImFontAtlasBuildFinish(atlas);
+            return true;
+        }
+     */
+
+    /**
+     * Rasterizes glyphs on threads of the {@link ForkJoinPool#commonPool()}.
+     *
+     * @see #buildAsync(Executor)
+     */
+    public CompletableFuture<ImFontAtlas> buildAsync() {
+        return buildAsync(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Rasterizes glyphs of every font source (every added font, merged ones included) as a separate task on the provided executor,
+     * so sources are rasterized in parallel and the calling thread isn't blocked. When the future completes, the {@link #build()}
+     * should be called on the thread which owns the Dear ImGui context: it only packs rasterized glyphs into the texture and copies them there.
+     * The result is the same as the one of the {@link #build()} without the preceding async call.
+     * <p>
+     * Fonts of the atlas shouldn't be changed until the {@link #build()} is called. The atlas can't be built, cleared or destroyed
+     * until the future completes: such calls throw an {@link IllegalStateException}.
+     * Workers don't use Dear ImGui allocations, so the context can be used while glyphs are rasterized.
+     * <p>
+     * The atlas shouldn't be used by Dear ImGui while it's being built. Build a separate staging atlas instead,
+     * while the current one (e.g. with the default font only) keeps being rendered:
+     * <pre>
+     *     stagingFonts.buildAsync().thenRun(() -&gt; fontsRasterized = true);
+     *     ...
+     *     // On the thread which owns the Dear ImGui context, outside of the frame
+     *     if (fontsRasterized) {
+     *         stagingFonts.build();
+     *         final ImFontAtlas oldFonts = io.getFonts();
+     *         io.setFonts(stagingFonts);
+     *         oldFonts.destroy();
+     *         imGuiGl3.updateFontsTexture();
+     *     }
+     * </pre>
+     * Glyphs are rasterized in parallel only by the stb_truetype font builder. With other builders (e.g. FreeType) the future completes
+     * immediately and the whole rasterization is done by the {@link #build()}.
+     *
+     * @param executor executor to rasterize font sources on
+     * @return future completed with this atlas when all glyphs are rasterized
+     */
+    public CompletableFuture<ImFontAtlas> buildAsync(final Executor executor) {
+        if (getLocked()) {
+            throw new IllegalStateException("Font atlas is locked");
+        }
+        discardParallelBuild();
+
+        final long buildPtr = nBeginParallelBuild();
+        if (buildPtr == 0) {
+            return CompletableFuture.completedFuture(this);
+        }
+        PARALLEL_BUILDS.put(ptr, buildPtr);
+
+        final int sourceCount = nGetParallelBuildSourceCount(buildPtr);
+        final CompletableFuture<?>[] tasks = new CompletableFuture<?>[sourceCount];
+        for (int i = 0; i < sourceCount; i++) {
+            final int sourceIdx = i;
+            tasks[i] = CompletableFuture.runAsync(() -> nRasterizeParallelBuildSource(buildPtr, sourceIdx), executor);
+        }
+        return CompletableFuture.allOf(tasks).thenApply(v -> this);
+    }
+
+    /**
+     * Packs glyphs rasterized by the {@link #buildAsync(Executor)}, since texture data getters would rasterize them again otherwise.
+     */
+    private void finishParallelBuild() {
+        if (PARALLEL_BUILDS.containsKey(ptr)) {
+            build();
+        }
+    }
+
+    /**
+     * Frees the result of the {@link #buildAsync(Executor)}, which wasn't used by the {@link #build()}.
+     */
+    private void discardParallelBuild() {
+        final Long buildPtr = PARALLEL_BUILDS.get(ptr);
+        if (buildPtr == null) {
+            return;
+        }
+        if (!nIsParallelBuildRasterized(buildPtr)) {
+            throw new IllegalStateException("Font atlas is being built asynchronously");
+        }
+        PARALLEL_BUILDS.remove(ptr);
+        nFreeParallelBuild(buildPtr);
+    }
+
+    private native long nBeginParallelBuild(); /*
+        return (intptr_t)BeginParallelBuild(IM_FONT_ATLAS);
+    */
+
+    private static native int nGetParallelBuildSourceCount(long buildPtr); /*
+        return (jint)((ParallelBuild*)buildPtr)->Sources.size();
+    */
+
+    private static native void nRasterizeParallelBuildSource(long buildPtr, int sourceIdx); /*
+        ParallelBuild* build = (ParallelBuild*)buildPtr;
+        RasterizeParallelBuildSource(build, sourceIdx);
+        build->Remaining--;
+    */
+
+    private static native boolean nIsParallelBuildRasterized(long buildPtr); /*
+        return ((ParallelBuild*)buildPtr)->Remaining == 0;
+    */
+
+    private native boolean nFinishParallelBuild(long buildPtr); /*
+        ImFontAtlas* atlas = IM_FONT_ATLAS;
+        ParallelBuild* build = (ParallelBuild*)buildPtr;
+        const bool built = MatchesParallelBuild(atlas, build) ? FinishParallelBuild(atlas, build) : atlas->Build();
+        delete build;
+        return built;
+    */
+
+    private static native void nFreeParallelBuild(long buildPtr); /*
+        delete (ParallelBuild*)buildPtr;
+    */
+
     /**
      * 1 byte-per-pixel
      */
@@ -306,6 +1142,7 @@ public final class ImFontAtlas extends ImGuiStructDestroyable {
      * 1 byte-per-pixel
      */
     public ByteBuffer getTexDataAsAlpha8(final ImInt outWidth, final ImInt outHeight, final ImInt outBytesPerPixel) {
+        finishParallelBuild();
         getTexDataAsAlpha8(outWidth.getData(), outHeight.getData(), outBytesPerPixel.getData());
         return alpha8pixels;
     }
@@ -343,6 +1180,7 @@ public final class ImFontAtlas extends ImGuiStructDestroyable {
      * 4 bytes-per-pixel
      */
     public ByteBuffer getTexDataAsRGBA32(final ImInt outWidth, final ImInt outHeight, final ImInt outBytesPerPixel) {
+        finishParallelBuild();
         nGetTexDataAsRGBA32(outWidth.getData(), outHeight.getData(), outBytesPerPixel.getData());
         return rgba32pixels;
     }
@@ -373,10 +1211,190 @@ public final class ImFontAtlas extends ImGuiStructDestroyable {
         return IM_FONT_ATLAS->IsBuilt();
     */
 
+    /**
+     * @return amount of fonts added to the atlas
+     */
+    public native int getFontsSize(); /*
+        return IM_FONT_ATLAS->Fonts.Size;
+    */
+
+    /**
+     * @param idx index of the font in the order of addition
+     * @return font of the atlas
+     */
+    public ImFont getFont(final int idx) {
+        if (idx < 0 || idx >= getFontsSize()) {
+            throw new IndexOutOfBoundsException("Index: " + idx + ", Size: " + getFontsSize());
+        }
+        return new ImFont(nGetFont(idx));
+    }
+
+    private native long nGetFont(int idx); /*
+        return (intptr_t)IM_FONT_ATLAS->Fonts[idx];
+    */
+
     public native void setTexID(int textureID); /*
         IM_FONT_ATLAS->SetTexID((ImTextureID)(intptr_t)textureID);
     */
 
+    /**
+     * Hash of the atlas build input: font builder (stb_truetype or FreeType), font data, {@link ImFontConfig} fields of every added font,
+     * glyph ranges, registered custom rects and atlas flags. Atlases with the same key produce the same build result.
+     * Custom font builders are identified by their address, so atlases built by them get a new key in every process.
+     * Should be called before the atlas is built, since the build registers its own custom rects.
+     *
+     * @return 64-bit hash of the atlas build input
+     */
+    public native long getBuildKey(); /*
+        const ImFontAtlas* atlas = IM_FONT_ATLAS;
+        const int version = IMGUI_VERSION_NUM;
+        uint64_t hash = JNI_HASH_SEED;
+        hash = Jni::HashData(hash, &version, sizeof(int));
+        hash = Jni::HashData(hash, &atlas->Flags, sizeof(ImFontAtlasFlags));
+        hash = Jni::HashData(hash, &atlas->TexDesiredWidth, sizeof(int));
+        hash = Jni::HashData(hash, &atlas->TexGlyphPadding, sizeof(int));
+        hash = Jni::HashData(hash, &atlas->FontBuilderFlags, sizeof(unsigned int));
+
+        // Default builder is chosen at compile time, stb_truetype and FreeType rasterize glyphs differently
+        #ifdef IMGUI_ENABLE_FREETYPE
+        const ImFontBuilderIO* defaultBuilder = ImGuiFreeType::GetBuilderForFreeType();
+        const int defaultBuilderId = 2;
+        #else
+        const ImFontBuilderIO* defaultBuilder = ImFontAtlasGetBuilderForStbTruetype();
+        const int defaultBuilderId = 1;
+        #endif
+        if (atlas->FontBuilderIO == NULL || atlas->FontBuilderIO == defaultBuilder) {
+            hash = Jni::HashData(hash, &defaultBuilderId, sizeof(int));
+        } else {
+            const uintptr_t customBuilder = (uintptr_t)atlas->FontBuilderIO;
+            hash = Jni::HashData(hash, &customBuilder, sizeof(uintptr_t));
+        }
+
+        for (int i = 0; i < atlas->ConfigData.Size; i++) {
+            const ImFontConfig& cfg = atlas->ConfigData[i];
+            const int fontIdx = FindFontIndex(atlas, cfg.DstFont);
+            hash = Jni::HashData(hash, cfg.FontData, cfg.FontDataSize);
+            hash = Jni::HashData(hash, &cfg.FontDataSize, sizeof(int));
+            hash = Jni::HashData(hash, &cfg.FontNo, sizeof(int));
+            hash = Jni::HashData(hash, &cfg.SizePixels, sizeof(float));
+            hash = Jni::HashData(hash, &cfg.OversampleH, sizeof(int));
+            hash = Jni::HashData(hash, &cfg.OversampleV, sizeof(int));
+            hash = Jni::HashData(hash, &cfg.PixelSnapH, sizeof(bool));
+            hash = Jni::HashData(hash, &cfg.GlyphExtraSpacing, sizeof(ImVec2));
+            hash = Jni::HashData(hash, &cfg.GlyphOffset, sizeof(ImVec2));
+            hash = Jni::HashData(hash, &cfg.GlyphMinAdvanceX, sizeof(float));
+            hash = Jni::HashData(hash, &cfg.GlyphMaxAdvanceX, sizeof(float));
+            hash = Jni::HashData(hash, &cfg.MergeMode, sizeof(bool));
+            hash = Jni::HashData(hash, &cfg.FontBuilderFlags, sizeof(unsigned int));
+            hash = Jni::HashData(hash, &cfg.RasterizerMultiply, sizeof(float));
+            hash = Jni::HashData(hash, &cfg.EllipsisChar, sizeof(ImWchar));
+            hash = Jni::HashData(hash, &fontIdx, sizeof(int));
+            if (cfg.GlyphRanges != NULL) {
+                for (const ImWchar* range = cfg.GlyphRanges; *range != 0; range++) {
+                    hash = Jni::HashData(hash, range, sizeof(ImWchar));
+                }
+            }
+        }
+
+        for (int i = 0; i < atlas->CustomRects.Size; i++) {
+            const ImFontAtlasCustomRect& rect = atlas->CustomRects[i];
+            const int fontIdx = FindFontIndex(atlas, rect.Font);
+            hash = Jni::HashData(hash, &rect.Width, sizeof(unsigned short));
+            hash = Jni::HashData(hash, &rect.Height, sizeof(unsigned short));
+            hash = Jni::HashData(hash, &rect.GlyphID, sizeof(unsigned int));
+            hash = Jni::HashData(hash, &rect.GlyphAdvanceX, sizeof(float));
+            hash = Jni::HashData(hash, &rect.GlyphOffset, sizeof(ImVec2));
+            hash = Jni::HashData(hash, &fontIdx, sizeof(int));
+        }
+
+        return (jlong)hash;
+    */
+
+    /**
+     * @return size of the data written by {@link #saveBuildData(ByteBuffer)}
+     */
+    public int getBuildDataSize() {
+        if (!isBuilt()) {
+            throw new IllegalStateException("Font atlas is not built");
+        }
+        if (nGetBuildDataBytesPerPixel() == 0) {
+            throw new IllegalStateException("Font atlas has no texture data");
+        }
+        return nGetBuildDataSize();
+    }
+
+    private native int nGetBuildDataBytesPerPixel(); /*
+        return GetBuildDataBytesPerPixel(IM_FONT_ATLAS);
+    */
+
+    private native int nGetBuildDataSize(); /*
+        FontAtlasWriter writer = {NULL, 0};
+        WriteFontAtlasBuildData(IM_FONT_ATLAS, &writer);
+        return (jint)writer.Size;
+    */
+
+    /**
+     * Writes the result of the atlas build: texture pixels, glyphs and metrics of every font and custom rects.
+     * Pixels are stored as alpha8, or as RGBA32 when the atlas uses colors (see {@link #getTexPixelsUseColors()}),
+     * so colored glyphs rasterized by FreeType are kept.
+     * Data is written from the buffer position, which is moved by the amount of written bytes.
+     * The data is only valid for the same native library and the same fonts setup, see {@link #getBuildKey()}.
+     * <p>
+     * Pixels of custom rects are stored as they are in the texture data.
+     *
+     * @param dst direct buffer to write data to, should have at least {@link #getBuildDataSize()} bytes remaining
+     */
+    public void saveBuildData(final ByteBuffer dst) {
+        if (!dst.isDirect()) {
+            throw new IllegalArgumentException("Buffer must be direct");
+        }
+        final int size = getBuildDataSize();
+        if (dst.remaining() < size) {
+            throw new IllegalArgumentException("Buffer is too small to fit build data: " + dst.remaining() + " < " + size);
+        }
+        nSaveBuildData(dst, dst.position());
+        dst.position(dst.position() + size);
+    }
+
+    private native void nSaveBuildData(ByteBuffer dst, int offset); /*
+        FontAtlasWriter writer = {dst + offset, 0};
+        WriteFontAtlasBuildData(IM_FONT_ATLAS, &writer);
+    */
+
+    /**
+     * Restores the atlas from the data written by {@link #saveBuildData(ByteBuffer)}, without rasterizing fonts.
+     * Fonts should be added to the atlas in the same way they were added when the data was saved.
+     * After the successful call the atlas is built and its texture data could be retrieved as usual.
+     * <p>
+     * Data is read from the buffer position to its limit. The atlas is not modified when the data doesn't match it.
+     *
+     * @param src direct buffer to read data from
+     * @return true if the atlas was restored, false if the data is corrupted or doesn't match the atlas
+     */
+    public boolean loadBuildData(final ByteBuffer src) {
+        if (!src.isDirect()) {
+            throw new IllegalArgumentException("Buffer must be direct");
+        }
+        if (getLocked()) {
+            throw new IllegalStateException("Font atlas is locked");
+        }
+        discardParallelBuild();
+        if (!nLoadBuildData(src, src.position(), src.remaining())) {
+            return false;
+        }
+        SDF_ATLASES.remove(ptr);
+        return true;
+    }
+
+    private native boolean nLoadBuildData(ByteBuffer src, int offset, int size); /*
+        FontAtlasReader validator = {src + offset, (size_t)size, 0};
+        if (!ReadFontAtlasBuildData(IM_FONT_ATLAS, &validator, false)) {
+            return false;
+        }
+        FontAtlasReader reader = {src + offset, (size_t)size, 0};
+        return ReadFontAtlasBuildData(IM_FONT_ATLAS, &reader, true);
+    */
+
     //-------------------------------------------
     // Glyph Ranges
     //-------------------------------------------
@@ -577,4 +1595,33 @@ public final class ImFontAtlas extends ImGuiStructDestroyable {
     public native void setTexGlyphPadding(int texGlyphPadding); /*
         IM_FONT_ATLAS->TexGlyphPadding = texGlyphPadding;
     */
+
+    /**
+     * Tell whether our texture data is known to use colors (rather than just alpha channel), in order to help backend select a format.
+     */
+    public native boolean getTexPixelsUseColors(); /*
+        return IM_FONT_ATLAS->TexPixelsUseColors;
+    */
+
+    /**
+     * Tell whether our texture data is known to use colors (rather than just alpha channel), in order to help backend select a format.
+     * Set it manually, when colored pixels are written into custom rects.
+     */
+    public native void setTexPixelsUseColors(boolean texPixelsUseColors); /*
+        IM_FONT_ATLAS->TexPixelsUseColors = texPixelsUseColors;
+    */
+
+    /**
+     * Texture width calculated during Build().
+     */
+    public native int getTexWidth(); /*
+        return IM_FONT_ATLAS->TexWidth;
+    */
+
+    /**
+     * Texture height calculated during Build().
+     */
+    public native int getTexHeight(); /*
+        return IM_FONT_ATLAS->TexHeight;
+    */
 }
@@ -0,0 +1,165 @@
+package imgui;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * On-disk cache of the {@link ImFontAtlas} build result. Allows to skip fonts rasterization on startup,
+ * which is noticeable for large fonts or wide glyph ranges (like CJK).
+ * <p>
+ * Cache files are named by the {@link ImFontAtlas#getBuildKey()}, so any change of the fonts setup results in a new file.
+ * Files are read into a direct buffer and written through a temporary file, which is atomically moved to its place.
+ * Files aren't kept open or mapped, so other processes could replace them at any time (Windows doesn't allow to replace a mapped file).
+ * Write failures are ignored, since the cache is only an optimization: the atlas is rebuilt on the next start.
+ * <p>
+ * Usage:
+ * <pre>
+ *     final ImFontAtlas fonts = ImGui.getIO().getFonts();
+ *     fonts.addFontFromFileTTF("font.ttf", 16);
+ *     new ImFontAtlasCache(Paths.get("cache")).build(fonts);
+ * </pre>
+ * Pixels of custom rects are stored with the atlas. If they depend on anything but the build key, they should be rendered again after the load.
+ */
+public final class ImFontAtlasCache {
+    private static final long MAGIC = 0x494d47554941544cL; // "IMGUIATL"
+    private static final int HEADER_SIZE = Long.BYTES * 2;
+
+    private final Path directory;
+
+    /**
+     * @param directory directory to store cache files in, created if it doesn't exist
+     */
+    public ImFontAtlasCache(final Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Builds the atlas by loading it from the cache, or rasterizes it and stores the result when there is no cache yet.
+     * Should be called instead of the {@link ImFontAtlas#build()}, after all fonts are added.
+     *
+     * @param atlas atlas to build
+     * @return true if the atlas was loaded from the cache
+     * @throws IllegalStateException if the atlas wasn't in the cache and failed to build
+     */
+    public boolean build(final ImFontAtlas atlas) {
+        return build(new CachedAtlas() {
+            @Override
+            public long getBuildKey() {
+                return atlas.getBuildKey();
+            }
+
+            @Override
+            public boolean build() {
+                return atlas.build();
+            }
+
+            @Override
+            public int getBuildDataSize() {
+                return atlas.getBuildDataSize();
+            }
+
+            @Override
+            public void saveBuildData(final ByteBuffer dst) {
+                atlas.saveBuildData(dst);
+            }
+
+            @Override
+            public boolean loadBuildData(final ByteBuffer src) {
+                return atlas.loadBuildData(src);
+            }
+        });
+    }
+
+    boolean build(final CachedAtlas atlas) {
+        final long key = atlas.getBuildKey();
+        final Path file = getCacheFile(key);
+
+        if (Files.isRegularFile(file) && load(atlas, file, key)) {
+            return true;
+        }
+
+        if (!atlas.build()) {
+            throw new IllegalStateException("Failed to build font atlas");
+        }
+        save(atlas, file, key);
+        return false;
+    }
+
+    /**
+     * @return path to the cache file for the atlas with the provided build key
+     */
+    public Path getCacheFile(final long key) {
+        return directory.resolve(String.format("atlas-%016x.bin", key));
+    }
+
+    private static boolean load(final CachedAtlas atlas, final Path file, final long key) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE || channel.size() > Integer.MAX_VALUE) {
+                return false;
+            }
+
+            final ByteBuffer data = ByteBuffer.allocateDirect((int) channel.size()).order(ByteOrder.nativeOrder());
+            while (data.hasRemaining()) {
+                if (channel.read(data) == -1) {
+                    return false;
+                }
+            }
+            data.flip();
+
+            if (data.getLong() != MAGIC || data.getLong() != key) {
+                return false;
+            }
+
+            return atlas.loadBuildData(data);
+        } catch (IOException e) {
+            // Unreadable cache is the same as no cache: the atlas will be rebuilt and the file rewritten
+            return false;
+        }
+    }
+
+    private void save(final CachedAtlas atlas, final Path file, final long key) {
+        final ByteBuffer data = ByteBuffer.allocateDirect(HEADER_SIZE + atlas.getBuildDataSize()).order(ByteOrder.nativeOrder());
+        data.putLong(MAGIC);
+        data.putLong(key);
+        atlas.saveBuildData(data);
+        data.flip();
+
+        try {
+            Files.createDirectories(directory);
+            final Path tmpFile = Files.createTempFile(directory, "atlas-", ".tmp");
+            try {
+                try (FileChannel channel = FileChannel.open(tmpFile, StandardOpenOption.WRITE)) {
+                    while (data.hasRemaining()) {
+                        channel.write(data);
+                    }
+                }
+                Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmpFile);
+            }
+        } catch (IOException ignored) {
+            // Atlas will be rasterized again on the next start
+        }
+    }
+
+    /**
+     * Operations of the {@link ImFontAtlas} used by the cache.
+     */
+    interface CachedAtlas {
+        long getBuildKey();
+
+        boolean build();
+
+        int getBuildDataSize();
+
+        void saveBuildData(ByteBuffer dst);
+
+        boolean loadBuildData(ByteBuffer src);
+    }
+}
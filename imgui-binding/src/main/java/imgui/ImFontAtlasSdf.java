@@ -0,0 +1,148 @@
+package imgui;
+
+import java.nio.ByteBuffer;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Converts glyph bitmaps of the alpha8 atlas into signed distance fields, see {@link ImFontAtlas#buildSdf(int)}.
+ * <p>
+ * Distances are calculated with the exact euclidean distance transform (Felzenszwalb and Huttenlocher) separately for every glyph,
+ * inside of the glyph rect extended by the spread. Resulting value is 0.5 on the glyph edge, grows to 1 inside and falls to 0 outside,
+ * reaching the limits at the spread distance. Anti-aliased edge pixels keep their coverage as the sub-pixel distance.
+ */
+final class ImFontAtlasSdf {
+    private static final float INF = 1e20f;
+    private static final int EDGE_VALUE = 128;
+
+    private float[] insideDist = new float[0];
+    private float[] outsideDist = new float[0];
+
+    // Buffers of the 1D distance transform
+    private float[] f = new float[0];
+    private float[] d = new float[0];
+    private float[] z = new float[0];
+    private int[] v = new int[0];
+
+    /**
+     * @param pixels alpha8 atlas pixels, modified in place
+     * @param rects  glyph bitmap rects: x0, y0, x1, y1 (exclusive) of every glyph, extended by the spread during conversion
+     */
+    void generate(final ByteBuffer pixels, final int texWidth, final int texHeight, final int[] rects, final int spread) {
+        final Set<Long> converted = new HashSet<>();
+        for (int i = 0; i + 3 < rects.length; i += 4) {
+            // Glyphs could share the same bitmap, it should be converted only once
+            if (!converted.add(((long) rects[i] << 32) | rects[i + 1])) {
+                continue;
+            }
+
+            final int x0 = Math.max(rects[i] - spread, 0);
+            final int y0 = Math.max(rects[i + 1] - spread, 0);
+            final int x1 = Math.min(rects[i + 2] + spread, texWidth);
+            final int y1 = Math.min(rects[i + 3] + spread, texHeight);
+            if (x1 > x0 && y1 > y0) {
+                generateRect(pixels, texWidth, x0, y0, x1 - x0, y1 - y0, spread);
+            }
+        }
+    }
+
+    private void generateRect(final ByteBuffer pixels, final int texWidth, final int x0, final int y0, final int w, final int h, final int spread) {
+        ensureCapacity(w, h);
+
+        for (int y = 0; y < h; y++) {
+            for (int x = 0; x < w; x++) {
+                final boolean inside = (pixels.get((y0 + y) * texWidth + x0 + x) & 0xFF) >= EDGE_VALUE;
+                insideDist[y * w + x] = inside ? 0 : INF;
+                outsideDist[y * w + x] = inside ? INF : 0;
+            }
+        }
+
+        transform(insideDist, w, h);
+        transform(outsideDist, w, h);
+
+        final float scale = 0.5f / spread;
+        for (int y = 0; y < h; y++) {
+            for (int x = 0; x < w; x++) {
+                final int idx = (y0 + y) * texWidth + x0 + x;
+                final int coverage = pixels.get(idx) & 0xFF;
+
+                final float dist;
+                if (coverage > 0 && coverage < 255) {
+                    dist = coverage / 255f - 0.5f;
+                } else if (coverage >= EDGE_VALUE) {
+                    dist = (float) Math.sqrt(outsideDist[y * w + x]) - 0.5f;
+                } else {
+                    dist = 0.5f - (float) Math.sqrt(insideDist[y * w + x]);
+                }
+
+                final float value = Math.max(0f, Math.min(1f, 0.5f + dist * scale));
+                pixels.put(idx, (byte) Math.round(value * 255));
+            }
+        }
+    }
+
+    private void ensureCapacity(final int w, final int h) {
+        if (insideDist.length < w * h) {
+            insideDist = new float[w * h];
+            outsideDist = new float[w * h];
+        }
+        final int n = Math.max(w, h);
+        if (f.length < n) {
+            f = new float[n];
+            d = new float[n];
+            z = new float[n + 1];
+            v = new int[n];
+        }
+    }
+
+    /**
+     * Squared distance transform of the grid: columns first, then rows.
+     */
+    private void transform(final float[] grid, final int w, final int h) {
+        for (int x = 0; x < w; x++) {
+            for (int y = 0; y < h; y++) {
+                f[y] = grid[y * w + x];
+            }
+            transform1d(h);
+            for (int y = 0; y < h; y++) {
+                grid[y * w + x] = d[y];
+            }
+        }
+        for (int y = 0; y < h; y++) {
+            System.arraycopy(grid, y * w, f, 0, w);
+            transform1d(w);
+            System.arraycopy(d, 0, grid, y * w, w);
+        }
+    }
+
+    /**
+     * 1D squared distance transform of the sampled function: lower envelope of parabolas rooted at every sample.
+     */
+    private void transform1d(final int n) {
+        int k = 0;
+        v[0] = 0;
+        z[0] = -INF;
+        z[1] = INF;
+
+        for (int q = 1; q < n; q++) {
+            float s = ((f[q] + q * q) - (f[v[k]] + v[k] * v[k])) / (2 * q - 2 * v[k]);
+            while (s <= z[k]) {
+                k--;
+                s = ((f[q] + q * q) - (f[v[k]] + v[k] * v[k])) / (2 * q - 2 * v[k]);
+            }
+            k++;
+            v[k] = q;
+            z[k] = s;
+            z[k + 1] = INF;
+        }
+
+        k = 0;
+        for (int q = 0; q < n; q++) {
+            while (z[k + 1] < q) {
+                k++;
+            }
+            final float dq = q - v[k];
+            d[q] = dq * dq + f[v[k]];
+        }
+    }
+}
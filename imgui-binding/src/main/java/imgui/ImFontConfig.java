@@ -2,6 +2,8 @@ package imgui;
 
 import imgui.binding.ImGuiStructDestroyable;
 
+import java.nio.FloatBuffer;
+
 public final class ImFontConfig extends ImGuiStructDestroyable {
     private short[] glyphRanges;
 
@@ -177,6 +179,34 @@ public final class ImFontConfig extends ImGuiStructDestroyable {
         Jni::ImVec2Cpy(env, &IM_FONT_CONFIG->GlyphExtraSpacing, dstImVec2);
     */
 
+    /**
+     * Extra spacing (in pixels) between glyphs. Only X axis is supported for now.
+     * <p>
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public void getGlyphExtraSpacing(final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetGlyphExtraSpacing(dst, offset);
+    }
+
+    private native void nGetGlyphExtraSpacing(float[] dst, int offset); /*
+        Jni::ImVec2Cpy(&IM_FONT_CONFIG->GlyphExtraSpacing, dst + offset);
+    */
+
+    /**
+     * Extra spacing (in pixels) between glyphs. Only X axis is supported for now.
+     * <p>
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public void getGlyphExtraSpacing(final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetGlyphExtraSpacing(dst, offset);
+    }
+
+    private native void nGetGlyphExtraSpacing(FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(&IM_FONT_CONFIG->GlyphExtraSpacing, dst + offset);
+    */
+
     /**
      * Extra spacing (in pixels) between glyphs. Only X axis is supported for now.
      */
@@ -215,6 +245,34 @@ public final class ImFontConfig extends ImGuiStructDestroyable {
         Jni::ImVec2Cpy(env, &IM_FONT_CONFIG->GlyphOffset, dstImVec2);
     */
 
+    /**
+     * Offset all glyphs from this font input.
+     * <p>
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public void getGlyphOffset(final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetGlyphOffset(dst, offset);
+    }
+
+    private native void nGetGlyphOffset(float[] dst, int offset); /*
+        Jni::ImVec2Cpy(&IM_FONT_CONFIG->GlyphOffset, dst + offset);
+    */
+
+    /**
+     * Offset all glyphs from this font input.
+     * <p>
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public void getGlyphOffset(final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetGlyphOffset(dst, offset);
+    }
+
+    private native void nGetGlyphOffset(FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(&IM_FONT_CONFIG->GlyphOffset, dst + offset);
+    */
+
     /**
      * Offset all glyphs from this font input.
      */
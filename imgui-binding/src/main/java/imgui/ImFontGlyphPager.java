@@ -0,0 +1,114 @@
+package imgui;
+
+/**
+ * Helper to bake only the glyphs which are actually shown, instead of the whole declared glyph ranges.
+ * Useful for ranges like {@link ImFontAtlas#getGlyphRangesChineseFull()}, which contain tens of thousands of glyphs,
+ * while an application usually renders a few hundred of them.
+ * <p>
+ * The atlas starts with the initial ranges only. Text is passed to the {@link #requestText(String)} before it's rendered.
+ * Characters from the declared ranges, which are not baked yet, become pending. Since the atlas can't be modified during the frame,
+ * pending glyphs are baked between frames: the font is re-added with {@link #buildRanges()} and the atlas is rebuilt.
+ * Every step rebuilds the whole atlas and packs all glyphs again, so the texture is uploaded as a whole as well:
+ * the time of a step grows with the amount of resident glyphs, not with the amount of new ones.
+ * Thus requested glyphs appear starting from the next frame.
+ * <p>
+ * The {@link ImFontAtlas#clear()} frees every {@link ImFont} of the atlas. All font handles held by the application,
+ * including the default font set with the {@link ImGuiIO#setFontDefault(ImFont)}, become dangling
+ * and should be replaced by the ones returned by the re-added fonts.
+ * The atlas should be rebuilt outside of the frame, when no fonts are pushed.
+ * <p>
+ * Usage:
+ * <pre>
+ *     // Before the ImGui.newFrame()
+ *     if (pager.hasPendingGlyphs()) {
+ *         fonts.clear();
+ *         mainFont = fonts.addFontFromMemoryTTF(fontData, 16, fontConfig, pager.buildRanges());
+ *         iconFont = fonts.addFontFromMemoryTTF(iconFontData, 16, iconFontConfig, iconRanges);
+ *         io.setFontDefault(mainFont);
+ *         fonts.build();
+ *         imGuiGl3.updateFontsTexture();
+ *     }
+ *
+ *     // During the frame
+ *     pager.requestText(label);
+ *     ImGui.text(label);
+ * </pre>
+ * Ranges returned by the {@link #buildRanges()} should be kept referenced as long as the font is alive.
+ */
+public final class ImFontGlyphPager {
+    private final ImFontGlyphRangesBuilder declared = new ImFontGlyphRangesBuilder();
+    private final ImFontGlyphRangesBuilder resident = new ImFontGlyphRangesBuilder();
+
+    private short[] ranges = null;
+    private int residentGlyphCount = 0;
+    private boolean pendingGlyphs = true;
+
+    /**
+     * @param declaredRanges ranges of glyphs which could be requested, other characters are ignored
+     * @param initialRanges  ranges of glyphs which are baked from the start, like {@link ImFontAtlas#getGlyphRangesDefault()}
+     */
+    public ImFontGlyphPager(final short[] declaredRanges, final short[] initialRanges) {
+        declared.addRanges(declaredRanges);
+        resident.addRanges(initialRanges);
+        for (int n = 0; n <= Character.MAX_VALUE; n++) {
+            if (resident.getBit(n)) {
+                residentGlyphCount++;
+            }
+        }
+    }
+
+    /**
+     * Requests all characters of the text to be baked.
+     *
+     * @return true if the text contains characters which are not baked yet
+     */
+    public boolean requestText(final String text) {
+        boolean requested = false;
+        for (int i = 0; i < text.length(); i++) {
+            requested |= requestChar(text.charAt(i));
+        }
+        return requested;
+    }
+
+    /**
+     * Requests the character to be baked.
+     *
+     * @return true if the character is not baked yet
+     */
+    public boolean requestChar(final char c) {
+        if (resident.getBit(c) || !declared.getBit(c)) {
+            return false;
+        }
+        resident.setBit(c);
+        residentGlyphCount++;
+        pendingGlyphs = true;
+        return true;
+    }
+
+    /**
+     * @return true if there are requested glyphs which are not in the ranges returned by the last {@link #buildRanges()} call
+     */
+    public boolean hasPendingGlyphs() {
+        return pendingGlyphs;
+    }
+
+    /**
+     * Builds ranges with initial and all requested glyphs. Pending glyphs are considered baked after this call.
+     *
+     * @return zero-terminated glyph ranges to pass to the {@link ImFontAtlas}
+     */
+    public short[] buildRanges() {
+        if (pendingGlyphs || ranges == null) {
+            ranges = resident.buildRanges();
+            pendingGlyphs = false;
+        }
+        return ranges;
+    }
+
+    /**
+     * @return amount of initial and requested glyphs
+     */
+    public int getResidentGlyphCount() {
+        return residentGlyphCount;
+    }
+}
@@ -1,8 +1,18 @@
 package imgui;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Enumeration;
 import java.util.List;
+import java.util.ResourceBundle;
+import java.util.stream.Stream;
 
 /**
  * Helper to build glyph ranges from text/string data. Feed your application strings/characters to it then call buildRanges().
@@ -38,16 +48,60 @@ public final class ImFontGlyphRangesBuilder {
         }
     }
 
+    /**
+     * Adds all characters of every string from the stream, e.g. lines of localization files or resource strings.
+     */
+    public void addText(final Stream<String> texts) {
+        texts.forEach(this::addText);
+    }
+
+    /**
+     * Adds all characters of every string value from the bundle, including its parent bundles.
+     */
+    public void addResourceBundle(final ResourceBundle bundle) {
+        final Enumeration<String> keys = bundle.getKeys();
+        while (keys.hasMoreElements()) {
+            final Object value = bundle.getObject(keys.nextElement());
+            if (value instanceof String) {
+                addText((String) value);
+            } else if (value instanceof String[]) {
+                for (final String str : (String[]) value) {
+                    addText(str);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds all characters of the text file in the UTF-8 encoding.
+     */
+    public void addFile(final Path file) {
+        addFile(file, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Adds all characters of the text file.
+     */
+    public void addFile(final Path file, final Charset charset) {
+        try (Stream<String> lines = Files.lines(file, charset)) {
+            addText(lines);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * Copies all given ranges to resulting ranges
      */
     public void addRanges(final short[] ranges) {
-        for (int i = 0; i < ranges.length; i += 2) {
+        for (int i = 0; i + 1 < ranges.length; i += 2) {
             if (ranges[i] == 0) {
                 break;
             }
 
-            for (int k = ranges[i]; k <= ranges[i + 1]; k++) {
+            // Values are unsigned, ranges above 0x7FFF would be negative otherwise
+            final int end = ranges[i + 1] & UNICODE_CODEPOINT_MAX;
+            for (int k = ranges[i] & UNICODE_CODEPOINT_MAX; k <= end; k++) {
                 addChar((char) k);
             }
         }
@@ -77,6 +131,66 @@ public final class ImFontGlyphRangesBuilder {
         return result;
     }
 
+    /**
+     * @return amount of unique characters submitted
+     */
+    public int getCharCount() {
+        int count = 0;
+        for (final long chars : usedChars) {
+            count += Long.bitCount(chars);
+        }
+        return count;
+    }
+
+    /**
+     * Writes ranges to the text file, one range per line as hex values: "0020-007E".
+     * Allows to compute ranges once (e.g. during the build) and ship them next to the font.
+     */
+    public static void writeRanges(final short[] ranges, final Path file) {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int i = 0; i + 1 < ranges.length && ranges[i] != 0; i += 2) {
+                writer.write(String.format("%04X-%04X", ranges[i] & UNICODE_CODEPOINT_MAX, ranges[i + 1] & UNICODE_CODEPOINT_MAX));
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads ranges written by the {@link #writeRanges(short[], Path)}.
+     *
+     * @return zero-terminated ranges, which could be directly passed to ImFontAtlas
+     */
+    public static short[] readRanges(final Path file) {
+        final List<String> lines;
+        try {
+            lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        final List<Short> out = new ArrayList<>();
+        for (final String line : lines) {
+            final String range = line.trim();
+            if (range.isEmpty()) {
+                continue;
+            }
+            final int separator = range.indexOf('-');
+            if (separator == -1) {
+                throw new IllegalArgumentException("Invalid glyph range in " + file + ": " + range);
+            }
+            out.add((short) Integer.parseInt(range.substring(0, separator), 16));
+            out.add((short) Integer.parseInt(range.substring(separator + 1), 16));
+        }
+
+        final short[] result = new short[out.size() + 1];
+        for (int i = 0; i < out.size(); i++) {
+            result[i] = out.get(i);
+        }
+        return result;
+    }
+
     public void clear() {
         Arrays.fill(usedChars, 0L);
     }
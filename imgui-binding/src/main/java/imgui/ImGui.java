@@ -18,6 +18,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.lang.ref.WeakReference;
+import java.nio.FloatBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -242,8 +243,13 @@ public class ImGui {
     /**
      * Start a new Dear ImGui frame, you can submit any command from this point until Render()/EndFrame().
      */
-    public static native void newFrame(); /*
+    public static void newFrame() {
+        ImTextureRegion.setCurrentFrame(nNewFrame());
+    }
+
+    private static native int nNewFrame(); /*
         ImGui::NewFrame();
+        return ImGui::GetFrameCount();
     */
 
     /**
@@ -470,6 +476,26 @@ public class ImGui {
         return ImGui::Begin(title, &pOpen[0], imGuiWindowFlags);
     */
 
+    public static boolean begin(final ImLabel title) {
+        return nBegin(title.getStrPtr(), 0);
+    }
+
+    public static boolean begin(final ImLabel title, final int imGuiWindowFlags) {
+        return nBegin(title.getStrPtr(), imGuiWindowFlags);
+    }
+
+    public static boolean begin(final ImLabel title, final ImBoolean pOpen, final int imGuiWindowFlags) {
+        return nBegin(title.getStrPtr(), pOpen.getData(), imGuiWindowFlags);
+    }
+
+    private static native boolean nBegin(long titlePtr, int imGuiWindowFlags); /*
+        return ImGui::Begin((const char*)titlePtr, NULL, imGuiWindowFlags);
+    */
+
+    private static native boolean nBegin(long titlePtr, boolean[] pOpen, int imGuiWindowFlags); /*
+        return ImGui::Begin((const char*)titlePtr, &pOpen[0], imGuiWindowFlags);
+    */
+
     public static native void end(); /*
         ImGui::End();
     */
@@ -593,6 +619,34 @@ public class ImGui {
         Jni::ImVec2Cpy(env, ImGui::GetWindowPos(), dstImVec2);
     */
 
+    /**
+     * Get current window position in screen space (useful if you want to do your own drawing via the DrawList API)
+     * <p>
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public static void getWindowPos(final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetWindowPos(dst, offset);
+    }
+
+    private static native void nGetWindowPos(float[] dst, int offset); /*
+        Jni::ImVec2Cpy(ImGui::GetWindowPos(), dst + offset);
+    */
+
+    /**
+     * Get current window position in screen space (useful if you want to do your own drawing via the DrawList API)
+     * <p>
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public static void getWindowPos(final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetWindowPos(dst, offset);
+    }
+
+    private static native void nGetWindowPos(FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(ImGui::GetWindowPos(), dst + offset);
+    */
+
     /**
      * Get current window position in screen space (useful if you want to do your own drawing via the DrawList API)
      */
@@ -623,6 +677,34 @@ public class ImGui {
         Jni::ImVec2Cpy(env, ImGui::GetWindowSize(), dstImVec2);
     */
 
+    /**
+     * Get current window size
+     * <p>
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public static void getWindowSize(final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetWindowSize(dst, offset);
+    }
+
+    private static native void nGetWindowSize(float[] dst, int offset); /*
+        Jni::ImVec2Cpy(ImGui::GetWindowSize(), dst + offset);
+    */
+
+    /**
+     * Get current window size
+     * <p>
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public static void getWindowSize(final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetWindowSize(dst, offset);
+    }
+
+    private static native void nGetWindowSize(FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(ImGui::GetWindowSize(), dst + offset);
+    */
+
     /**
      * Get current window size
      */
@@ -887,6 +969,34 @@ public class ImGui {
         Jni::ImVec2Cpy(env, ImGui::GetContentRegionAvail(), dstImVec2);
     */
 
+    /**
+     * == GetContentRegionMax() - GetCursorPos()
+     * <p>
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public static void getContentRegionAvail(final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetContentRegionAvail(dst, offset);
+    }
+
+    private static native void nGetContentRegionAvail(float[] dst, int offset); /*
+        Jni::ImVec2Cpy(ImGui::GetContentRegionAvail(), dst + offset);
+    */
+
+    /**
+     * == GetContentRegionMax() - GetCursorPos()
+     * <p>
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public static void getContentRegionAvail(final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetContentRegionAvail(dst, offset);
+    }
+
+    private static native void nGetContentRegionAvail(FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(ImGui::GetContentRegionAvail(), dst + offset);
+    */
+
     /**
      * == GetContentRegionMax() - GetCursorPos()
      */
@@ -917,6 +1027,34 @@ public class ImGui {
         Jni::ImVec2Cpy(env, ImGui::GetContentRegionMax(), dstImVec2);
     */
 
+    /**
+     * Current content boundaries (typically window boundaries including scrolling, or current column boundaries), in windows coordinates
+     * <p>
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public static void getContentRegionMax(final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetContentRegionMax(dst, offset);
+    }
+
+    private static native void nGetContentRegionMax(float[] dst, int offset); /*
+        Jni::ImVec2Cpy(ImGui::GetContentRegionMax(), dst + offset);
+    */
+
+    /**
+     * Current content boundaries (typically window boundaries including scrolling, or current column boundaries), in windows coordinates
+     * <p>
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public static void getContentRegionMax(final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetContentRegionMax(dst, offset);
+    }
+
+    private static native void nGetContentRegionMax(FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(ImGui::GetContentRegionMax(), dst + offset);
+    */
+
     /**
      * Current content boundaries (typically window boundaries including scrolling, or current column boundaries), in windows coordinates
      */
@@ -947,6 +1085,34 @@ public class ImGui {
         Jni::ImVec2Cpy(env, ImGui::GetWindowContentRegionMin(), dstImVec2);
     */
 
+    /**
+     * Content boundaries max (roughly (0,0)+Size-Scroll) where Size can be override with SetNextWindowContentSize(), in window coordinates
+     * <p>
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public static void getWindowContentRegionMin(final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetWindowContentRegionMin(dst, offset);
+    }
+
+    private static native void nGetWindowContentRegionMin(float[] dst, int offset); /*
+        Jni::ImVec2Cpy(ImGui::GetWindowContentRegionMin(), dst + offset);
+    */
+
+    /**
+     * Content boundaries max (roughly (0,0)+Size-Scroll) where Size can be override with SetNextWindowContentSize(), in window coordinates
+     * <p>
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public static void getWindowContentRegionMin(final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetWindowContentRegionMin(dst, offset);
+    }
+
+    private static native void nGetWindowContentRegionMin(FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(ImGui::GetWindowContentRegionMin(), dst + offset);
+    */
+
     /**
      * Content boundaries max (roughly (0,0)+Size-Scroll) where Size can be override with SetNextWindowContentSize(), in window coordinates
      */
@@ -971,6 +1137,24 @@ public class ImGui {
         Jni::ImVec2Cpy(env, ImGui::GetWindowContentRegionMax(), dstImVec2);
     */
 
+    public static void getWindowContentRegionMax(final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetWindowContentRegionMax(dst, offset);
+    }
+
+    private static native void nGetWindowContentRegionMax(float[] dst, int offset); /*
+        Jni::ImVec2Cpy(ImGui::GetWindowContentRegionMax(), dst + offset);
+    */
+
+    public static void getWindowContentRegionMax(final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetWindowContentRegionMax(dst, offset);
+    }
+
+    private static native void nGetWindowContentRegionMax(FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(ImGui::GetWindowContentRegionMax(), dst + offset);
+    */
+
     public static native float getWindowContentRegionMaxX(); /*
         return ImGui::GetWindowContentRegionMax().x;
     */
@@ -1257,6 +1441,34 @@ public class ImGui {
         Jni::ImVec2Cpy(env, ImGui::GetFontTexUvWhitePixel(), dstImVec2);
     */
 
+    /**
+     * Get UV coordinate for a while pixel, useful to draw custom shapes via the ImDrawList API
+     * <p>
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public static void getFontTexUvWhitePixel(final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetFontTexUvWhitePixel(dst, offset);
+    }
+
+    private static native void nGetFontTexUvWhitePixel(float[] dst, int offset); /*
+        Jni::ImVec2Cpy(ImGui::GetFontTexUvWhitePixel(), dst + offset);
+    */
+
+    /**
+     * Get UV coordinate for a while pixel, useful to draw custom shapes via the ImDrawList API
+     * <p>
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public static void getFontTexUvWhitePixel(final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetFontTexUvWhitePixel(dst, offset);
+    }
+
+    private static native void nGetFontTexUvWhitePixel(FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(ImGui::GetFontTexUvWhitePixel(), dst + offset);
+    */
+
     /**
      * Get UV coordinate for a while pixel, useful to draw custom shapes via the ImDrawList API
      */
@@ -1319,6 +1531,36 @@ public class ImGui {
         Jni::ImVec4Cpy(env, ImGui::GetStyleColorVec4(imGuiStyleVar), dstImVec4);
     */
 
+    /**
+     * Retrieve style color as stored in ImGuiStyle structure. use to feed back into PushStyleColor(),
+     * otherwise use GetColorU32() to get style color with style alpha baked in.
+     * <p>
+     * Writes x, y, z and w into dst[offset] .. dst[offset + 3].
+     */
+    public static void getStyleColorVec4(final int imGuiStyleVar, final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 4);
+        nGetStyleColorVec4(imGuiStyleVar, dst, offset);
+    }
+
+    private static native void nGetStyleColorVec4(int imGuiStyleVar, float[] dst, int offset); /*
+        Jni::ImVec4Cpy(ImGui::GetStyleColorVec4(imGuiStyleVar), dst + offset);
+    */
+
+    /**
+     * Retrieve style color as stored in ImGuiStyle structure. use to feed back into PushStyleColor(),
+     * otherwise use GetColorU32() to get style color with style alpha baked in.
+     * <p>
+     * Writes x, y, z and w into the direct buffer at absolute indices offset .. offset + 3. Buffer position is ignored.
+     */
+    public static void getStyleColorVec4(final int imGuiStyleVar, final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 4);
+        nGetStyleColorVec4(imGuiStyleVar, dst, offset);
+    }
+
+    private static native void nGetStyleColorVec4(int imGuiStyleVar, FloatBuffer dst, int offset); /*
+        Jni::ImVec4Cpy(ImGui::GetStyleColorVec4(imGuiStyleVar), dst + offset);
+    */
+
     // Cursor / Layout
     // - By "cursor" we mean the current output position.
     // - The typical widget behavior is to output themselves at the current cursor position, then move the cursor one line down.
@@ -1439,6 +1681,34 @@ public class ImGui {
         Jni::ImVec2Cpy(env, ImGui::GetCursorPos(), dstImVec2);
     */
 
+    /**
+     * Cursor position in window coordinates (relative to window position)
+     * <p>
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public static void getCursorPos(final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetCursorPos(dst, offset);
+    }
+
+    private static native void nGetCursorPos(float[] dst, int offset); /*
+        Jni::ImVec2Cpy(ImGui::GetCursorPos(), dst + offset);
+    */
+
+    /**
+     * Cursor position in window coordinates (relative to window position)
+     * <p>
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public static void getCursorPos(final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetCursorPos(dst, offset);
+    }
+
+    private static native void nGetCursorPos(FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(ImGui::GetCursorPos(), dst + offset);
+    */
+
     /**
      * Cursor position in window coordinates (relative to window position)
      */
@@ -1490,6 +1760,34 @@ public class ImGui {
         Jni::ImVec2Cpy(env, ImGui::GetCursorStartPos(), dstImVec2);
     */
 
+    /**
+     * Initial cursor position in window coordinates
+     * <p>
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public static void getCursorStartPos(final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetCursorStartPos(dst, offset);
+    }
+
+    private static native void nGetCursorStartPos(float[] dst, int offset); /*
+        Jni::ImVec2Cpy(ImGui::GetCursorStartPos(), dst + offset);
+    */
+
+    /**
+     * Initial cursor position in window coordinates
+     * <p>
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public static void getCursorStartPos(final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetCursorStartPos(dst, offset);
+    }
+
+    private static native void nGetCursorStartPos(FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(ImGui::GetCursorStartPos(), dst + offset);
+    */
+
     /**
      * Initial cursor position in window coordinates
      */
@@ -1524,6 +1822,38 @@ public class ImGui {
         Jni::ImVec2Cpy(env, ImGui::GetCursorScreenPos(), dstImVec2);
      */
 
+    /**
+     * Cursor position in absolute coordinates (useful to work with ImDrawList API).
+     * Generally top-left == GetMainViewport().Pos == (0,0) in single viewport mode,
+     * and bottom-right == GetMainViewport().Pos+Size == io.DisplaySize in single-viewport mode.
+     * <p>
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public static void getCursorScreenPos(final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetCursorScreenPos(dst, offset);
+    }
+
+    private static native void nGetCursorScreenPos(float[] dst, int offset); /*
+        Jni::ImVec2Cpy(ImGui::GetCursorScreenPos(), dst + offset);
+    */
+
+    /**
+     * Cursor position in absolute coordinates (useful to work with ImDrawList API).
+     * Generally top-left == GetMainViewport().Pos == (0,0) in single viewport mode,
+     * and bottom-right == GetMainViewport().Pos+Size == io.DisplaySize in single-viewport mode.
+     * <p>
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public static void getCursorScreenPos(final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetCursorScreenPos(dst, offset);
+    }
+
+    private static native void nGetCursorScreenPos(FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(ImGui::GetCursorScreenPos(), dst + offset);
+    */
+
     /**
      * Cursor position in absolute coordinates (useful to work with ImDrawList API).
      * Generally top-left == GetMainViewport().Pos == (0,0) in single viewport mode,
@@ -1619,6 +1949,17 @@ public class ImGui {
         ImGui::PushID(intId);
     */
 
+    /**
+     * Push string into the ID stack (will hash string).
+     */
+    public static void pushID(final ImLabel strId) {
+        nPushID(strId.getStrPtr());
+    }
+
+    private static native void nPushID(long strIdPtr); /*
+        ImGui::PushID((const char*)strIdPtr);
+    */
+
     /**
      * Pop from the ID stack.
      */
@@ -1647,6 +1988,17 @@ public class ImGui {
         return ImGui::GetID((void*)ptrId);
     */
 
+    /**
+     * Calculate unique ID (hash of whole ID stack + given parameter). e.g. if you want to query into ImGuiStorage yourself
+     */
+    public static int getID(final ImLabel strId) {
+        return nGetID(strId.getStrPtr());
+    }
+
+    private static native int nGetID(long strIdPtr); /*
+        return ImGui::GetID((const char*)strIdPtr);
+    */
+
     // Widgets: Text
 
     /**
@@ -1667,6 +2019,19 @@ public class ImGui {
         ImGui::TextUnformatted(text);
     */
 
+    /**
+     * Formatted text
+     * <p>
+     * BINDING NOTICE: Since all text formatting could be done on Java side, this call is equal to {@link ImGui#textUnformatted(String)}.
+     */
+    public static void text(final ImLabel text) {
+        nText(text.getStrPtr());
+    }
+
+    private static native void nText(long textPtr); /*
+        ImGui::TextUnformatted((const char*)textPtr);
+    */
+
     /**
      * Shortcut for PushStyleColor(ImGuiCol_Text, col); Text(fmt, ...); PopStyleColor();
      */
@@ -1736,6 +2101,24 @@ public class ImGui {
         return ImGui::Button(label, ImVec2(width, height));
     */
 
+    /**
+     * Button
+     */
+    public static boolean button(final ImLabel label) {
+        return nButton(label.getStrPtr(), 0, 0);
+    }
+
+    /**
+     * Button
+     */
+    public static boolean button(final ImLabel label, final float width, final float height) {
+        return nButton(label.getStrPtr(), width, height);
+    }
+
+    private static native boolean nButton(long labelPtr, float width, float height); /*
+        return ImGui::Button((const char*)labelPtr, ImVec2(width, height));
+    */
+
     /**
      * Button with FramePadding=(0,0) to easily embed within text
      */
@@ -1743,6 +2126,17 @@ public class ImGui {
         return ImGui::SmallButton(label);
     */
 
+    /**
+     * Button with FramePadding=(0,0) to easily embed within text
+     */
+    public static boolean smallButton(final ImLabel label) {
+        return nSmallButton(label.getStrPtr());
+    }
+
+    private static native boolean nSmallButton(long labelPtr); /*
+        return ImGui::SmallButton((const char*)labelPtr);
+    */
+
     /**
      * Flexible button behavior without the visuals, frequently useful to build custom behaviors using the public api (along with IsItemActive, IsItemHovered, etc.)
      */
@@ -1826,6 +2220,29 @@ public class ImGui {
         return ImGui::ImageButton((ImTextureID)(intptr_t)textureID, ImVec2(sizeX, sizeY), ImVec2(uv0X, uv0Y), ImVec2(uv1X, uv1Y), framePadding, ImVec4(bgColorR, bgColorG, bgColorB, bgColorA), ImVec4(tintR, tintG, tintB, tintA));
     */
 
+    public static void image(final ImTextureRegion region, final float sizeX, final float sizeY) {
+        region.markUsed();
+        image(region.getTextureId(), sizeX, sizeY, region.getU0(), region.getV0(), region.getU1(), region.getV1());
+    }
+
+    public static void image(final ImTextureRegion region, final float sizeX, final float sizeY, final float tintColorR, final float tintColorG, final float tintColorB, final float tintColorA) {
+        region.markUsed();
+        image(region.getTextureId(), sizeX, sizeY, region.getU0(), region.getV0(), region.getU1(), region.getV1(), tintColorR, tintColorG, tintColorB, tintColorA);
+    }
+
+    public static boolean imageButton(final ImTextureRegion region, final float sizeX, final float sizeY) {
+        region.markUsed();
+        return imageButton(region.getTextureId(), sizeX, sizeY, region.getU0(), region.getV0(), region.getU1(), region.getV1());
+    }
+
+    /**
+     * {@code <0} framePadding uses default frame padding settings. 0 for no padding
+     */
+    public static boolean imageButton(final ImTextureRegion region, final float sizeX, final float sizeY, final int framePadding) {
+        region.markUsed();
+        return imageButton(region.getTextureId(), sizeX, sizeY, region.getU0(), region.getV0(), region.getU1(), region.getV1(), framePadding);
+    }
+
     public static native boolean checkbox(String label, boolean active); /*
         bool flag = (bool)active;
         return ImGui::Checkbox(label, &flag);
@@ -1839,6 +2256,14 @@ public class ImGui {
         return ImGui::Checkbox(label, &data[0]);
     */
 
+    public static boolean checkbox(final ImLabel label, final ImBoolean active) {
+        return nCheckbox(label.getStrPtr(), active.getData());
+    }
+
+    private static native boolean nCheckbox(long labelPtr, boolean[] data); /*
+        return ImGui::Checkbox((const char*)labelPtr, &data[0]);
+    */
+
     public static boolean checkboxFlags(String label, ImInt v, int flagsValue) {
         return nCheckboxFlags(label, v.getData(), flagsValue);
     }
@@ -1930,6 +2355,18 @@ public class ImGui {
         return flag;
     */
 
+    public static boolean combo(final String label, final ImInt currentItem, final ImStringArray items) {
+        return nCombo(label, currentItem.getData(), items.getItemsPtr(), items.size(), -1);
+    }
+
+    public static boolean combo(final String label, final ImInt currentItem, final ImStringArray items, final int popupMaxHeightInItems) {
+        return nCombo(label, currentItem.getData(), items.getItemsPtr(), items.size(), popupMaxHeightInItems);
+    }
+
+    private static native boolean nCombo(String label, int[] currentItem, long itemsPtr, int itemsCount, int popupMaxHeightInItems); /*
+        return ImGui::Combo(label, &currentItem[0], ((ImVector<char*>*)itemsPtr)->Data, itemsCount, popupMaxHeightInItems);
+    */
+
     /**
      * Separate items with \0 within a string, end item-list with \0\0. e.g. "One\0Two\0Three\0"
      */
@@ -3808,6 +4245,18 @@ public class ImGui {
         return ImGui::TreeNodeEx((void*)ptrId, imGuiTreeNodeFlags, label, NULL);
     */
 
+    public static boolean treeNode(final ImLabel label) {
+        return nTreeNodeEx(label.getStrPtr(), 0);
+    }
+
+    public static boolean treeNodeEx(final ImLabel label, final int imGuiTreeNodeFlags) {
+        return nTreeNodeEx(label.getStrPtr(), imGuiTreeNodeFlags);
+    }
+
+    private static native boolean nTreeNodeEx(long labelPtr, int imGuiTreeNodeFlags); /*
+        return ImGui::TreeNodeEx((const char*)labelPtr, imGuiTreeNodeFlags);
+    */
+
     /**
      * ~ Indent()+PushId(). Already called by TreeNode() when returning true, but you can call TreePush/TreePop yourself if desired.
      */
@@ -3851,6 +4300,24 @@ public class ImGui {
         return ImGui::CollapsingHeader(label, imGuiTreeNodeFlags);
     */
 
+    /**
+     * If returning 'true' the header is open. doesn't indent nor push on ID stack. user doesn't have to call TreePop().
+     */
+    public static boolean collapsingHeader(final ImLabel label) {
+        return nCollapsingHeader(label.getStrPtr(), 0);
+    }
+
+    /**
+     * If returning 'true' the header is open. doesn't indent nor push on ID stack. user doesn't have to call TreePop().
+     */
+    public static boolean collapsingHeader(final ImLabel label, final int imGuiTreeNodeFlags) {
+        return nCollapsingHeader(label.getStrPtr(), imGuiTreeNodeFlags);
+    }
+
+    private static native boolean nCollapsingHeader(long labelPtr, int imGuiTreeNodeFlags); /*
+        return ImGui::CollapsingHeader((const char*)labelPtr, imGuiTreeNodeFlags);
+    */
+
     /**
      * When 'pVisible' isn't NULL, display an additional small close button on upper right of the header
      * which will set the bool to false when clicked, if '*pVisible==false' don't display the header.
@@ -3921,6 +4388,22 @@ public class ImGui {
         return ImGui::Selectable(label,  &selected[0], imGuiSelectableFlags, ImVec2(sizeX, sizeY));
     */
 
+    public static boolean selectable(final ImLabel label) {
+        return nSelectable(label.getStrPtr(), false, 0);
+    }
+
+    public static boolean selectable(final ImLabel label, final boolean selected) {
+        return nSelectable(label.getStrPtr(), selected, 0);
+    }
+
+    public static boolean selectable(final ImLabel label, final boolean selected, final int imGuiSelectableFlags) {
+        return nSelectable(label.getStrPtr(), selected, imGuiSelectableFlags);
+    }
+
+    private static native boolean nSelectable(long labelPtr, boolean selected, int imGuiSelectableFlags); /*
+        return ImGui::Selectable((const char*)labelPtr, selected, imGuiSelectableFlags);
+    */
+
     // Widgets: List Boxes
     // - This is essentially a thin wrapper to using BeginChild/EndChild with some stylistic changes.
     // - The BeginListBox()/EndListBox() api allows you to manage your contents and selection state however you want it, by creating e.g. Selectable() or any items.
@@ -3976,6 +4459,18 @@ public class ImGui {
         return flag;
     */
 
+    public static boolean listBox(final String label, final ImInt currentItem, final ImStringArray items) {
+        return nListBox(label, currentItem.getData(), items.getItemsPtr(), items.size(), -1);
+    }
+
+    public static boolean listBox(final String label, final ImInt currentItem, final ImStringArray items, final int heightInItems) {
+        return nListBox(label, currentItem.getData(), items.getItemsPtr(), items.size(), heightInItems);
+    }
+
+    private static native boolean nListBox(String label, int[] currentItem, long itemsPtr, int itemsCount, int heightInItems); /*
+        return ImGui::ListBox(label, &currentItem[0], ((ImVector<char*>*)itemsPtr)->Data, itemsCount, heightInItems);
+    */
+
     // Widgets: Data Plotting
     // - Consider using ImPlot (https://github.com/epezent/implot)
 
@@ -4105,6 +4600,24 @@ public class ImGui {
         return ImGui::BeginMenu(label, enabled);
     */
 
+    /**
+     * Create a sub-menu entry. only call EndMenu() if this returns true!
+     */
+    public static boolean beginMenu(final ImLabel label) {
+        return nBeginMenu(label.getStrPtr(), true);
+    }
+
+    /**
+     * Create a sub-menu entry. only call EndMenu() if this returns true!
+     */
+    public static boolean beginMenu(final ImLabel label, final boolean enabled) {
+        return nBeginMenu(label.getStrPtr(), enabled);
+    }
+
+    private static native boolean nBeginMenu(long labelPtr, boolean enabled); /*
+        return ImGui::BeginMenu((const char*)labelPtr, enabled);
+    */
+
     /**
      * Only call EndMenu() if BeginMenu() returns true!
      */
@@ -4192,6 +4705,24 @@ public class ImGui {
         return result;
     */
 
+    /**
+     * Return true when activated.
+     */
+    public static boolean menuItem(final ImLabel label) {
+        return nMenuItem(label.getStrPtr(), false, true);
+    }
+
+    /**
+     * Return true when activated.
+     */
+    public static boolean menuItem(final ImLabel label, final boolean selected, final boolean enabled) {
+        return nMenuItem(label.getStrPtr(), selected, enabled);
+    }
+
+    private static native boolean nMenuItem(long labelPtr, boolean selected, boolean enabled); /*
+        return ImGui::MenuItem((const char*)labelPtr, NULL, selected, enabled);
+    */
+
     // Tooltips
     // - Tooltip are windows following the mouse. They do not take focus away.
 
@@ -4213,6 +4744,17 @@ public class ImGui {
         ImGui::SetTooltip(text, NULL);
     */
 
+    /**
+     * Set a text-only tooltip, typically use with ImGui::IsItemHovered(). override any previous call to SetTooltip().
+     */
+    public static void setTooltip(final ImLabel text) {
+        nSetTooltip(text.getStrPtr());
+    }
+
+    private static native void nSetTooltip(long textPtr); /*
+        ImGui::SetTooltip("%s", (const char*)textPtr);
+    */
+
     // Popups, Modals
     //  - They block normal mouse hovering detection (and therefore most mouse interactions) behind them.
     //  - If not modal: they can be closed by clicking anywhere outside them, or by pressing ESCAPE.
@@ -4796,6 +5338,24 @@ public class ImGui {
         return ImGui::BeginTabItem(label, &pOpen[0], imGuiTabItemFlags);
     */
 
+    /**
+     * Create a Tab. Returns true if the Tab is selected.
+     */
+    public static boolean beginTabItem(final ImLabel label) {
+        return nBeginTabItem(label.getStrPtr(), 0);
+    }
+
+    /**
+     * Create a Tab. Returns true if the Tab is selected.
+     */
+    public static boolean beginTabItem(final ImLabel label, final int imGuiTabItemFlags) {
+        return nBeginTabItem(label.getStrPtr(), imGuiTabItemFlags);
+    }
+
+    private static native boolean nBeginTabItem(long labelPtr, int imGuiTabItemFlags); /*
+        return ImGui::BeginTabItem((const char*)labelPtr, NULL, imGuiTabItemFlags);
+    */
+
     /**
      * Only call EndTabItem() if BeginTabItem() returns true!
      */
@@ -5354,6 +5914,34 @@ public class ImGui {
         Jni::ImVec2Cpy(env, ImGui::GetItemRectMin(), dstImVec2);
     */
 
+    /**
+     * Get upper-left bounding rectangle of the last item (screen space)
+     * <p>
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public static void getItemRectMin(final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetItemRectMin(dst, offset);
+    }
+
+    private static native void nGetItemRectMin(float[] dst, int offset); /*
+        Jni::ImVec2Cpy(ImGui::GetItemRectMin(), dst + offset);
+    */
+
+    /**
+     * Get upper-left bounding rectangle of the last item (screen space)
+     * <p>
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public static void getItemRectMin(final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetItemRectMin(dst, offset);
+    }
+
+    private static native void nGetItemRectMin(FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(ImGui::GetItemRectMin(), dst + offset);
+    */
+
     /**
      * Get upper-left bounding rectangle of the last item (screen space)
      */
@@ -5384,6 +5972,34 @@ public class ImGui {
         Jni::ImVec2Cpy(env, ImGui::GetItemRectMax(), dstImVec2);
     */
 
+    /**
+     * Get lower-right bounding rectangle of the last item (screen space)
+     * <p>
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public static void getItemRectMax(final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetItemRectMax(dst, offset);
+    }
+
+    private static native void nGetItemRectMax(float[] dst, int offset); /*
+        Jni::ImVec2Cpy(ImGui::GetItemRectMax(), dst + offset);
+    */
+
+    /**
+     * Get lower-right bounding rectangle of the last item (screen space)
+     * <p>
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public static void getItemRectMax(final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetItemRectMax(dst, offset);
+    }
+
+    private static native void nGetItemRectMax(FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(ImGui::GetItemRectMax(), dst + offset);
+    */
+
     /**
      * Get lower-right bounding rectangle of the last item (screen space)
      */
@@ -5414,6 +6030,34 @@ public class ImGui {
         Jni::ImVec2Cpy(env, ImGui::GetItemRectSize(), dstImVec2);
     */
 
+    /**
+     * Get size of last item
+     * <p>
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public static void getItemRectSize(final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetItemRectSize(dst, offset);
+    }
+
+    private static native void nGetItemRectSize(float[] dst, int offset); /*
+        Jni::ImVec2Cpy(ImGui::GetItemRectSize(), dst + offset);
+    */
+
+    /**
+     * Get size of last item
+     * <p>
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public static void getItemRectSize(final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetItemRectSize(dst, offset);
+    }
+
+    private static native void nGetItemRectSize(FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(ImGui::GetItemRectSize(), dst + offset);
+    */
+
     /**
      * Get size of last item
      */
@@ -5624,6 +6268,102 @@ public class ImGui {
         Jni::ImVec2Cpy(env, src, dstImVec2);
     */
 
+    /**
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public static void calcTextSize(final String text, final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nCalcTextSize(text, dst, offset);
+    }
+
+    private static native void nCalcTextSize(String text, float[] dst, int offset); /*
+        Jni::ImVec2Cpy(ImGui::CalcTextSize(text), dst + offset);
+    */
+
+    /**
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public static void calcTextSize(final String text, final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nCalcTextSize(text, dst, offset);
+    }
+
+    private static native void nCalcTextSize(String text, FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(ImGui::CalcTextSize(text), dst + offset);
+    */
+
+    /**
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public static void calcTextSize(final String text, final boolean hideTextAfterDoubleHash, final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nCalcTextSize(text, hideTextAfterDoubleHash, dst, offset);
+    }
+
+    private static native void nCalcTextSize(String text, boolean hideTextAfterDoubleHash, float[] dst, int offset); /*
+        Jni::ImVec2Cpy(ImGui::CalcTextSize(text, NULL, hideTextAfterDoubleHash), dst + offset);
+    */
+
+    /**
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public static void calcTextSize(final String text, final boolean hideTextAfterDoubleHash, final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nCalcTextSize(text, hideTextAfterDoubleHash, dst, offset);
+    }
+
+    private static native void nCalcTextSize(String text, boolean hideTextAfterDoubleHash, FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(ImGui::CalcTextSize(text, NULL, hideTextAfterDoubleHash), dst + offset);
+    */
+
+    /**
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public static void calcTextSize(final String text, final float wrapWidth, final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nCalcTextSize(text, wrapWidth, dst, offset);
+    }
+
+    private static native void nCalcTextSize(String text, float wrapWidth, float[] dst, int offset); /*
+        Jni::ImVec2Cpy(ImGui::CalcTextSize(text, NULL, false, wrapWidth), dst + offset);
+    */
+
+    /**
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public static void calcTextSize(final String text, final float wrapWidth, final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nCalcTextSize(text, wrapWidth, dst, offset);
+    }
+
+    private static native void nCalcTextSize(String text, float wrapWidth, FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(ImGui::CalcTextSize(text, NULL, false, wrapWidth), dst + offset);
+    */
+
+    /**
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public static void calcTextSize(final String text, final boolean hideTextAfterDoubleHash, final float wrapWidth, final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nCalcTextSize(text, hideTextAfterDoubleHash, wrapWidth, dst, offset);
+    }
+
+    private static native void nCalcTextSize(String text, boolean hideTextAfterDoubleHash, float wrapWidth, float[] dst, int offset); /*
+        Jni::ImVec2Cpy(ImGui::CalcTextSize(text, NULL, hideTextAfterDoubleHash, wrapWidth), dst + offset);
+    */
+
+    /**
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public static void calcTextSize(final String text, final boolean hideTextAfterDoubleHash, final float wrapWidth, final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nCalcTextSize(text, hideTextAfterDoubleHash, wrapWidth, dst, offset);
+    }
+
+    private static native void nCalcTextSize(String text, boolean hideTextAfterDoubleHash, float wrapWidth, FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(ImGui::CalcTextSize(text, NULL, hideTextAfterDoubleHash, wrapWidth), dst + offset);
+    */
+
     // Color Utilities
 
     public final ImVec4 colorConvertU32ToFloat4(final int in) {
@@ -5636,6 +6376,24 @@ public class ImGui {
         Jni::ImVec4Cpy(env, ImGui::ColorConvertU32ToFloat4(in), dstImVec4);
     */
 
+    public static void colorConvertU32ToFloat4(final int in, final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 4);
+        nColorConvertU32ToFloat4(in, dst, offset);
+    }
+
+    private static native void nColorConvertU32ToFloat4(int in, float[] dst, int offset); /*
+        Jni::ImVec4Cpy(ImGui::ColorConvertU32ToFloat4(in), dst + offset);
+    */
+
+    public static void colorConvertU32ToFloat4(final int in, final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 4);
+        nColorConvertU32ToFloat4(in, dst, offset);
+    }
+
+    private static native void nColorConvertU32ToFloat4(int in, FloatBuffer dst, int offset); /*
+        Jni::ImVec4Cpy(ImGui::ColorConvertU32ToFloat4(in), dst + offset);
+    */
+
     public static native int colorConvertFloat4ToU32(float r, float g, float b, float a); /*
         return ImGui::ColorConvertFloat4ToU32(ImVec4(r, g, b, a));
     */
@@ -5823,6 +6581,34 @@ public class ImGui {
         Jni::ImVec2Cpy(env, ImGui::GetMousePos(), dstImVec2);
     */
 
+    /**
+     * Shortcut to ImGui::GetIO().MousePos provided by user, to be consistent with other calls
+     * <p>
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public static void getMousePos(final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetMousePos(dst, offset);
+    }
+
+    private static native void nGetMousePos(float[] dst, int offset); /*
+        Jni::ImVec2Cpy(ImGui::GetMousePos(), dst + offset);
+    */
+
+    /**
+     * Shortcut to ImGui::GetIO().MousePos provided by user, to be consistent with other calls
+     * <p>
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public static void getMousePos(final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetMousePos(dst, offset);
+    }
+
+    private static native void nGetMousePos(FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(ImGui::GetMousePos(), dst + offset);
+    */
+
     /**
      * Shortcut to ImGui::GetIO().MousePos provided by user, to be consistent with other calls
      */
@@ -5853,6 +6639,34 @@ public class ImGui {
         Jni::ImVec2Cpy(env, ImGui::GetMousePosOnOpeningCurrentPopup(), dstImVec2);
     */
 
+    /**
+     * Retrieve backup of mouse position at the time of opening popup we have BeginPopup() into
+     * <p>
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public static void getMousePosOnOpeningCurrentPopup(final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetMousePosOnOpeningCurrentPopup(dst, offset);
+    }
+
+    private static native void nGetMousePosOnOpeningCurrentPopup(float[] dst, int offset); /*
+        Jni::ImVec2Cpy(ImGui::GetMousePosOnOpeningCurrentPopup(), dst + offset);
+    */
+
+    /**
+     * Retrieve backup of mouse position at the time of opening popup we have BeginPopup() into
+     * <p>
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public static void getMousePosOnOpeningCurrentPopup(final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetMousePosOnOpeningCurrentPopup(dst, offset);
+    }
+
+    private static native void nGetMousePosOnOpeningCurrentPopup(FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(ImGui::GetMousePosOnOpeningCurrentPopup(), dst + offset);
+    */
+
     /**
      * Retrieve backup of mouse position at the time of opening popup we have BeginPopup() into
      */
@@ -5885,6 +6699,36 @@ public class ImGui {
         Jni::ImVec2Cpy(env, ImGui::GetMouseDragDelta(), dstImVec2);
     */
 
+    /**
+     * Return the delta from the initial clicking position while the mouse button is pressed or was just released.
+     * This is locked and return 0.0f until the mouse moves past a distance threshold at least once. If lockThreshold {@code < -1.0f} uses io.MouseDraggingThreshold.
+     * <p>
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public static void getMouseDragDelta(final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetMouseDragDelta(dst, offset);
+    }
+
+    private static native void nGetMouseDragDelta(float[] dst, int offset); /*
+        Jni::ImVec2Cpy(ImGui::GetMouseDragDelta(), dst + offset);
+    */
+
+    /**
+     * Return the delta from the initial clicking position while the mouse button is pressed or was just released.
+     * This is locked and return 0.0f until the mouse moves past a distance threshold at least once. If lockThreshold {@code < -1.0f} uses io.MouseDraggingThreshold.
+     * <p>
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public static void getMouseDragDelta(final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetMouseDragDelta(dst, offset);
+    }
+
+    private static native void nGetMouseDragDelta(FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(ImGui::GetMouseDragDelta(), dst + offset);
+    */
+
     /**
      * Return the delta from the initial clicking position while the mouse button is pressed or was just released.
      * This is locked and return 0.0f until the mouse moves past a distance threshold at least once. If lockThreshold {@code < -1.0f} uses io.MouseDraggingThreshold.
@@ -5919,6 +6763,36 @@ public class ImGui {
         Jni::ImVec2Cpy(env, ImGui::GetMouseDragDelta(button), dstImVec2);
     */
 
+    /**
+     * Return the delta from the initial clicking position while the mouse button is pressed or was just released.
+     * This is locked and return 0.0f until the mouse moves past a distance threshold at least once. If lockThreshold {@code < -1.0f} uses io.MouseDraggingThreshold.
+     * <p>
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public static void getMouseDragDelta(final int button, final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetMouseDragDelta(button, dst, offset);
+    }
+
+    private static native void nGetMouseDragDelta(int button, float[] dst, int offset); /*
+        Jni::ImVec2Cpy(ImGui::GetMouseDragDelta(button), dst + offset);
+    */
+
+    /**
+     * Return the delta from the initial clicking position while the mouse button is pressed or was just released.
+     * This is locked and return 0.0f until the mouse moves past a distance threshold at least once. If lockThreshold {@code < -1.0f} uses io.MouseDraggingThreshold.
+     * <p>
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public static void getMouseDragDelta(final int button, final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetMouseDragDelta(button, dst, offset);
+    }
+
+    private static native void nGetMouseDragDelta(int button, FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(ImGui::GetMouseDragDelta(button), dst + offset);
+    */
+
     /**
      * Return the delta from the initial clicking position while the mouse button is pressed or was just released.
      * This is locked and return 0.0f until the mouse moves past a distance threshold at least once. If lockThreshold {@code < -1.0f} uses io.MouseDraggingThreshold.
@@ -5953,6 +6827,36 @@ public class ImGui {
         Jni::ImVec2Cpy(env, ImGui::GetMouseDragDelta(button, lockThreshold), dstImVec2);
     */
 
+    /**
+     * Return the delta from the initial clicking position while the mouse button is pressed or was just released.
+     * This is locked and return 0.0f until the mouse moves past a distance threshold at least once. If lockThreshold {@code < -1.0f} uses io.MouseDraggingThreshold.
+     * <p>
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public static void getMouseDragDelta(final int button, final float lockThreshold, final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetMouseDragDelta(button, lockThreshold, dst, offset);
+    }
+
+    private static native void nGetMouseDragDelta(int button, float lockThreshold, float[] dst, int offset); /*
+        Jni::ImVec2Cpy(ImGui::GetMouseDragDelta(button, lockThreshold), dst + offset);
+    */
+
+    /**
+     * Return the delta from the initial clicking position while the mouse button is pressed or was just released.
+     * This is locked and return 0.0f until the mouse moves past a distance threshold at least once. If lockThreshold {@code < -1.0f} uses io.MouseDraggingThreshold.
+     * <p>
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public static void getMouseDragDelta(final int button, final float lockThreshold, final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetMouseDragDelta(button, lockThreshold, dst, offset);
+    }
+
+    private static native void nGetMouseDragDelta(int button, float lockThreshold, FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(ImGui::GetMouseDragDelta(button, lockThreshold), dst + offset);
+    */
+
     /**
      * Return the delta from the initial clicking position while the mouse button is pressed or was just released.
      * This is locked and return 0.0f until the mouse moves past a distance threshold at least once. If lockThreshold {@code < -1.0f} uses io.MouseDraggingThreshold.
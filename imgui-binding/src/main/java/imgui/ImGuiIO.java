@@ -3,12 +3,49 @@ package imgui;
 import imgui.binding.ImGuiStruct;
 import imgui.callback.ImStrConsumer;
 import imgui.callback.ImStrSupplier;
+import imgui.flag.ImGuiMouseButton;
+import imgui.flag.ImGuiNavInput;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
 
 /**
  * Communicate most settings and inputs/outputs to Dear ImGui using this structure.
  * Access via ImGui::GetIO(). Read 'Programmer guide' section in .cpp file for general usage.
  */
 public final class ImGuiIO extends ImGuiStruct {
+    // Layout of the buffer used by the {@link #setFrameInput(ByteBuffer)}. Offsets are in bytes, values are 4-byte floats or ints.
+    public static final int FRAME_INPUT_OFFSET_DISPLAY_SIZE = 0; // float x, y
+    public static final int FRAME_INPUT_OFFSET_DISPLAY_FRAMEBUFFER_SCALE = 8; // float x, y; ignored if not positive
+    public static final int FRAME_INPUT_OFFSET_DELTA_TIME = 16; // float
+    public static final int FRAME_INPUT_OFFSET_MOUSE_POS = 20; // float x, y
+    public static final int FRAME_INPUT_OFFSET_MOUSE_DOWN = 28; // int[ImGuiMouseButton.COUNT], 0 or 1
+    public static final int FRAME_INPUT_OFFSET_MOUSE_HOVERED_VIEWPORT = FRAME_INPUT_OFFSET_MOUSE_DOWN + ImGuiMouseButton.COUNT * 4; // int
+    public static final int FRAME_INPUT_OFFSET_HAS_NAV_INPUTS = FRAME_INPUT_OFFSET_MOUSE_HOVERED_VIEWPORT + 4; // int, 0 to keep current nav inputs
+    public static final int FRAME_INPUT_OFFSET_NAV_INPUTS = FRAME_INPUT_OFFSET_HAS_NAV_INPUTS + 4; // float[ImGuiNavInput.COUNT]
+    public static final int SIZEOF_FRAME_INPUT = FRAME_INPUT_OFFSET_NAV_INPUTS + ImGuiNavInput.COUNT * 4;
+
+    // Layout of the buffer filled by the {@link #getFrameOutput(ByteBuffer)}. Offsets are in bytes, values are 4-byte floats or ints.
+    public static final int FRAME_OUTPUT_OFFSET_CONFIG_FLAGS = 0; // int
+    public static final int FRAME_OUTPUT_OFFSET_BACKEND_FLAGS = 4; // int
+    public static final int FRAME_OUTPUT_OFFSET_MOUSE_DRAW_CURSOR = 8; // int, 0 or 1
+    public static final int FRAME_OUTPUT_OFFSET_MOUSE_POS = 12; // float x, y
+    public static final int FRAME_OUTPUT_OFFSET_WANT_CAPTURE_MOUSE = 20; // int, 0 or 1
+    public static final int FRAME_OUTPUT_OFFSET_WANT_CAPTURE_KEYBOARD = 24; // int, 0 or 1
+    public static final int FRAME_OUTPUT_OFFSET_WANT_TEXT_INPUT = 28; // int, 0 or 1
+    public static final int FRAME_OUTPUT_OFFSET_WANT_SET_MOUSE_POS = 32; // int, 0 or 1
+    public static final int FRAME_OUTPUT_OFFSET_WANT_SAVE_INI_SETTINGS = 36; // int, 0 or 1
+    public static final int FRAME_OUTPUT_OFFSET_NAV_ACTIVE = 40; // int, 0 or 1
+    public static final int FRAME_OUTPUT_OFFSET_NAV_VISIBLE = 44; // int, 0 or 1
+    public static final int FRAME_OUTPUT_OFFSET_FRAMERATE = 48; // float
+    public static final int FRAME_OUTPUT_OFFSET_METRICS_RENDER_VERTICES = 52; // int
+    public static final int FRAME_OUTPUT_OFFSET_METRICS_RENDER_INDICES = 56; // int
+    public static final int FRAME_OUTPUT_OFFSET_METRICS_RENDER_WINDOWS = 60; // int
+    public static final int FRAME_OUTPUT_OFFSET_METRICS_ACTIVE_WINDOWS = 64; // int
+    public static final int FRAME_OUTPUT_OFFSET_METRICS_ACTIVE_ALLOCATIONS = 68; // int
+    public static final int FRAME_OUTPUT_OFFSET_MOUSE_DELTA = 72; // float x, y
+    public static final int SIZEOF_FRAME_OUTPUT = 80;
+
     private ImFontAtlas imFontAtlas = new ImFontAtlas(0);
 
     public ImGuiIO(final long ptr) {
@@ -291,8 +328,25 @@ public final class ImGuiIO extends ImGuiStruct {
         IO->FontAllowUserScaling = fontAllowUserScaling;
     */
 
+    /**
+     * Font to use on NewFrame(). Use NULL to uses Fonts->Fonts[0].
+     *
+     * @return default font or null, if the first font of the atlas is used
+     */
+    public ImFont getFontDefault() {
+        final long fontDefaultPtr = nGetFontDefault();
+        return fontDefaultPtr != 0 ? new ImFont(fontDefaultPtr) : null;
+    }
+
+    private native long nGetFontDefault(); /*
+        return (intptr_t)IO->FontDefault;
+    */
+
+    /**
+     * Font to use on NewFrame(). Use NULL to uses Fonts->Fonts[0].
+     */
     public void setFontDefault(final ImFont fontDefault) {
-        nSetFontDefault(fontDefault.ptr);
+        nSetFontDefault(fontDefault != null ? fontDefault.ptr : 0);
     }
 
     private native void nSetFontDefault(long fontDefaultPtr); /*
@@ -501,6 +555,38 @@ public final class ImGuiIO extends ImGuiStruct {
         Jni::ImVec2Cpy(env, &IO->DisplaySize, dstImVec2);
     */
 
+    /**
+     * Main display size, in pixels.
+     * <p>
+     * BINDING NOTICE: This should be a "Config" part, but since those values may be different for every frame I don't see how it is possible to set them only once.
+     * <p>
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public void getDisplaySize(final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetDisplaySize(dst, offset);
+    }
+
+    private native void nGetDisplaySize(float[] dst, int offset); /*
+        Jni::ImVec2Cpy(&IO->DisplaySize, dst + offset);
+    */
+
+    /**
+     * Main display size, in pixels.
+     * <p>
+     * BINDING NOTICE: This should be a "Config" part, but since those values may be different for every frame I don't see how it is possible to set them only once.
+     * <p>
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public void getDisplaySize(final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetDisplaySize(dst, offset);
+    }
+
+    private native void nGetDisplaySize(FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(&IO->DisplaySize, dst + offset);
+    */
+
     /**
      * Main display size, in pixels.
      * <p>
@@ -549,6 +635,38 @@ public final class ImGuiIO extends ImGuiStruct {
         Jni::ImVec2Cpy(env, &IO->DisplayFramebufferScale, dstImVec2);
     */
 
+    /**
+     * For retina display or other situations where window coordinates are different from framebuffer coordinates. This generally ends up in ImDrawData::FramebufferScale.
+     * <p>
+     * BINDING NOTICE: This should be a "Config" part, but since those values may be different for every frame I don't see how it is possible to set them only once.
+     * <p>
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public void getDisplayFramebufferScale(final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetDisplayFramebufferScale(dst, offset);
+    }
+
+    private native void nGetDisplayFramebufferScale(float[] dst, int offset); /*
+        Jni::ImVec2Cpy(&IO->DisplayFramebufferScale, dst + offset);
+    */
+
+    /**
+     * For retina display or other situations where window coordinates are different from framebuffer coordinates. This generally ends up in ImDrawData::FramebufferScale.
+     * <p>
+     * BINDING NOTICE: This should be a "Config" part, but since those values may be different for every frame I don't see how it is possible to set them only once.
+     * <p>
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public void getDisplayFramebufferScale(final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetDisplayFramebufferScale(dst, offset);
+    }
+
+    private native void nGetDisplayFramebufferScale(FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(&IO->DisplayFramebufferScale, dst + offset);
+    */
+
     /**
      * For retina display or other situations where window coordinates are different from framebuffer coordinates. This generally ends up in ImDrawData::FramebufferScale.
      * <p>
@@ -742,6 +860,34 @@ public final class ImGuiIO extends ImGuiStruct {
         Jni::ImVec2Cpy(env, &IO->MousePos, dstImVec2);
     */
 
+    /**
+     * Mouse position, in pixels. Set to ImVec2(-FLT_MAX, -FLT_MAX) if mouse is unavailable (on another screen, etc.)
+     * <p>
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public void getMousePos(final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetMousePos(dst, offset);
+    }
+
+    private native void nGetMousePos(float[] dst, int offset); /*
+        Jni::ImVec2Cpy(&IO->MousePos, dst + offset);
+    */
+
+    /**
+     * Mouse position, in pixels. Set to ImVec2(-FLT_MAX, -FLT_MAX) if mouse is unavailable (on another screen, etc.)
+     * <p>
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public void getMousePos(final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetMousePos(dst, offset);
+    }
+
+    private native void nGetMousePos(FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(&IO->MousePos, dst + offset);
+    */
+
     /**
      * Mouse position, in pixels. Set to ImVec2(-FLT_MAX, -FLT_MAX) if mouse is unavailable (on another screen, etc.)
      */
@@ -1180,6 +1326,34 @@ public final class ImGuiIO extends ImGuiStruct {
         Jni::ImVec2Cpy(env, &IO->MouseDelta, dstImVec2);
     */
 
+    /**
+     * Mouse delta. Note that this is zero if either current or previous position are invalid (-FLT_MAX,-FLT_MAX), so a disappearing/reappearing mouse won't have a huge delta.
+     * <p>
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public void getMouseDelta(final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetMouseDelta(dst, offset);
+    }
+
+    private native void nGetMouseDelta(float[] dst, int offset); /*
+        Jni::ImVec2Cpy(&IO->MouseDelta, dst + offset);
+    */
+
+    /**
+     * Mouse delta. Note that this is zero if either current or previous position are invalid (-FLT_MAX,-FLT_MAX), so a disappearing/reappearing mouse won't have a huge delta.
+     * <p>
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public void getMouseDelta(final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetMouseDelta(dst, offset);
+    }
+
+    private native void nGetMouseDelta(FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(&IO->MouseDelta, dst + offset);
+    */
+
     /**
      * Mouse delta. Note that this is zero if either current or previous position are invalid (-FLT_MAX,-FLT_MAX), so a disappearing/reappearing mouse won't have a huge delta.
      */
@@ -1202,6 +1376,82 @@ public final class ImGuiIO extends ImGuiStruct {
         IO->MouseDelta.y = y;
     */
 
+    //------------------------------------------------------------------
+    // Packed per-frame exchange
+    //------------------------------------------------------------------
+
+    /**
+     * Sets all per-frame inputs with one call: display size, framebuffer scale, delta time, mouse position and buttons,
+     * hovered viewport and optionally nav inputs. Layout of the buffer is described by FRAME_INPUT_OFFSET_* constants.
+     *
+     * @param input direct buffer in the native byte order of at least {@link #SIZEOF_FRAME_INPUT} bytes, read from its beginning
+     */
+    public void setFrameInput(final ByteBuffer input) {
+        checkFrameBuffer(input, SIZEOF_FRAME_INPUT);
+        nSetFrameInput(input);
+    }
+
+    private native void nSetFrameInput(ByteBuffer input); /*
+        const float* f = (const float*)input;
+        const int* i = (const int*)input;
+        IO->DisplaySize = ImVec2(f[0], f[1]);
+        if (f[2] > 0.0f && f[3] > 0.0f) {
+            IO->DisplayFramebufferScale = ImVec2(f[2], f[3]);
+        }
+        IO->DeltaTime = f[4];
+        IO->MousePos = ImVec2(f[5], f[6]);
+        for (int n = 0; n < ImGuiMouseButton_COUNT; n++) {
+            IO->MouseDown[n] = i[7 + n] != 0;
+        }
+        IO->MouseHoveredViewport = (ImGuiID)i[7 + ImGuiMouseButton_COUNT];
+        if (i[8 + ImGuiMouseButton_COUNT] != 0) {
+            memcpy(IO->NavInputs, &f[9 + ImGuiMouseButton_COUNT], sizeof(IO->NavInputs));
+        }
+    */
+
+    /**
+     * Writes a snapshot of the IO state used by backends and applications every frame with one call: config and backend flags,
+     * mouse position and draw cursor flag, all Want* flags, nav state, framerate and Metrics* values.
+     * Layout of the buffer is described by FRAME_OUTPUT_OFFSET_* constants.
+     *
+     * @param output direct buffer in the native byte order of at least {@link #SIZEOF_FRAME_OUTPUT} bytes, written from its beginning
+     */
+    public void getFrameOutput(final ByteBuffer output) {
+        checkFrameBuffer(output, SIZEOF_FRAME_OUTPUT);
+        nGetFrameOutput(output);
+    }
+
+    private native void nGetFrameOutput(ByteBuffer output); /*
+        float* f = (float*)output;
+        int* i = (int*)output;
+        i[0] = IO->ConfigFlags;
+        i[1] = IO->BackendFlags;
+        i[2] = IO->MouseDrawCursor;
+        f[3] = IO->MousePos.x;
+        f[4] = IO->MousePos.y;
+        i[5] = IO->WantCaptureMouse;
+        i[6] = IO->WantCaptureKeyboard;
+        i[7] = IO->WantTextInput;
+        i[8] = IO->WantSetMousePos;
+        i[9] = IO->WantSaveIniSettings;
+        i[10] = IO->NavActive;
+        i[11] = IO->NavVisible;
+        f[12] = IO->Framerate;
+        i[13] = IO->MetricsRenderVertices;
+        i[14] = IO->MetricsRenderIndices;
+        i[15] = IO->MetricsRenderWindows;
+        i[16] = IO->MetricsActiveWindows;
+        i[17] = IO->MetricsActiveAllocations;
+        f[18] = IO->MouseDelta.x;
+        f[19] = IO->MouseDelta.y;
+    */
+
+    private static void checkFrameBuffer(final ByteBuffer buffer, final int size) {
+        if (!buffer.isDirect() || buffer.capacity() < size) {
+            throw new IllegalArgumentException("Expected direct buffer of at least " + size + " bytes, got " + buffer);
+        }
+    }
+
     // Functions
 
     /**
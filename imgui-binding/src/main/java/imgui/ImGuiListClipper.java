@@ -1,5 +1,6 @@
 package imgui;
 
+import imgui.binding.ImGuiStructDestroyable;
 import imgui.callback.ImListClipperCallback;
 
 /**
@@ -24,7 +25,20 @@ import imgui.callback.ImListClipperCallback;
  * - The clipper also handles various subtleties related to keyboard/gamepad navigation, wrapping etc.
  * <p>
  * BINDING NOTICE:
- * It's impossible to implement the same API like in the original. Method {@link #forEach(int, int, ImListClipperCallback)} could be used instead.
+ * The clipper object is natively allocated, so it should be reused between frames and freed with {@link #destroy()} method.
+ * Display range is read once per step, since every getter is a native call.
+ * <pre>
+ *     clipper.begin(1000);
+ *     while (clipper.step()) {
+ *         final int start = clipper.getDisplayStart();
+ *         final int end = clipper.getDisplayEnd();
+ *         for (int i = start; i {@code <} end; i++) {
+ *             ImGui.text(String.format("line number %d", i));
+ *         }
+ *     }
+ * </pre>
+ * Method {@link #forEach(int, int, ImListClipperCallback)} could be used as well. It calls the Java callback from the native code for every item,
+ * which is more expensive than the loop above.
  * <pre>
  *     ImGuiListClipper.forEach(1000, new ImListClipperCallback() {
  *         public void accept(int index) {
@@ -33,13 +47,97 @@ import imgui.callback.ImListClipperCallback;
  *     });
  * </pre>
  */
-public final class ImGuiListClipper {
-    private ImGuiListClipper() {
+public final class ImGuiListClipper extends ImGuiStructDestroyable {
+    public ImGuiListClipper() {
+        super();
+    }
+
+    public ImGuiListClipper(final long ptr) {
+        super(ptr);
     }
 
     /*JNI
         #include "_common.h"
+
+        #define IMGUI_LIST_CLIPPER ((ImGuiListClipper*)STRUCT_PTR)
+     */
+
+    @Override
+    protected long create() {
+        return nCreate();
+    }
+
+    private native long nCreate(); /*
+        return (intptr_t)(new ImGuiListClipper());
+    */
+
+    /**
+     * @param itemsCount Use INT_MAX if you don't know how many items you have (in which case the cursor won't be advanced in the final step).
+     */
+    public native void begin(int itemsCount); /*
+        IMGUI_LIST_CLIPPER->Begin(itemsCount);
+    */
+
+    /**
+     * @param itemsCount  Use INT_MAX if you don't know how many items you have (in which case the cursor won't be advanced in the final step).
+     * @param itemsHeight Use -1.0f to be calculated automatically on first step.
+     *                    Otherwise pass in the distance between your items, typically GetTextLineHeightWithSpacing() or GetFrameHeightWithSpacing().
+     */
+    public native void begin(int itemsCount, float itemsHeight); /*
+        IMGUI_LIST_CLIPPER->Begin(itemsCount, itemsHeight);
+    */
+
+    /**
+     * Automatically called on the last call of Step() that returns false.
+     */
+    public native void end(); /*
+        IMGUI_LIST_CLIPPER->End();
+    */
+
+    /**
+     * Call until it returns false. The DisplayStart/DisplayEnd fields will be set and you can process/draw those items.
+     */
+    public native boolean step(); /*
+        return IMGUI_LIST_CLIPPER->Step();
+    */
+
+    /**
+     * Call ForceDisplayRangeByIndices() before first call to Step() if you need a range of items to be displayed regardless of visibility.
+     *
+     * @param itemMin first item to display
+     * @param itemMax item after the last item to display (exclusive)
+     */
+    public native void forceDisplayRangeByIndices(int itemMin, int itemMax); /*
+        IMGUI_LIST_CLIPPER->ForceDisplayRangeByIndices(itemMin, itemMax);
+    */
+
+    /**
+     * First item to display, updated by each call to Step()
+     */
+    public native int getDisplayStart(); /*
+        return IMGUI_LIST_CLIPPER->DisplayStart;
+    */
+
+    /**
+     * End of items to display (exclusive)
+     */
+    public native int getDisplayEnd(); /*
+        return IMGUI_LIST_CLIPPER->DisplayEnd;
+    */
+
+    /**
+     * [Internal] Number of items
+     */
+    public native int getItemsCount(); /*
+        return IMGUI_LIST_CLIPPER->ItemsCount;
+    */
+
+    /**
+     * [Internal] Height of item after a first step and item submission can calculate it
      */
+    public native float getItemsHeight(); /*
+        return IMGUI_LIST_CLIPPER->ItemsHeight;
+    */
 
     /**
      * @param itemsCount Use -1 to ignore (you can call Begin later).
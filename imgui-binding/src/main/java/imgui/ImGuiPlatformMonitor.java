@@ -2,6 +2,8 @@ package imgui;
 
 import imgui.binding.ImGuiStruct;
 
+import java.nio.FloatBuffer;
+
 /**
  * (Optional) This is required when enabling multi-viewport. Represent the bounds of each connected monitor/display and their DPI.
  * We use this information for multiple DPI support + clamping the position of popups and tooltips so they don't straddle multiple monitors.
@@ -24,6 +26,34 @@ public final class ImGuiPlatformMonitor extends ImGuiStruct {
         Jni::ImVec2Cpy(env, &IMGUI_PLATFORM_MONITOR->MainPos, dstImVec2);
     */
 
+    /**
+     * Coordinates of the area displayed on this monitor (Min = upper left, Max = bottom right)
+     * <p>
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public void getMainPos(final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetMainPos(dst, offset);
+    }
+
+    private native void nGetMainPos(float[] dst, int offset); /*
+        Jni::ImVec2Cpy(&IMGUI_PLATFORM_MONITOR->MainPos, dst + offset);
+    */
+
+    /**
+     * Coordinates of the area displayed on this monitor (Min = upper left, Max = bottom right)
+     * <p>
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public void getMainPos(final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetMainPos(dst, offset);
+    }
+
+    private native void nGetMainPos(FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(&IMGUI_PLATFORM_MONITOR->MainPos, dst + offset);
+    */
+
     /**
      * Coordinates of the area displayed on this monitor (Min = upper left, Max = bottom right)
      */
@@ -49,6 +79,34 @@ public final class ImGuiPlatformMonitor extends ImGuiStruct {
         Jni::ImVec2Cpy(env, &IMGUI_PLATFORM_MONITOR->MainSize, dstImVec2);
     */
 
+    /**
+     * Coordinates of the area displayed on this monitor (Min = upper left, Max = bottom right)
+     * <p>
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public void getMainSize(final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetMainSize(dst, offset);
+    }
+
+    private native void nGetMainSize(float[] dst, int offset); /*
+        Jni::ImVec2Cpy(&IMGUI_PLATFORM_MONITOR->MainSize, dst + offset);
+    */
+
+    /**
+     * Coordinates of the area displayed on this monitor (Min = upper left, Max = bottom right)
+     * <p>
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public void getMainSize(final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetMainSize(dst, offset);
+    }
+
+    private native void nGetMainSize(FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(&IMGUI_PLATFORM_MONITOR->MainSize, dst + offset);
+    */
+
     /**
      * Coordinates of the area displayed on this monitor (Min = upper left, Max = bottom right)
      */
@@ -78,6 +136,36 @@ public final class ImGuiPlatformMonitor extends ImGuiStruct {
         Jni::ImVec2Cpy(env, &IMGUI_PLATFORM_MONITOR->WorkPos, dstImVec2);
     */
 
+    /**
+     * Coordinates without task bars / side bars / menu bars.
+     * Used to avoid positioning popups/tooltips inside this region. If you don't have this info, please copy the value for MainPos/MainSize.
+     * <p>
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public void getWorkPos(final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetWorkPos(dst, offset);
+    }
+
+    private native void nGetWorkPos(float[] dst, int offset); /*
+        Jni::ImVec2Cpy(&IMGUI_PLATFORM_MONITOR->WorkPos, dst + offset);
+    */
+
+    /**
+     * Coordinates without task bars / side bars / menu bars.
+     * Used to avoid positioning popups/tooltips inside this region. If you don't have this info, please copy the value for MainPos/MainSize.
+     * <p>
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public void getWorkPos(final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetWorkPos(dst, offset);
+    }
+
+    private native void nGetWorkPos(FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(&IMGUI_PLATFORM_MONITOR->WorkPos, dst + offset);
+    */
+
     /**
      * Coordinates without task bars / side bars / menu bars.
      * Used to avoid positioning popups/tooltips inside this region. If you don't have this info, please copy the value for MainPos/MainSize.
@@ -110,6 +198,36 @@ public final class ImGuiPlatformMonitor extends ImGuiStruct {
         Jni::ImVec2Cpy(env, &IMGUI_PLATFORM_MONITOR->WorkSize, dstImVec2);
     */
 
+    /**
+     * Coordinates without task bars / side bars / menu bars.
+     * Used to avoid positioning popups/tooltips inside this region. If you don't have this info, please copy the value for MainPos/MainSize.
+     * <p>
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public void getWorkSize(final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetWorkSize(dst, offset);
+    }
+
+    private native void nGetWorkSize(float[] dst, int offset); /*
+        Jni::ImVec2Cpy(&IMGUI_PLATFORM_MONITOR->WorkSize, dst + offset);
+    */
+
+    /**
+     * Coordinates without task bars / side bars / menu bars.
+     * Used to avoid positioning popups/tooltips inside this region. If you don't have this info, please copy the value for MainPos/MainSize.
+     * <p>
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public void getWorkSize(final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetWorkSize(dst, offset);
+    }
+
+    private native void nGetWorkSize(FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(&IMGUI_PLATFORM_MONITOR->WorkSize, dst + offset);
+    */
+
     /**
      * Coordinates without task bars / side bars / menu bars.
      * Used to avoid positioning popups/tooltips inside this region. If you don't have this info, please copy the value for MainPos/MainSize.
@@ -3,6 +3,8 @@ package imgui;
 import imgui.binding.ImGuiStructDestroyable;
 import imgui.flag.ImGuiCol;
 
+import java.nio.FloatBuffer;
+
 /**
  * You may modify the ImGui::GetStyle() main instance during initialization and before NewFrame().
  * During the frame, use ImGui::PushStyleVar(ImGuiStyleVar_XXXX)/PopStyleVar() to alter the main style values,
@@ -75,6 +77,34 @@ public final class ImGuiStyle extends ImGuiStructDestroyable {
         Jni::ImVec2Cpy(env, &IMGUI_STYLE->WindowPadding, dstImVec2);
     */
 
+    /**
+     * Padding within a window.
+     * <p>
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public void getWindowPadding(final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetWindowPadding(dst, offset);
+    }
+
+    private native void nGetWindowPadding(float[] dst, int offset); /*
+        Jni::ImVec2Cpy(&IMGUI_STYLE->WindowPadding, dst + offset);
+    */
+
+    /**
+     * Padding within a window.
+     * <p>
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public void getWindowPadding(final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetWindowPadding(dst, offset);
+    }
+
+    private native void nGetWindowPadding(FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(&IMGUI_STYLE->WindowPadding, dst + offset);
+    */
+
     /**
      * Padding within a window.
      */
@@ -143,6 +173,34 @@ public final class ImGuiStyle extends ImGuiStructDestroyable {
         Jni::ImVec2Cpy(env, &IMGUI_STYLE->WindowMinSize, dstImVec2);
     */
 
+    /**
+     * Minimum window size. This is a global setting. If you want to constraint individual windows, use SetNextWindowSizeConstraints().
+     * <p>
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public void getWindowMinSize(final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetWindowMinSize(dst, offset);
+    }
+
+    private native void nGetWindowMinSize(float[] dst, int offset); /*
+        Jni::ImVec2Cpy(&IMGUI_STYLE->WindowMinSize, dst + offset);
+    */
+
+    /**
+     * Minimum window size. This is a global setting. If you want to constraint individual windows, use SetNextWindowSizeConstraints().
+     * <p>
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public void getWindowMinSize(final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetWindowMinSize(dst, offset);
+    }
+
+    private native void nGetWindowMinSize(FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(&IMGUI_STYLE->WindowMinSize, dst + offset);
+    */
+
     /**
      * Minimum window size. This is a global setting. If you want to constraint individual windows, use SetNextWindowSizeConstraints().
      */
@@ -181,6 +239,34 @@ public final class ImGuiStyle extends ImGuiStructDestroyable {
         Jni::ImVec2Cpy(env, &IMGUI_STYLE->WindowTitleAlign, dstImVec2);
     */
 
+    /**
+     * Alignment for title bar text. Defaults to (0.0f,0.5f) for left-aligned,vertically centered.
+     * <p>
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public void getWindowTitleAlign(final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetWindowTitleAlign(dst, offset);
+    }
+
+    private native void nGetWindowTitleAlign(float[] dst, int offset); /*
+        Jni::ImVec2Cpy(&IMGUI_STYLE->WindowTitleAlign, dst + offset);
+    */
+
+    /**
+     * Alignment for title bar text. Defaults to (0.0f,0.5f) for left-aligned,vertically centered.
+     * <p>
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public void getWindowTitleAlign(final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetWindowTitleAlign(dst, offset);
+    }
+
+    private native void nGetWindowTitleAlign(FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(&IMGUI_STYLE->WindowTitleAlign, dst + offset);
+    */
+
     /**
      * Alignment for title bar text. Defaults to (0.0f,0.5f) for left-aligned,vertically centered.
      */
@@ -289,6 +375,34 @@ public final class ImGuiStyle extends ImGuiStructDestroyable {
         Jni::ImVec2Cpy(env, &IMGUI_STYLE->FramePadding, dstImVec2);
     */
 
+    /**
+     * Padding within a framed rectangle (used by most widgets).
+     * <p>
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public void getFramePadding(final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetFramePadding(dst, offset);
+    }
+
+    private native void nGetFramePadding(float[] dst, int offset); /*
+        Jni::ImVec2Cpy(&IMGUI_STYLE->FramePadding, dst + offset);
+    */
+
+    /**
+     * Padding within a framed rectangle (used by most widgets).
+     * <p>
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public void getFramePadding(final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetFramePadding(dst, offset);
+    }
+
+    private native void nGetFramePadding(FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(&IMGUI_STYLE->FramePadding, dst + offset);
+    */
+
     /**
      * Padding within a framed rectangle (used by most widgets).
      */
@@ -355,6 +469,34 @@ public final class ImGuiStyle extends ImGuiStructDestroyable {
         Jni::ImVec2Cpy(env, &IMGUI_STYLE->ItemSpacing, dstImVec2);
     */
 
+    /**
+     * Horizontal and vertical spacing between widgets/lines.
+     * <p>
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public void getItemSpacing(final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetItemSpacing(dst, offset);
+    }
+
+    private native void nGetItemSpacing(float[] dst, int offset); /*
+        Jni::ImVec2Cpy(&IMGUI_STYLE->ItemSpacing, dst + offset);
+    */
+
+    /**
+     * Horizontal and vertical spacing between widgets/lines.
+     * <p>
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public void getItemSpacing(final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetItemSpacing(dst, offset);
+    }
+
+    private native void nGetItemSpacing(FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(&IMGUI_STYLE->ItemSpacing, dst + offset);
+    */
+
     /**
      * Horizontal and vertical spacing between widgets/lines.
      */
@@ -393,6 +535,34 @@ public final class ImGuiStyle extends ImGuiStructDestroyable {
         Jni::ImVec2Cpy(env, &IMGUI_STYLE->ItemInnerSpacing, dstImVec2);
     */
 
+    /**
+     * Horizontal and vertical spacing between within elements of a composed widget (e.g. a slider and its label).
+     * <p>
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public void getItemInnerSpacing(final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetItemInnerSpacing(dst, offset);
+    }
+
+    private native void nGetItemInnerSpacing(float[] dst, int offset); /*
+        Jni::ImVec2Cpy(&IMGUI_STYLE->ItemInnerSpacing, dst + offset);
+    */
+
+    /**
+     * Horizontal and vertical spacing between within elements of a composed widget (e.g. a slider and its label).
+     * <p>
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public void getItemInnerSpacing(final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetItemInnerSpacing(dst, offset);
+    }
+
+    private native void nGetItemInnerSpacing(FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(&IMGUI_STYLE->ItemInnerSpacing, dst + offset);
+    */
+
     /**
      * Horizontal and vertical spacing between within elements of a composed widget (e.g. a slider and its label).
      */
@@ -431,6 +601,34 @@ public final class ImGuiStyle extends ImGuiStructDestroyable {
         Jni::ImVec2Cpy(env, &IMGUI_STYLE->CellPadding, dstImVec2);
     */
 
+    /**
+     * Padding within a table cell.
+     * <p>
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public void getCellPadding(final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetCellPadding(dst, offset);
+    }
+
+    private native void nGetCellPadding(float[] dst, int offset); /*
+        Jni::ImVec2Cpy(&IMGUI_STYLE->CellPadding, dst + offset);
+    */
+
+    /**
+     * Padding within a table cell.
+     * <p>
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public void getCellPadding(final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetCellPadding(dst, offset);
+    }
+
+    private native void nGetCellPadding(FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(&IMGUI_STYLE->CellPadding, dst + offset);
+    */
+
     /**
      * Padding within a table cell.
      */
@@ -471,6 +669,36 @@ public final class ImGuiStyle extends ImGuiStructDestroyable {
         Jni::ImVec2Cpy(env, &IMGUI_STYLE->TouchExtraPadding, dstImVec2);
     */
 
+    /**
+     * Expand reactive bounding box for touch-based system where touch position is not accurate enough.
+     * Unfortunately we don't sort widgets so priority on overlap will always be given to the first widget. So don't grow this too much!
+     * <p>
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public void getTouchExtraPadding(final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetTouchExtraPadding(dst, offset);
+    }
+
+    private native void nGetTouchExtraPadding(float[] dst, int offset); /*
+        Jni::ImVec2Cpy(&IMGUI_STYLE->TouchExtraPadding, dst + offset);
+    */
+
+    /**
+     * Expand reactive bounding box for touch-based system where touch position is not accurate enough.
+     * Unfortunately we don't sort widgets so priority on overlap will always be given to the first widget. So don't grow this too much!
+     * <p>
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public void getTouchExtraPadding(final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetTouchExtraPadding(dst, offset);
+    }
+
+    private native void nGetTouchExtraPadding(FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(&IMGUI_STYLE->TouchExtraPadding, dst + offset);
+    */
+
     /**
      * Expand reactive bounding box for touch-based system where touch position is not accurate enough.
      * Unfortunately we don't sort widgets so priority on overlap will always be given to the first widget. So don't grow this too much!
@@ -668,6 +896,34 @@ public final class ImGuiStyle extends ImGuiStructDestroyable {
         Jni::ImVec2Cpy(env, &IMGUI_STYLE->ButtonTextAlign, dstImVec2);
     */
 
+    /**
+     * Alignment of button text when button is larger than text. Defaults to (0.5f, 0.5f) (centered).
+     * <p>
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public void getButtonTextAlign(final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetButtonTextAlign(dst, offset);
+    }
+
+    private native void nGetButtonTextAlign(float[] dst, int offset); /*
+        Jni::ImVec2Cpy(&IMGUI_STYLE->ButtonTextAlign, dst + offset);
+    */
+
+    /**
+     * Alignment of button text when button is larger than text. Defaults to (0.5f, 0.5f) (centered).
+     * <p>
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public void getButtonTextAlign(final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetButtonTextAlign(dst, offset);
+    }
+
+    private native void nGetButtonTextAlign(FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(&IMGUI_STYLE->ButtonTextAlign, dst + offset);
+    */
+
     /**
      * Alignment of button text when button is larger than text. Defaults to (0.5f, 0.5f) (centered).
      */
@@ -708,6 +964,36 @@ public final class ImGuiStyle extends ImGuiStructDestroyable {
         Jni::ImVec2Cpy(env, &IMGUI_STYLE->SelectableTextAlign, dstImVec2);
     */
 
+    /**
+     * Alignment of selectable text. Defaults to (0.0f, 0.0f) (top-left aligned).
+     * It's generally important to keep this left-aligned if you want to lay multiple items on a same line.
+     * <p>
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public void getSelectableTextAlign(final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetSelectableTextAlign(dst, offset);
+    }
+
+    private native void nGetSelectableTextAlign(float[] dst, int offset); /*
+        Jni::ImVec2Cpy(&IMGUI_STYLE->SelectableTextAlign, dst + offset);
+    */
+
+    /**
+     * Alignment of selectable text. Defaults to (0.0f, 0.0f) (top-left aligned).
+     * It's generally important to keep this left-aligned if you want to lay multiple items on a same line.
+     * <p>
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public void getSelectableTextAlign(final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetSelectableTextAlign(dst, offset);
+    }
+
+    private native void nGetSelectableTextAlign(FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(&IMGUI_STYLE->SelectableTextAlign, dst + offset);
+    */
+
     /**
      * Alignment of selectable text. Defaults to (0.0f, 0.0f) (top-left aligned).
      * It's generally important to keep this left-aligned if you want to lay multiple items on a same line.
@@ -749,6 +1035,34 @@ public final class ImGuiStyle extends ImGuiStructDestroyable {
         Jni::ImVec2Cpy(env, &IMGUI_STYLE->DisplayWindowPadding, dstImVec2);
     */
 
+    /**
+     * Window position are clamped to be visible within the display area by at least this amount. Only applies to regular windows.
+     * <p>
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public void getDisplayWindowPadding(final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetDisplayWindowPadding(dst, offset);
+    }
+
+    private native void nGetDisplayWindowPadding(float[] dst, int offset); /*
+        Jni::ImVec2Cpy(&IMGUI_STYLE->DisplayWindowPadding, dst + offset);
+    */
+
+    /**
+     * Window position are clamped to be visible within the display area by at least this amount. Only applies to regular windows.
+     * <p>
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public void getDisplayWindowPadding(final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetDisplayWindowPadding(dst, offset);
+    }
+
+    private native void nGetDisplayWindowPadding(FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(&IMGUI_STYLE->DisplayWindowPadding, dst + offset);
+    */
+
     /**
      * Window position are clamped to be visible within the display area by at least this amount. Only applies to regular windows.
      */
@@ -789,6 +1103,36 @@ public final class ImGuiStyle extends ImGuiStructDestroyable {
         Jni::ImVec2Cpy(env, &IMGUI_STYLE->DisplaySafeAreaPadding, dstImVec2);
     */
 
+    /**
+     * If you cannot see the edges of your screen (e.g. on a TV) increase the safe area padding.
+     * Apply to popups/tooltips as well regular windows. NB: Prefer configuring your TV sets correctly!
+     * <p>
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public void getDisplaySafeAreaPadding(final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetDisplaySafeAreaPadding(dst, offset);
+    }
+
+    private native void nGetDisplaySafeAreaPadding(float[] dst, int offset); /*
+        Jni::ImVec2Cpy(&IMGUI_STYLE->DisplaySafeAreaPadding, dst + offset);
+    */
+
+    /**
+     * If you cannot see the edges of your screen (e.g. on a TV) increase the safe area padding.
+     * Apply to popups/tooltips as well regular windows. NB: Prefer configuring your TV sets correctly!
+     * <p>
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public void getDisplaySafeAreaPadding(final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetDisplaySafeAreaPadding(dst, offset);
+    }
+
+    private native void nGetDisplaySafeAreaPadding(FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(&IMGUI_STYLE->DisplaySafeAreaPadding, dst + offset);
+    */
+
     /**
      * If you cannot see the edges of your screen (e.g. on a TV) increase the safe area padding.
      * Apply to popups/tooltips as well regular windows. NB: Prefer configuring your TV sets correctly!
@@ -960,6 +1304,24 @@ public final class ImGuiStyle extends ImGuiStructDestroyable {
         Jni::ImVec4Cpy(env, IMGUI_STYLE->Colors[imGuiCol], dstImVec4);
     */
 
+    public void getColor(final int imGuiCol, final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 4);
+        nGetColor(imGuiCol, dst, offset);
+    }
+
+    private native void nGetColor(int imGuiCol, float[] dst, int offset); /*
+        Jni::ImVec4Cpy(IMGUI_STYLE->Colors[imGuiCol], dst + offset);
+    */
+
+    public void getColor(final int imGuiCol, final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 4);
+        nGetColor(imGuiCol, dst, offset);
+    }
+
+    private native void nGetColor(int imGuiCol, FloatBuffer dst, int offset); /*
+        Jni::ImVec4Cpy(IMGUI_STYLE->Colors[imGuiCol], dst + offset);
+    */
+
     public native void setColor(int imGuiCol, float r, float g, float b, float a); /*
         IMGUI_STYLE->Colors[imGuiCol] = ImColor((float)r, (float)g, (float)b, (float)a);
     */
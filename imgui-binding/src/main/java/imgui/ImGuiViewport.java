@@ -2,6 +2,8 @@ package imgui;
 
 import imgui.binding.ImGuiStruct;
 
+import java.nio.FloatBuffer;
+
 /**
  * The viewports created and managed by Dear ImGui. The role of the platform backend is to create the platform/OS windows corresponding to each viewport.
  * - Main Area = entire viewport.
@@ -85,6 +87,34 @@ public final class ImGuiViewport extends ImGuiStruct {
         Jni::ImVec2Cpy(env, &IMGUI_VIEWPORT->Pos, dstImVec2);
     */
 
+    /**
+     * Main Area: Position of the viewport (the imgui coordinates are the same as OS desktop/native coordinates).
+     * <p>
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public void getPos(final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetPos(dst, offset);
+    }
+
+    private native void nGetPos(float[] dst, int offset); /*
+        Jni::ImVec2Cpy(&IMGUI_VIEWPORT->Pos, dst + offset);
+    */
+
+    /**
+     * Main Area: Position of the viewport (the imgui coordinates are the same as OS desktop/native coordinates).
+     * <p>
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public void getPos(final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetPos(dst, offset);
+    }
+
+    private native void nGetPos(FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(&IMGUI_VIEWPORT->Pos, dst + offset);
+    */
+
     /**
      * Main Area: Position of the viewport (the imgui coordinates are the same as OS desktop/native coordinates).
      */
@@ -122,6 +152,34 @@ public final class ImGuiViewport extends ImGuiStruct {
         Jni::ImVec2Cpy(env, &IMGUI_VIEWPORT->Size, dstImVec2);
     */
 
+    /**
+     * Main Area: Size of the viewport.
+     * <p>
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public void getSize(final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetSize(dst, offset);
+    }
+
+    private native void nGetSize(float[] dst, int offset); /*
+        Jni::ImVec2Cpy(&IMGUI_VIEWPORT->Size, dst + offset);
+    */
+
+    /**
+     * Main Area: Size of the viewport.
+     * <p>
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public void getSize(final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetSize(dst, offset);
+    }
+
+    private native void nGetSize(FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(&IMGUI_VIEWPORT->Size, dst + offset);
+    */
+
     /**
      * Main Area: Size of the viewport.
      */
@@ -159,6 +217,34 @@ public final class ImGuiViewport extends ImGuiStruct {
         Jni::ImVec2Cpy(env, IMGUI_VIEWPORT->WorkPos, dstImVec2);
     */
 
+    /**
+     * Work Area: Position of the viewport minus task bars, menus bars, status bars.
+     * <p>
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public void getWorkPos(final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetWorkPos(dst, offset);
+    }
+
+    private native void nGetWorkPos(float[] dst, int offset); /*
+        Jni::ImVec2Cpy(IMGUI_VIEWPORT->WorkPos, dst + offset);
+    */
+
+    /**
+     * Work Area: Position of the viewport minus task bars, menus bars, status bars.
+     * <p>
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public void getWorkPos(final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetWorkPos(dst, offset);
+    }
+
+    private native void nGetWorkPos(FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(IMGUI_VIEWPORT->WorkPos, dst + offset);
+    */
+
     /**
      * Work Area: Position of the viewport minus task bars, menus bars, status bars.
      */
@@ -196,6 +282,34 @@ public final class ImGuiViewport extends ImGuiStruct {
         Jni::ImVec2Cpy(env, IMGUI_VIEWPORT->WorkSize, dstImVec2);
     */
 
+    /**
+     * Work Area: Size of the viewport minus task bars, menu bars, status bars.
+     * <p>
+     * Writes x and y into dst[offset] and dst[offset + 1].
+     */
+    public void getWorkSize(final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetWorkSize(dst, offset);
+    }
+
+    private native void nGetWorkSize(float[] dst, int offset); /*
+        Jni::ImVec2Cpy(IMGUI_VIEWPORT->WorkSize, dst + offset);
+    */
+
+    /**
+     * Work Area: Size of the viewport minus task bars, menu bars, status bars.
+     * <p>
+     * Writes x and y into the direct buffer at absolute indices offset and offset + 1. Buffer position is ignored.
+     */
+    public void getWorkSize(final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetWorkSize(dst, offset);
+    }
+
+    private native void nGetWorkSize(FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(IMGUI_VIEWPORT->WorkSize, dst + offset);
+    */
+
     /**
      * Work Area: Size of the viewport minus task bars, menu bars, status bars.
      */
@@ -378,6 +492,24 @@ public final class ImGuiViewport extends ImGuiStruct {
         Jni::ImVec2Cpy(env, IMGUI_VIEWPORT->GetCenter(), dstImVec2);
     */
 
+    public void getCenter(final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetCenter(dst, offset);
+    }
+
+    private native void nGetCenter(float[] dst, int offset); /*
+        Jni::ImVec2Cpy(IMGUI_VIEWPORT->GetCenter(), dst + offset);
+    */
+
+    public void getCenter(final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetCenter(dst, offset);
+    }
+
+    private native void nGetCenter(FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(IMGUI_VIEWPORT->GetCenter(), dst + offset);
+    */
+
     public native float getCenterX(); /*
         return IMGUI_VIEWPORT->GetCenter().x;
     */
@@ -396,6 +528,24 @@ public final class ImGuiViewport extends ImGuiStruct {
         Jni::ImVec2Cpy(env, IMGUI_VIEWPORT->GetWorkCenter(), dstImVec2);
     */
 
+    public void getWorkCenter(final float[] dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetWorkCenter(dst, offset);
+    }
+
+    private native void nGetWorkCenter(float[] dst, int offset); /*
+        Jni::ImVec2Cpy(IMGUI_VIEWPORT->GetWorkCenter(), dst + offset);
+    */
+
+    public void getWorkCenter(final FloatBuffer dst, final int offset) {
+        ImVecDst.check(dst, offset, 2);
+        nGetWorkCenter(dst, offset);
+    }
+
+    private native void nGetWorkCenter(FloatBuffer dst, int offset); /*
+        Jni::ImVec2Cpy(IMGUI_VIEWPORT->GetWorkCenter(), dst + offset);
+    */
+
     public native float getWorkCenterX(); /*
         return IMGUI_VIEWPORT->GetWorkCenter().x;
     */
@@ -0,0 +1,83 @@
+package imgui;
+
+import imgui.binding.ImGuiStructDestroyable;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Immutable label (or any other widget text) stored natively as a null-terminated UTF-8 string.
+ * Methods which accept a label handle pass its pointer to Dear ImGui directly, so the string isn't converted on every call.
+ * Useful for static labels of widgets drawn every frame:
+ * <pre>
+ *     private static final ImLabel SAVE = new ImLabel("Save##toolbar");
+ *     ...
+ *     if (ImGui.button(SAVE)) {
+ *         save();
+ *     }
+ * </pre>
+ * Native memory should be freed with the {@link #destroy()} method, when the label is not used anymore.
+ */
+public final class ImLabel extends ImGuiStructDestroyable {
+    private final String text;
+
+    public ImLabel(final String text) {
+        super(0);
+        this.text = text;
+        final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        ptr = nCreate(bytes, bytes.length);
+    }
+
+    /*JNI
+        #include "_common.h"
+     */
+
+    @Override
+    protected long create() {
+        return nCreate(new byte[0], 0);
+    }
+
+    private native long nCreate(byte[] bytes, int length); /*
+        char* str = new char[length + 1];
+        memcpy(str, bytes, length);
+        str[length] = '\0';
+        return (intptr_t)str;
+    */
+
+    /**
+     * @return text of the label
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * @return pointer to the native string
+     * @throws IllegalStateException if the label is destroyed
+     */
+    long getStrPtr() {
+        if (ptr == 0) {
+            throw new IllegalStateException("Label is destroyed: " + text);
+        }
+        return ptr;
+    }
+
+    /**
+     * Frees the native copy of the label. Passing the label to any method after that throws an {@link IllegalStateException}.
+     */
+    @Override
+    public void destroy() {
+        if (ptr != 0) {
+            nDestroy(ptr);
+            ptr = 0;
+        }
+    }
+
+    private native void nDestroy(long ptr); /*
+        delete[] (char*)ptr;
+    */
+
+    @Override
+    public String toString() {
+        return text;
+    }
+}
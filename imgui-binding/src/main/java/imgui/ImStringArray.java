@@ -0,0 +1,196 @@
+package imgui;
+
+import imgui.binding.ImGuiStructDestroyable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Array of strings stored natively as null-terminated UTF-8 strings, which could be passed to Dear ImGui as the {@code const char* const items[]}.
+ * Used by {@link ImGui#combo(String, imgui.type.ImInt, ImStringArray)}, {@link ImGui#listBox(String, imgui.type.ImInt, ImStringArray)}
+ * and {@link imgui.extension.implot.ImPlot#plotPieChart(ImStringArray, double[], double, double, double)}.
+ * Those methods pass the array as is, so their cost doesn't depend on the amount of items, when the widget doesn't show them.
+ * <p>
+ * The array is modified incrementally: only changed items are converted and copied into the native memory.
+ * Native memory should be freed with the {@link #destroy()} method, when the array is not used anymore.
+ */
+public final class ImStringArray extends ImGuiStructDestroyable {
+    private final List<String> items = new ArrayList<>();
+
+    public ImStringArray() {
+        super(0);
+        ptr = nCreate();
+    }
+
+    public ImStringArray(final List<String> items) {
+        this();
+        addAll(items);
+    }
+
+    public ImStringArray(final String... items) {
+        this();
+        for (final String item : items) {
+            add(item);
+        }
+    }
+
+    /*JNI
+        #include "_common.h"
+
+        #define IM_STRING_ARRAY ((ImVector<char*>*)STRUCT_PTR)
+
+        static char* CopyString(JNIEnv* env, jbyteArray bytes, int length) {
+            char* str = new char[length + 1];
+            env->GetByteArrayRegion(bytes, 0, length, (jbyte*)str);
+            str[length] = '\0';
+            return str;
+        }
+     */
+
+    @Override
+    protected long create() {
+        return nCreate();
+    }
+
+    private native long nCreate(); /*
+        return (intptr_t)(new ImVector<char*>());
+    */
+
+    /**
+     * @return amount of items
+     */
+    public int size() {
+        return items.size();
+    }
+
+    public String get(final int idx) {
+        return items.get(idx);
+    }
+
+    /**
+     * @return unmodifiable view of items
+     */
+    public List<String> getItems() {
+        return Collections.unmodifiableList(items);
+    }
+
+    public void add(final String item) {
+        add(items.size(), item);
+    }
+
+    public void add(final int idx, final String item) {
+        if (idx < 0 || idx > items.size()) {
+            throw new IndexOutOfBoundsException("Index: " + idx + ", Size: " + items.size());
+        }
+        checkNotDestroyed();
+        items.add(idx, item);
+        final byte[] bytes = item.getBytes(StandardCharsets.UTF_8);
+        nInsert(idx, bytes, bytes.length);
+    }
+
+    private native void nInsert(int idx, byte[] bytesObj, int length); /*MANUAL
+        ImVector<char*>* v = IM_STRING_ARRAY;
+        v->insert(v->Data + idx, CopyString(env, bytesObj, length));
+    */
+
+    public void addAll(final List<String> newItems) {
+        for (final String item : newItems) {
+            add(item);
+        }
+    }
+
+    /**
+     * Replaces the item. Nothing is copied if the item is equal to the current one.
+     */
+    public void set(final int idx, final String item) {
+        if (items.get(idx).equals(item)) {
+            return;
+        }
+        checkNotDestroyed();
+        items.set(idx, item);
+        final byte[] bytes = item.getBytes(StandardCharsets.UTF_8);
+        nSet(idx, bytes, bytes.length);
+    }
+
+    private native void nSet(int idx, byte[] bytesObj, int length); /*MANUAL
+        ImVector<char*>* v = IM_STRING_ARRAY;
+        delete[] v->Data[idx];
+        v->Data[idx] = CopyString(env, bytesObj, length);
+    */
+
+    /**
+     * Makes the array equal to the provided list. Only changed items are copied, so the method is cheap to call every frame
+     * for a list which is rarely changed.
+     */
+    public void setAll(final List<String> newItems) {
+        final int common = Math.min(items.size(), newItems.size());
+        for (int i = 0; i < common; i++) {
+            set(i, newItems.get(i));
+        }
+        while (items.size() > newItems.size()) {
+            remove(items.size() - 1);
+        }
+        for (int i = items.size(); i < newItems.size(); i++) {
+            add(newItems.get(i));
+        }
+    }
+
+    public void remove(final int idx) {
+        checkNotDestroyed();
+        items.remove(idx);
+        nRemove(idx);
+    }
+
+    private native void nRemove(int idx); /*
+        ImVector<char*>* v = IM_STRING_ARRAY;
+        delete[] v->Data[idx];
+        v->erase(v->Data + idx);
+    */
+
+    public void clear() {
+        checkNotDestroyed();
+        items.clear();
+        nClear();
+    }
+
+    private native void nClear(); /*
+        ImVector<char*>* v = IM_STRING_ARRAY;
+        for (int i = 0; i < v->Size; i++) {
+            delete[] v->Data[i];
+        }
+        v->clear();
+    */
+
+    /**
+     * @return pointer to the native {@code ImVector<char*>} with items
+     * @throws IllegalStateException if the array is destroyed
+     */
+    public long getItemsPtr() {
+        checkNotDestroyed();
+        return ptr;
+    }
+
+    private void checkNotDestroyed() {
+        if (ptr == 0) {
+            throw new IllegalStateException("String array is destroyed");
+        }
+    }
+
+    /**
+     * Frees native memory of the array. Modifying the array or passing it to any method after that throws an {@link IllegalStateException}.
+     */
+    @Override
+    public void destroy() {
+        if (ptr != 0) {
+            clear();
+            nDestroy(ptr);
+            ptr = 0;
+        }
+    }
+
+    private native void nDestroy(long ptr); /*
+        delete (ImVector<char*>*)ptr;
+    */
+}
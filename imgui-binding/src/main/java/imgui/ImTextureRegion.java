@@ -0,0 +1,121 @@
+package imgui;
+
+/**
+ * Part of a texture: texture ID with the UV rect of an image inside of it, e.g. an image packed into a shared atlas page.
+ * Could be passed to the {@link ImGui#image(ImTextureRegion, float, float)}, {@link ImGui#imageButton(ImTextureRegion, float, float)}
+ * and {@link ImDrawList#addImage(ImTextureRegion, float, float, float, float)}. Images from the same texture are then drawn
+ * with a single draw command, instead of one command for every texture.
+ * <p>
+ * Those methods mark the region as used in the current frame, so the owner of the region could evict unused ones.
+ * Region becomes invalid after eviction and should not be drawn anymore: those methods throw an {@link IllegalStateException} for it,
+ * since its UV rect could be taken by another image already.
+ */
+public final class ImTextureRegion {
+    // Frame count of the last ImGui.newFrame(), so marking a region as used doesn't call the native code for every drawn image
+    private static int currentFrame = -1;
+
+    private int textureId;
+    private float u0;
+    private float v0;
+    private float u1;
+    private float v1;
+    private int width;
+    private int height;
+    private int lastUsedFrame = -1;
+    private boolean valid = true;
+
+    public ImTextureRegion(final int textureId, final float u0, final float v0, final float u1, final float v1, final int width, final int height) {
+        set(textureId, u0, v0, u1, v1, width, height);
+    }
+
+    public void set(final int textureId, final float u0, final float v0, final float u1, final float v1, final int width, final int height) {
+        this.textureId = textureId;
+        this.u0 = u0;
+        this.v0 = v0;
+        this.u1 = u1;
+        this.v1 = v1;
+        this.width = width;
+        this.height = height;
+        this.valid = true;
+    }
+
+    public int getTextureId() {
+        return textureId;
+    }
+
+    public float getU0() {
+        return u0;
+    }
+
+    public float getV0() {
+        return v0;
+    }
+
+    public float getU1() {
+        return u1;
+    }
+
+    public float getV1() {
+        return v1;
+    }
+
+    /**
+     * @return width of the image in pixels
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * @return height of the image in pixels
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Marks the region as used in the current frame. Called by the drawing methods which accept the region.
+     *
+     * @throws IllegalStateException if the region is invalid
+     */
+    public void markUsed() {
+        if (!valid) {
+            throw new IllegalStateException("Texture region is invalid: " + this);
+        }
+        lastUsedFrame = currentFrame;
+    }
+
+    static void setCurrentFrame(final int frameCount) {
+        currentFrame = frameCount;
+    }
+
+    /**
+     * @return value of the {@link ImGui#getFrameCount()} of the frame the region was used the last time, or -1 if it was never used
+     */
+    public int getLastUsedFrame() {
+        return lastUsedFrame;
+    }
+
+    /**
+     * @return false if the region was removed from its texture
+     */
+    public boolean isValid() {
+        return valid;
+    }
+
+    /**
+     * Marks the region as removed from its texture.
+     */
+    public void invalidate() {
+        valid = false;
+    }
+
+    @Override
+    public String toString() {
+        return "ImTextureRegion{"
+            + "textureId=" + textureId
+            + ", uv=(" + u0 + ", " + v0 + ")-(" + u1 + ", " + v1 + ")"
+            + ", size=" + width + "x" + height
+            + '}';
+    }
+}
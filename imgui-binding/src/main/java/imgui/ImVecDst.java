@@ -0,0 +1,27 @@
+package imgui;
+
+import java.nio.FloatBuffer;
+
+/**
+ * Checks of destinations passed to getters, which write vector components into a float array or a direct float buffer.
+ * Components are written natively without any checks, so the destination is validated before the native call.
+ */
+final class ImVecDst {
+    private ImVecDst() {
+    }
+
+    static void check(final float[] dst, final int offset, final int count) {
+        if (offset < 0 || offset > dst.length - count) {
+            throw new IndexOutOfBoundsException("Offset " + offset + " with " + count + " components is out of bounds for length " + dst.length);
+        }
+    }
+
+    static void check(final FloatBuffer dst, final int offset, final int count) {
+        if (!dst.isDirect()) {
+            throw new IllegalArgumentException("Buffer must be direct");
+        }
+        if (offset < 0 || offset > dst.capacity() - count) {
+            throw new IndexOutOfBoundsException("Offset " + offset + " with " + count + " components is out of bounds for capacity " + dst.capacity());
+        }
+    }
+}
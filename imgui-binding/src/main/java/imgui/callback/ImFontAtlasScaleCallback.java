@@ -0,0 +1,10 @@
+package imgui.callback;
+
+import imgui.ImFontAtlas;
+
+/**
+ * Callback which receives the atlas built for the specific DPI scale: to add fonts to it, or to get fonts from it.
+ */
+public abstract class ImFontAtlasScaleCallback {
+    public abstract void accept(ImFontAtlas fontAtlas, float dpiScale);
+}
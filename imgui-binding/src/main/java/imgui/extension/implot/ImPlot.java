@@ -2,6 +2,7 @@ package imgui.extension.implot;
 
 import imgui.ImDrawList;
 import imgui.ImVec2;
+import imgui.ImStringArray;
 import imgui.ImVec4;
 import imgui.extension.implot.flag.ImPlotYAxis;
 import imgui.flag.ImGuiCond;
@@ -743,6 +744,21 @@ public final class ImPlot {
         delete[] labelIDs;
     */
 
+    /**
+     * Plots a pie chart. If the sum of values {@code >} 1, each value will be normalized. Center and radius are in plot units.
+     * Labels are passed to ImPlot as is, so the array could be built once and reused every frame.
+     */
+    public static void plotPieChart(final ImStringArray labelIDs, final double[] values, final double x, final double y, final double radius) {
+        if (labelIDs.size() < values.length) {
+            throw new IllegalArgumentException("Not enough labels for values: " + labelIDs.size() + " < " + values.length);
+        }
+        nPlotPieChart(labelIDs.getItemsPtr(), values, values.length, x, y, radius);
+    }
+
+    private static native void nPlotPieChart(long labelIDsPtr, double[] values, int size, double x, double y, double radius); /*
+        ImPlot::PlotPieChart(((ImVector<char*>*)labelIDsPtr)->Data, values, size, x, y, radius);
+    */
+
     /**
      * Plots a 2D heatmap chart.
      * Due to conversion from T to double, extremely large 64-bit integer (long) values may lose data!
@@ -1,5 +1,7 @@
 #include "jni_common.h"
 
+#include <string.h>
+
 jfieldID imVec2XID;
 jfieldID imVec2YID;
 
@@ -50,4 +52,42 @@ namespace Jni
         env->SetFloatField(dst, imVec4ZID, src.z);
         env->SetFloatField(dst, imVec4WID, src.w);
     }
+
+    void ImVec2Cpy(ImVec2* src, float* dst) {
+        dst[0] = src->x;
+        dst[1] = src->y;
+    }
+
+    void ImVec2Cpy(ImVec2 src, float* dst) {
+        dst[0] = src.x;
+        dst[1] = src.y;
+    }
+
+    void ImVec4Cpy(ImVec4* src, float* dst) {
+        dst[0] = src->x;
+        dst[1] = src->y;
+        dst[2] = src->z;
+        dst[3] = src->w;
+    }
+
+    void ImVec4Cpy(ImVec4 src, float* dst) {
+        dst[0] = src.x;
+        dst[1] = src.y;
+        dst[2] = src.z;
+        dst[3] = src.w;
+    }
+
+    uint64_t HashData(uint64_t hash, const void* data, size_t size) {
+        const unsigned char* bytes = (const unsigned char*)data;
+        size_t i = 0;
+        for (; i + 8 <= size; i += 8) {
+            uint64_t word;
+            memcpy(&word, bytes + i, 8);
+            hash = (hash ^ word) * 0x100000001b3ULL;
+        }
+        for (; i < size; i++) {
+            hash = (hash ^ bytes[i]) * 0x100000001b3ULL;
+        }
+        return hash;
+    }
 }
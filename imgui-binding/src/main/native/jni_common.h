@@ -1,8 +1,11 @@
 #pragma once
 
 #include <jni.h>
+#include <stdint.h>
 #include <imgui.h>
 
+#define JNI_HASH_SEED 0xcbf29ce484222325ULL
+
 namespace Jni
 {
     void InitCommon(JNIEnv* env);
@@ -14,4 +17,14 @@ namespace Jni
 
     void ImVec4Cpy(JNIEnv* env, ImVec4* src, jobject dst);
     void ImVec4Cpy(JNIEnv* env, ImVec4 src, jobject dst);
+
+    // Copy components into the array of floats, used by getters which write into float[] and FloatBuffer
+    void ImVec2Cpy(ImVec2* src, float* dst);
+    void ImVec2Cpy(ImVec2 src, float* dst);
+
+    void ImVec4Cpy(ImVec4* src, float* dst);
+    void ImVec4Cpy(ImVec4 src, float* dst);
+
+    // 64-bit FNV-1a, consuming the data by 8-byte words when possible. Start with the JNI_HASH_SEED.
+    uint64_t HashData(uint64_t hash, const void* data, size_t size);
 }
@@ -0,0 +1,89 @@
+package imgui;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ImFontAtlasCacheTest {
+    private static final long KEY = 42;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void savesAndLoads() {
+        final ImFontAtlasCache cache = new ImFontAtlasCache(dir);
+        final FakeAtlas atlas = new FakeAtlas(true);
+        assertFalse(cache.build(atlas));
+        assertEquals(1, atlas.builds);
+        assertTrue(Files.isRegularFile(cache.getCacheFile(KEY)));
+
+        final FakeAtlas cached = new FakeAtlas(true);
+        assertTrue(cache.build(cached));
+        assertEquals(0, cached.builds);
+        assertEquals(atlas.data, cached.loaded);
+    }
+
+    @Test
+    void failedBuildIsReportedAndNotSaved() throws IOException {
+        final ImFontAtlasCache cache = new ImFontAtlasCache(dir);
+        final FakeAtlas atlas = new FakeAtlas(false);
+        assertThrows(IllegalStateException.class, () -> cache.build(atlas));
+        assertEquals(1, atlas.builds);
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    private static final class FakeAtlas implements ImFontAtlasCache.CachedAtlas {
+        private final boolean buildResult;
+        private final long data = 0x0123456789abcdefL;
+        private int builds = 0;
+        private long loaded = 0;
+
+        FakeAtlas(final boolean buildResult) {
+            this.buildResult = buildResult;
+        }
+
+        @Override
+        public long getBuildKey() {
+            return KEY;
+        }
+
+        @Override
+        public boolean build() {
+            builds++;
+            return buildResult;
+        }
+
+        @Override
+        public int getBuildDataSize() {
+            if (builds == 0 || !buildResult) {
+                throw new IllegalStateException("Font atlas is not built");
+            }
+            return Long.BYTES;
+        }
+
+        @Override
+        public void saveBuildData(final ByteBuffer dst) {
+            getBuildDataSize();
+            dst.putLong(data);
+        }
+
+        @Override
+        public boolean loadBuildData(final ByteBuffer src) {
+            loaded = src.getLong();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package imgui;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.ListResourceBundle;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ImFontGlyphRangesBuilderTest {
+    @Nested
+    class buildRanges {
+        @Test
+        void compactsText() {
+            final ImFontGlyphRangesBuilder builder = new ImFontGlyphRangesBuilder();
+            builder.addText(Stream.of("cab", "xz", "aa"));
+            assertArrayEquals(new short[]{'a', 'c', 'x', 'x', 'z', 'z', 0}, builder.buildRanges());
+            assertEquals(5, builder.getCharCount());
+        }
+
+        @Test
+        void resourceBundle() {
+            final ImFontGlyphRangesBuilder builder = new ImFontGlyphRangesBuilder();
+            builder.addResourceBundle(new ListResourceBundle() {
+                @Override
+                protected Object[][] getContents() {
+                    return new Object[][]{{"title", "\u041f\u0440\u0438\u0432\u0435\u0442"}, {"items", new String[]{"\u20ac"}}, {"count", 42}};
+                }
+            });
+            assertEquals("\u041f\u0440\u0438\u0432\u0435\u0442\u20ac".chars().distinct().count(), builder.getCharCount());
+        }
+
+        @Test
+        void rangesAboveSignedShort() {
+            final ImFontGlyphRangesBuilder builder = new ImFontGlyphRangesBuilder();
+            builder.addRanges(new short[]{0x7FFE, (short) 0x8001, 0});
+            assertEquals(4, builder.getCharCount());
+            assertArrayEquals(new short[]{0x7FFE, (short) 0x8001, 0}, builder.buildRanges());
+        }
+    }
+
+    @Nested
+    class persistence {
+        @Test
+        void writeAndRead(@TempDir final Path dir) throws Exception {
+            final Path file = dir.resolve("glyphs.txt");
+            Files.write(file, Arrays.asList("Hello", "\u041c\u0438\u0440 \u4e16\u754c"), StandardCharsets.UTF_8);
+
+            final ImFontGlyphRangesBuilder builder = new ImFontGlyphRangesBuilder();
+            builder.addFile(file);
+            final short[] ranges = builder.buildRanges();
+
+            final Path rangesFile = dir.resolve("glyphs.ranges");
+            ImFontGlyphRangesBuilder.writeRanges(ranges, rangesFile);
+            assertArrayEquals(ranges, ImFontGlyphRangesBuilder.readRanges(rangesFile));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package imgui;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ImVecDstTest {
+    @Nested
+    class array {
+        @Test
+        void fits() {
+            assertDoesNotThrow(() -> ImVecDst.check(new float[4], 0, 4));
+            assertDoesNotThrow(() -> ImVecDst.check(new float[4], 2, 2));
+        }
+
+        @Test
+        void outOfBounds() {
+            assertThrows(IndexOutOfBoundsException.class, () -> ImVecDst.check(new float[4], 3, 2));
+            assertThrows(IndexOutOfBoundsException.class, () -> ImVecDst.check(new float[4], -1, 2));
+            assertThrows(IndexOutOfBoundsException.class, () -> ImVecDst.check(new float[4], Integer.MAX_VALUE, 2));
+        }
+    }
+
+    @Nested
+    class buffer {
+        @Test
+        void fitsCapacityIgnoringPosition() {
+            final FloatBuffer dst = ByteBuffer.allocateDirect(4 * Float.BYTES).order(ByteOrder.nativeOrder()).asFloatBuffer();
+            dst.position(4);
+            assertDoesNotThrow(() -> ImVecDst.check(dst, 0, 4));
+        }
+
+        @Test
+        void outOfBounds() {
+            final FloatBuffer dst = ByteBuffer.allocateDirect(4 * Float.BYTES).order(ByteOrder.nativeOrder()).asFloatBuffer();
+            assertThrows(IndexOutOfBoundsException.class, () -> ImVecDst.check(dst, 1, 4));
+            assertThrows(IndexOutOfBoundsException.class, () -> ImVecDst.check(dst, -2, 2));
+        }
+
+        @Test
+        void notDirect() {
+            assertThrows(IllegalArgumentException.class, () -> ImVecDst.check(FloatBuffer.allocate(4), 0, 2));
+        }
+    }
+}
@@ -0,0 +1,798 @@
+package imgui.cpu;
+
+import imgui.ImDrawData;
+import imgui.ImFontAtlas;
+import imgui.ImGui;
+import imgui.ImGuiIO;
+import imgui.ImVec2;
+import imgui.flag.ImGuiBackendFlags;
+import imgui.type.ImInt;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Pure Java renderer, which rasterizes {@link ImDrawData} into an ARGB framebuffer without any GPU involved.
+ * Could be used to render UI on headless machines: to make screenshots in CI, generate reports etc.
+ * <p>
+ * The framebuffer is split into square tiles. Triangles are binned into tiles they overlap, then tiles are rasterized
+ * in parallel on a {@link ForkJoinPool}. Every tile is owned by a single task, so no synchronization is needed while rasterizing.
+ * Draw commands are rendered in the same way as {@link imgui.gl3.ImGuiImplGl3} does: clip rects are honored,
+ * textures are sampled and blended with the same blend equation. Textures are sampled with the nearest filtering.
+ * <p>
+ * Pixels are stored as 0xAARRGGBB integers, row by row from the top-left corner,
+ * which is the layout of the {@code BufferedImage.TYPE_INT_ARGB} image.
+ * <p>
+ * Textures used by the draw data should be registered with {@link #createTexture(int, int, int[])}.
+ * Font atlas texture is registered by the {@link #init()} method.
+ */
+public final class ImGuiImplCpu {
+    private static final int DEFAULT_TILE_SIZE = 64;
+    private static final int WHITE = 0xFFFFFFFF;
+
+    private final ForkJoinPool pool;
+    private int tileSize = DEFAULT_TILE_SIZE;
+    private int clearColor = 0;
+
+    // Registered textures
+    private final Map<Integer, Texture> textures = new HashMap<>();
+    private int nextTextureId = 1;
+    private int fontTextureId = 0;
+
+    // Framebuffer rendered by the current frame and a scratch one used to render into an IntBuffer
+    private int[] pixels = null;
+    private int[] scratchPixels = new int[0];
+    private int fbWidth = 0;
+    private int fbHeight = 0;
+
+    // Vertices of all cmd lists, transformed into the framebuffer space
+    private float[] vtxX = new float[0];
+    private float[] vtxY = new float[0];
+    private float[] vtxU = new float[0];
+    private float[] vtxV = new float[0];
+    private int[] vtxColor = new int[0];
+
+    // Draw commands: clip rect in pixels (max is exclusive) and texture
+    private int[] cmdClip = new int[0];
+    private Texture[] cmdTexture = new Texture[0];
+
+    // Triangles: three vertex indices and a command index
+    private int[] triVtx = new int[0];
+    private int[] triCmd = new int[0];
+    private int triCount = 0;
+
+    // Triangles binned into tiles, in the draw order
+    private int tilesX = 0;
+    private int tilesY = 0;
+    private int[][] tileTris = new int[0][];
+    private int[] tileTriCounts = new int[0];
+
+    // Used to store tmp renderer data
+    private final ImVec2 displayPos = new ImVec2();
+    private final ImVec2 framebufferScale = new ImVec2();
+    private ByteBuffer cmdData = ByteBuffer.allocateDirect(0).order(ByteOrder.nativeOrder());
+    private ByteBuffer[] cmdListIdxBuffers = new ByteBuffer[0];
+    private int[] cmdListVtxOffsets = new int[0];
+
+    /**
+     * Creates renderer, which rasterizes tiles on the common {@link ForkJoinPool}.
+     */
+    public ImGuiImplCpu() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param pool pool to rasterize tiles on
+     */
+    public ImGuiImplCpu(final ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Method to do an initialization of the {@link ImGuiImplCpu} state. Registers the font atlas texture.
+     */
+    public void init() {
+        final ImGuiIO io = ImGui.getIO();
+        io.setBackendRendererName("imgui_java_impl_cpu");
+        io.addBackendFlags(ImGuiBackendFlags.RendererHasVtxOffset);
+        updateFontsTexture();
+    }
+
+    /**
+     * Method to dispose resources used by {@link ImGuiImplCpu}. The pool is not shut down, since it's owned by the caller.
+     */
+    public void dispose() {
+        textures.clear();
+        fontTextureId = 0;
+        scratchPixels = new int[0];
+    }
+
+    /**
+     * Method rebuilds the font atlas texture. Could be used to update application fonts in runtime.
+     */
+    public void updateFontsTexture() {
+        if (fontTextureId != 0) {
+            deleteTexture(fontTextureId);
+        }
+
+        final ImFontAtlas fontAtlas = ImGui.getIO().getFonts();
+        final ImInt width = new ImInt();
+        final ImInt height = new ImInt();
+        final ByteBuffer buffer = fontAtlas.getTexDataAsRGBA32(width, height);
+
+        final int[] argb = new int[width.get() * height.get()];
+        for (int i = 0; i < argb.length; i++) {
+            final int r = buffer.get(i * 4) & 0xFF;
+            final int g = buffer.get(i * 4 + 1) & 0xFF;
+            final int b = buffer.get(i * 4 + 2) & 0xFF;
+            final int a = buffer.get(i * 4 + 3) & 0xFF;
+            argb[i] = a << 24 | r << 16 | g << 8 | b;
+        }
+
+        fontTextureId = createTexture(width.get(), height.get(), argb);
+        fontAtlas.setTexID(fontTextureId);
+    }
+
+    /**
+     * Registers a texture, which could be used in the draw data with the returned ID.
+     * Pixels are copied, so the array could be reused after the call.
+     *
+     * @param width       texture width
+     * @param height      texture height
+     * @param argbPixels  pixels in the 0xAARRGGBB format, row by row from the top-left corner
+     * @return texture ID
+     */
+    public int createTexture(final int width, final int height, final int[] argbPixels) {
+        if (width <= 0 || height <= 0 || argbPixels.length < width * height) {
+            throw new IllegalArgumentException("Invalid texture data: " + width + "x" + height + ", pixels: " + argbPixels.length);
+        }
+        final int textureId = nextTextureId++;
+        final int[] copy = new int[width * height];
+        System.arraycopy(argbPixels, 0, copy, 0, copy.length);
+        textures.put(textureId, new Texture(width, height, copy));
+        return textureId;
+    }
+
+    /**
+     * @param textureId ID of the texture returned by {@link #createTexture(int, int, int[])}
+     */
+    public void deleteTexture(final int textureId) {
+        textures.remove(textureId);
+    }
+
+    /**
+     * Size of tiles the framebuffer is split into. Every tile is rasterized by a separate task.
+     * <p>
+     * Default value is 64.
+     *
+     * @param tileSize tile size in pixels
+     */
+    public void setTileSize(final int tileSize) {
+        if (tileSize <= 0) {
+            throw new IllegalArgumentException("Tile size must be positive: " + tileSize);
+        }
+        this.tileSize = tileSize;
+    }
+
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    /**
+     * @param argb color to fill the framebuffer with before the rendering, in the 0xAARRGGBB format
+     */
+    public void setClearColor(final int argb) {
+        this.clearColor = argb;
+    }
+
+    public int getClearColor() {
+        return clearColor;
+    }
+
+    /**
+     * Renders draw data into the provided framebuffer. Buffer content is written starting from the index 0,
+     * buffer position and limit are not modified.
+     *
+     * @param drawData draw data to render
+     * @param dst      framebuffer to write pixels to, should fit at least width * height pixels
+     * @param width    framebuffer width
+     * @param height   framebuffer height
+     */
+    public void renderDrawData(final ImDrawData drawData, final IntBuffer dst, final int width, final int height) {
+        if (dst.capacity() < width * height) {
+            throw new IllegalArgumentException("Framebuffer is too small: " + dst.capacity() + " < " + width * height);
+        }
+        if (scratchPixels.length < width * height) {
+            scratchPixels = new int[width * height];
+        }
+
+        render(drawData, scratchPixels, width, height);
+
+        final IntBuffer out = dst.duplicate();
+        out.clear();
+        out.put(scratchPixels, 0, width * height);
+    }
+
+    /**
+     * Renders draw data into the provided array. Unlike {@link #renderDrawData(ImDrawData, IntBuffer, int, int)}
+     * pixels are rasterized directly into the array, without an intermediate copy.
+     *
+     * @param drawData draw data to render
+     * @param dst      framebuffer to write pixels to, should fit at least width * height pixels
+     * @param width    framebuffer width
+     * @param height   framebuffer height
+     */
+    public void renderDrawData(final ImDrawData drawData, final int[] dst, final int width, final int height) {
+        if (dst.length < width * height) {
+            throw new IllegalArgumentException("Framebuffer is too small: " + dst.length + " < " + width * height);
+        }
+        render(drawData, dst, width, height);
+    }
+
+    private void render(final ImDrawData drawData, final int[] target, final int width, final int height) {
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+
+        beginFrame(width, height);
+
+        if (drawData.getCmdListsCount() > 0) {
+            drawData.getDisplayPos(displayPos);
+            drawData.getFramebufferScale(framebufferScale);
+            prepareVertices(drawData);
+            binTriangles(drawData);
+        }
+
+        rasterizeTiles(target);
+    }
+
+    /**
+     * Renders untextured triangles without the draw data. Every three vertices form a triangle.
+     * Used to test the rasterizer, since the draw data could be created only by the native Dear ImGui context.
+     *
+     * @param xy       vertices positions in the framebuffer space: x0, y0, x1, y1...
+     * @param argb     vertices colors
+     * @param clipRect clip rect in pixels: min x, min y, max x, max y (max is exclusive)
+     * @param target   framebuffer to write pixels to
+     * @param width    framebuffer width
+     * @param height   framebuffer height
+     */
+    void renderTriangles(final float[] xy, final int[] argb, final int[] clipRect, final int[] target, final int width, final int height) {
+        beginFrame(width, height);
+
+        final int vtxCount = argb.length;
+        ensureVerticesCapacity(vtxCount);
+        for (int i = 0; i < vtxCount; i++) {
+            vtxX[i] = xy[i * 2];
+            vtxY[i] = xy[i * 2 + 1];
+            vtxU[i] = 0;
+            vtxV[i] = 0;
+            vtxColor[i] = argb[i];
+        }
+
+        ensureCommandsCapacity(1);
+        ensureTrianglesCapacity(vtxCount / 3);
+        final int clipX0 = Math.max(0, clipRect[0]);
+        final int clipY0 = Math.max(0, clipRect[1]);
+        final int clipX1 = Math.min(fbWidth, clipRect[2]);
+        final int clipY1 = Math.min(fbHeight, clipRect[3]);
+        cmdClip[0] = clipX0;
+        cmdClip[1] = clipY0;
+        cmdClip[2] = clipX1;
+        cmdClip[3] = clipY1;
+        cmdTexture[0] = null;
+
+        if (clipX1 > clipX0 && clipY1 > clipY0) {
+            for (int i = 0; i + 2 < vtxCount; i += 3) {
+                binTriangle(i, i + 1, i + 2, 0, clipX0, clipY0, clipX1, clipY1);
+            }
+        }
+
+        rasterizeTiles(target);
+    }
+
+    private void beginFrame(final int width, final int height) {
+        fbWidth = width;
+        fbHeight = height;
+        tilesX = (width + tileSize - 1) / tileSize;
+        tilesY = (height + tileSize - 1) / tileSize;
+        ensureTilesCapacity(tilesX * tilesY);
+        triCount = 0;
+    }
+
+    private void rasterizeTiles(final int[] target) {
+        pixels = target;
+        try {
+            pool.invoke(new TileRangeTask(0, tilesX * tilesY));
+        } finally {
+            pixels = null;
+        }
+    }
+
+    private void ensureVerticesCapacity(final int vtxCount) {
+        if (vtxX.length < vtxCount) {
+            final int capacity = vtxCount + vtxCount / 2;
+            vtxX = new float[capacity];
+            vtxY = new float[capacity];
+            vtxU = new float[capacity];
+            vtxV = new float[capacity];
+            vtxColor = new int[capacity];
+        }
+    }
+
+    private void ensureCommandsCapacity(final int cmdCount) {
+        if (cmdTexture.length < cmdCount) {
+            cmdClip = new int[cmdCount * 8];
+            cmdTexture = new Texture[cmdCount * 2];
+        }
+    }
+
+    private void ensureTrianglesCapacity(final int triangleCount) {
+        if (triCmd.length < triangleCount) {
+            triVtx = new int[(triangleCount + triangleCount / 2) * 3];
+            triCmd = new int[triangleCount + triangleCount / 2];
+        }
+    }
+
+    private void prepareVertices(final ImDrawData drawData) {
+        final int cmdListsCount = drawData.getCmdListsCount();
+        ensureVerticesCapacity(drawData.getTotalVtxCount());
+
+        if (cmdListIdxBuffers.length < cmdListsCount) {
+            cmdListIdxBuffers = new ByteBuffer[cmdListsCount * 2];
+            cmdListVtxOffsets = new int[cmdListsCount * 2];
+        }
+
+        final float offX = displayPos.x;
+        final float offY = displayPos.y;
+        final float scaleX = framebufferScale.x;
+        final float scaleY = framebufferScale.y;
+
+        int vtxOffset = 0;
+        for (int n = 0; n < cmdListsCount; n++) {
+            final ByteBuffer vtxBuffer = drawData.getCmdListVtxBufferView(n);
+            final int vtxCount = vtxBuffer.remaining() / ImDrawData.SIZEOF_IM_DRAW_VERT;
+
+            for (int i = 0; i < vtxCount; i++) {
+                final int pos = i * ImDrawData.SIZEOF_IM_DRAW_VERT;
+                final int idx = vtxOffset + i;
+                vtxX[idx] = (vtxBuffer.getFloat(pos) - offX) * scaleX;
+                vtxY[idx] = (vtxBuffer.getFloat(pos + 4) - offY) * scaleY;
+                vtxU[idx] = vtxBuffer.getFloat(pos + 8);
+                vtxV[idx] = vtxBuffer.getFloat(pos + 12);
+                final int col = vtxBuffer.getInt(pos + 16); // ImU32 is 0xAABBGGRR
+                vtxColor[idx] = (col & 0xFF00FF00) | (col & 0xFF) << 16 | (col >>> 16) & 0xFF;
+            }
+
+            cmdListIdxBuffers[n] = drawData.getCmdListIdxBufferView(n);
+            cmdListVtxOffsets[n] = vtxOffset;
+            vtxOffset += vtxCount;
+        }
+    }
+
+    private void binTriangles(final ImDrawData drawData) {
+        final int cmdDataCapacity = drawData.getTotalCmdCount() * ImDrawData.SIZEOF_IM_DRAW_CMD_DATA;
+        if (cmdData.capacity() < cmdDataCapacity) {
+            cmdData = ByteBuffer.allocateDirect(cmdDataCapacity + cmdDataCapacity / 2).order(ByteOrder.nativeOrder());
+        }
+        final int cmdCount = drawData.getCmdBufferData(cmdData);
+
+        ensureCommandsCapacity(cmdCount);
+        ensureTrianglesCapacity(drawData.getTotalIdxCount() / 3);
+
+        final float offX = displayPos.x;
+        final float offY = displayPos.y;
+        final float scaleX = framebufferScale.x;
+        final float scaleY = framebufferScale.y;
+
+        for (int cmdIdx = 0; cmdIdx < cmdCount; cmdIdx++) {
+            final int cmdOffset = cmdIdx * ImDrawData.SIZEOF_IM_DRAW_CMD_DATA;
+            final int cmdListIdx = cmdData.getInt(cmdOffset + ImDrawData.CMD_DATA_OFFSET_CMD_LIST_IDX);
+
+            // Clip rect is projected into the framebuffer space the same way as the scissor rect in the GL renderer
+            final int clipRectOffset = cmdOffset + ImDrawData.CMD_DATA_OFFSET_CLIP_RECT;
+            final float clipMinX = (cmdData.getFloat(clipRectOffset) - offX) * scaleX;
+            final float clipMinY = (cmdData.getFloat(clipRectOffset + 4) - offY) * scaleY;
+            final float clipMaxX = (cmdData.getFloat(clipRectOffset + 8) - offX) * scaleX;
+            final float clipMaxY = (cmdData.getFloat(clipRectOffset + 12) - offY) * scaleY;
+
+            if (clipMaxX <= clipMinX || clipMaxY <= clipMinY) {
+                continue;
+            }
+
+            final int clipX0 = Math.max(0, (int) clipMinX);
+            final int clipY0 = Math.max(0, (int) clipMinY);
+            final int clipX1 = Math.min(fbWidth, (int) clipMinX + (int) (clipMaxX - clipMinX));
+            final int clipY1 = Math.min(fbHeight, (int) clipMinY + (int) (clipMaxY - clipMinY));
+
+            if (clipX1 <= clipX0 || clipY1 <= clipY0) {
+                continue;
+            }
+
+            cmdClip[cmdIdx * 4] = clipX0;
+            cmdClip[cmdIdx * 4 + 1] = clipY0;
+            cmdClip[cmdIdx * 4 + 2] = clipX1;
+            cmdClip[cmdIdx * 4 + 3] = clipY1;
+            cmdTexture[cmdIdx] = textures.get(cmdData.getInt(cmdOffset + ImDrawData.CMD_DATA_OFFSET_TEXTURE_ID));
+
+            final ByteBuffer idxBuffer = cmdListIdxBuffers[cmdListIdx];
+            final int vtxBase = cmdListVtxOffsets[cmdListIdx] + cmdData.getInt(cmdOffset + ImDrawData.CMD_DATA_OFFSET_VTX_OFFSET);
+            final int idxStart = cmdData.getInt(cmdOffset + ImDrawData.CMD_DATA_OFFSET_IDX_OFFSET);
+            final int elemCount = cmdData.getInt(cmdOffset + ImDrawData.CMD_DATA_OFFSET_ELEM_COUNT);
+
+            for (int i = 0; i + 2 < elemCount; i += 3) {
+                final int idxPos = (idxStart + i) * ImDrawData.SIZEOF_IM_DRAW_IDX;
+                final int a = vtxBase + (idxBuffer.getShort(idxPos) & 0xFFFF);
+                final int b = vtxBase + (idxBuffer.getShort(idxPos + 2) & 0xFFFF);
+                final int c = vtxBase + (idxBuffer.getShort(idxPos + 4) & 0xFFFF);
+                binTriangle(a, b, c, cmdIdx, clipX0, clipY0, clipX1, clipY1);
+            }
+        }
+    }
+
+    private void binTriangle(final int a, final int b, final int c, final int cmdIdx,
+                             final int clipX0, final int clipY0, final int clipX1, final int clipY1) {
+        final float ax = vtxX[a];
+        final float ay = vtxY[a];
+        final float bx = vtxX[b];
+        final float by = vtxY[b];
+        final float cx = vtxX[c];
+        final float cy = vtxY[c];
+
+        final float area = (bx - ax) * (cy - ay) - (by - ay) * (cx - ax);
+        if (area == 0 || Float.isNaN(area)) {
+            return;
+        }
+
+        // Bounding box of pixels, which centers could be covered
+        final int x0 = Math.max(clipX0, (int) Math.floor(Math.min(ax, Math.min(bx, cx))));
+        final int y0 = Math.max(clipY0, (int) Math.floor(Math.min(ay, Math.min(by, cy))));
+        final int x1 = Math.min(clipX1, (int) Math.ceil(Math.max(ax, Math.max(bx, cx))));
+        final int y1 = Math.min(clipY1, (int) Math.ceil(Math.max(ay, Math.max(by, cy))));
+
+        if (x1 <= x0 || y1 <= y0) {
+            return;
+        }
+
+        final int tri = triCount++;
+        triVtx[tri * 3] = a;
+        triVtx[tri * 3 + 1] = b;
+        triVtx[tri * 3 + 2] = c;
+        triCmd[tri] = cmdIdx;
+
+        final int tx1 = (x1 - 1) / tileSize;
+        final int ty1 = (y1 - 1) / tileSize;
+        for (int ty = y0 / tileSize; ty <= ty1; ty++) {
+            for (int tx = x0 / tileSize; tx <= tx1; tx++) {
+                final int tile = ty * tilesX + tx;
+                final int count = tileTriCounts[tile];
+                if (count == tileTris[tile].length) {
+                    final int[] tris = new int[count * 2];
+                    System.arraycopy(tileTris[tile], 0, tris, 0, count);
+                    tileTris[tile] = tris;
+                }
+                tileTris[tile][count] = tri;
+                tileTriCounts[tile] = count + 1;
+            }
+        }
+    }
+
+    private void ensureTilesCapacity(final int tileCount) {
+        if (tileTris.length < tileCount) {
+            final int[][] tris = new int[tileCount][];
+            System.arraycopy(tileTris, 0, tris, 0, tileTris.length);
+            for (int i = tileTris.length; i < tileCount; i++) {
+                tris[i] = new int[64];
+            }
+            tileTris = tris;
+            tileTriCounts = new int[tileCount];
+        }
+        for (int i = 0; i < tileCount; i++) {
+            tileTriCounts[i] = 0;
+        }
+    }
+
+    private void rasterizeTile(final int tile) {
+        final int tileX0 = (tile % tilesX) * tileSize;
+        final int tileY0 = (tile / tilesX) * tileSize;
+        final int tileX1 = Math.min(fbWidth, tileX0 + tileSize);
+        final int tileY1 = Math.min(fbHeight, tileY0 + tileSize);
+
+        for (int y = tileY0; y < tileY1; y++) {
+            final int row = y * fbWidth;
+            for (int x = tileX0; x < tileX1; x++) {
+                pixels[row + x] = clearColor;
+            }
+        }
+
+        final int[] tris = tileTris[tile];
+        final int count = tileTriCounts[tile];
+        for (int i = 0; i < count; i++) {
+            final int tri = tris[i];
+            final int cmdIdx = triCmd[tri];
+            rasterizeTriangle(tri, cmdTexture[cmdIdx],
+                Math.max(tileX0, cmdClip[cmdIdx * 4]),
+                Math.max(tileY0, cmdClip[cmdIdx * 4 + 1]),
+                Math.min(tileX1, cmdClip[cmdIdx * 4 + 2]),
+                Math.min(tileY1, cmdClip[cmdIdx * 4 + 3]));
+        }
+    }
+
+    /**
+     * Rasterizes the triangle inside of the rect (max is exclusive). Pixel is covered when its center is inside the triangle.
+     * Pixels lying exactly on the edge shared by two triangles are covered only by one of them,
+     * so translucent geometry isn't blended twice.
+     */
+    private void rasterizeTriangle(final int tri, final Texture texture, final int rectMinX, final int rectMinY, final int rectMaxX, final int rectMaxY) {
+        final int i0 = triVtx[tri * 3];
+        int i1 = triVtx[tri * 3 + 1];
+        int i2 = triVtx[tri * 3 + 2];
+
+        float area = (vtxX[i1] - vtxX[i0]) * (vtxY[i2] - vtxY[i0]) - (vtxY[i1] - vtxY[i0]) * (vtxX[i2] - vtxX[i0]);
+        if (area < 0) {
+            final int tmp = i1;
+            i1 = i2;
+            i2 = tmp;
+            area = -area;
+        }
+        final float invArea = 1.0f / area;
+
+        final float x0 = vtxX[i0];
+        final float y0 = vtxY[i0];
+        final float x1 = vtxX[i1];
+        final float y1 = vtxY[i1];
+        final float x2 = vtxX[i2];
+        final float y2 = vtxY[i2];
+
+        // Visit only rows and columns of the triangle bounding box
+        final int minX = Math.max(rectMinX, (int) Math.floor(Math.min(x0, Math.min(x1, x2))));
+        final int minY = Math.max(rectMinY, (int) Math.floor(Math.min(y0, Math.min(y1, y2))));
+        final int maxX = Math.min(rectMaxX, (int) Math.ceil(Math.max(x0, Math.max(x1, x2))));
+        final int maxY = Math.min(rectMaxY, (int) Math.ceil(Math.max(y0, Math.max(y1, y2))));
+
+        if (maxX <= minX || maxY <= minY) {
+            return;
+        }
+
+        // Edge functions E(x, y) = A * x + B * y + C, each one is the weight of the opposite vertex
+        final float a0 = y1 - y2;
+        final float b0 = x2 - x1;
+        final float c0 = x1 * y2 - y1 * x2;
+        final float a1 = y2 - y0;
+        final float b1 = x0 - x2;
+        final float c1 = x2 * y0 - y2 * x0;
+        final float a2 = y0 - y1;
+        final float b2 = x1 - x0;
+        final float c2 = x0 * y1 - y0 * x1;
+
+        // Consistent tie-breaking rule: the opposite triangle sees the shared edge with negated coefficients
+        final boolean inclusive0 = a0 > 0 || a0 == 0 && b0 > 0;
+        final boolean inclusive1 = a1 > 0 || a1 == 0 && b1 > 0;
+        final boolean inclusive2 = a2 > 0 || a2 == 0 && b2 > 0;
+
+        final int col0 = vtxColor[i0];
+        final int col1 = vtxColor[i1];
+        final int col2 = vtxColor[i2];
+        final boolean solidColor = col0 == col1 && col1 == col2;
+
+        final float u0 = vtxU[i0];
+        final float v0 = vtxV[i0];
+        final float u1 = vtxU[i1];
+        final float v1 = vtxV[i1];
+        final float u2 = vtxU[i2];
+        final float v2 = vtxV[i2];
+        final boolean solidUv = texture == null || u0 == u1 && u1 == u2 && v0 == v1 && v1 == v2;
+
+        final int solidTexel = texture == null ? WHITE : texture.sample(u0, v0);
+        final int solidSrc = modulate(col0, solidTexel);
+        final boolean solid = solidColor && solidUv;
+
+        // Attributes are interpolated incrementally along the row: value(x + 1) = value(x) + dx
+        final float uDx = (a0 * u0 + a1 * u1 + a2 * u2) * invArea;
+        final float vDx = (a0 * v0 + a1 * v1 + a2 * v2) * invArea;
+        final float colA0 = col0 >>> 24;
+        final float colR0 = col0 >> 16 & 0xFF;
+        final float colG0 = col0 >> 8 & 0xFF;
+        final float colB0 = col0 & 0xFF;
+        final float colA1 = col1 >>> 24;
+        final float colR1 = col1 >> 16 & 0xFF;
+        final float colG1 = col1 >> 8 & 0xFF;
+        final float colB1 = col1 & 0xFF;
+        final float colA2 = col2 >>> 24;
+        final float colR2 = col2 >> 16 & 0xFF;
+        final float colG2 = col2 >> 8 & 0xFF;
+        final float colB2 = col2 & 0xFF;
+        final float colADx = (a0 * colA0 + a1 * colA1 + a2 * colA2) * invArea;
+        final float colRDx = (a0 * colR0 + a1 * colR1 + a2 * colR2) * invArea;
+        final float colGDx = (a0 * colG0 + a1 * colG1 + a2 * colG2) * invArea;
+        final float colBDx = (a0 * colB0 + a1 * colB1 + a2 * colB2) * invArea;
+
+        for (int y = minY; y < maxY; y++) {
+            final float py = y + 0.5f;
+            final float e0Row = b0 * py + c0;
+            final float e1Row = b1 * py + c1;
+            final float e2Row = b2 * py + c2;
+
+            // Find the span of the row covered by the triangle, the exact coverage is tested per pixel
+            float spanMin = minX;
+            float spanMax = maxX - 1;
+            if (a0 != 0) {
+                final float edgeX = -e0Row / a0 - 0.5f;
+                if (a0 > 0) {
+                    spanMin = Math.max(spanMin, edgeX);
+                } else {
+                    spanMax = Math.min(spanMax, edgeX);
+                }
+            }
+            if (a1 != 0) {
+                final float edgeX = -e1Row / a1 - 0.5f;
+                if (a1 > 0) {
+                    spanMin = Math.max(spanMin, edgeX);
+                } else {
+                    spanMax = Math.min(spanMax, edgeX);
+                }
+            }
+            if (a2 != 0) {
+                final float edgeX = -e2Row / a2 - 0.5f;
+                if (a2 > 0) {
+                    spanMin = Math.max(spanMin, edgeX);
+                } else {
+                    spanMax = Math.min(spanMax, edgeX);
+                }
+            }
+            if (spanMin > spanMax + 1) {
+                continue;
+            }
+
+            final int xStart = Math.max(minX, (int) spanMin - 1);
+            final int xEnd = Math.min(maxX - 1, (int) spanMax + 1);
+            final int row = y * fbWidth;
+
+            final float px = xStart + 0.5f;
+            float e0 = e0Row + a0 * px;
+            float e1 = e1Row + a1 * px;
+            float e2 = e2Row + a2 * px;
+
+            if (solid) {
+                for (int x = xStart; x <= xEnd; x++, e0 += a0, e1 += a1, e2 += a2) {
+                    if (isInside(e0, inclusive0) && isInside(e1, inclusive1) && isInside(e2, inclusive2)) {
+                        pixels[row + x] = blend(solidSrc, pixels[row + x]);
+                    }
+                }
+                continue;
+            }
+
+            final float w0 = e0 * invArea;
+            final float w1 = e1 * invArea;
+            final float w2 = e2 * invArea;
+            float u = w0 * u0 + w1 * u1 + w2 * u2;
+            float v = w0 * v0 + w1 * v1 + w2 * v2;
+            float colA = w0 * colA0 + w1 * colA1 + w2 * colA2 + 0.5f;
+            float colR = w0 * colR0 + w1 * colR1 + w2 * colR2 + 0.5f;
+            float colG = w0 * colG0 + w1 * colG1 + w2 * colG2 + 0.5f;
+            float colB = w0 * colB0 + w1 * colB1 + w2 * colB2 + 0.5f;
+
+            for (int x = xStart; x <= xEnd; x++) {
+                if (isInside(e0, inclusive0) && isInside(e1, inclusive1) && isInside(e2, inclusive2)) {
+                    final int texel = solidUv ? solidTexel : texture.sample(u, v);
+                    final int color = solidColor ? col0
+                        : clampChannel((int) colA) << 24 | clampChannel((int) colR) << 16 | clampChannel((int) colG) << 8 | clampChannel((int) colB);
+                    pixels[row + x] = blend(modulate(color, texel), pixels[row + x]);
+                }
+
+                e0 += a0;
+                e1 += a1;
+                e2 += a2;
+                u += uDx;
+                v += vDx;
+                colA += colADx;
+                colR += colRDx;
+                colG += colGDx;
+                colB += colBDx;
+            }
+        }
+    }
+
+    /**
+     * Pixels lying exactly on the edge are covered only when the edge is inclusive.
+     */
+    private static boolean isInside(final float edge, final boolean inclusive) {
+        return edge > 0 || edge == 0 && inclusive;
+    }
+
+    private static int clampChannel(final int value) {
+        return value < 0 ? 0 : Math.min(value, 255);
+    }
+
+    /**
+     * Vertex color multiplied by the texel, as the fragment shader of the GL renderer does.
+     */
+    private static int modulate(final int color, final int texel) {
+        if (texel == WHITE) {
+            return color;
+        }
+        return mul(color >>> 24, texel >>> 24) << 24
+            | mul(color >> 16 & 0xFF, texel >> 16 & 0xFF) << 16
+            | mul(color >> 8 & 0xFF, texel >> 8 & 0xFF) << 8
+            | mul(color & 0xFF, texel & 0xFF);
+    }
+
+    /**
+     * Same blending as the GL renderer: SRC_ALPHA, ONE_MINUS_SRC_ALPHA for colors and ONE, ONE_MINUS_SRC_ALPHA for alpha.
+     */
+    private static int blend(final int src, final int dst) {
+        final int srcA = src >>> 24;
+        if (srcA == 255) {
+            return src;
+        }
+        if (srcA == 0) {
+            return dst;
+        }
+        final int invA = 255 - srcA;
+        final int a = srcA + mul(dst >>> 24, invA);
+        final int r = mul(src >> 16 & 0xFF, srcA) + mul(dst >> 16 & 0xFF, invA);
+        final int g = mul(src >> 8 & 0xFF, srcA) + mul(dst >> 8 & 0xFF, invA);
+        final int b = mul(src & 0xFF, srcA) + mul(dst & 0xFF, invA);
+        return Math.min(a, 255) << 24 | Math.min(r, 255) << 16 | Math.min(g, 255) << 8 | Math.min(b, 255);
+    }
+
+    /**
+     * Multiplies two 8-bit values as normalized floats: a * b / 255 with rounding.
+     */
+    private static int mul(final int a, final int b) {
+        final int t = a * b + 128;
+        return (t + (t >> 8)) >> 8;
+    }
+
+    /**
+     * Recursively splits the range of tiles, so idle workers could steal the work.
+     */
+    private final class TileRangeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int start;
+        private final int end;
+
+        TileRangeTask(final int start, final int end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start == 1) {
+                rasterizeTile(start);
+            } else if (end > start) {
+                final int middle = (start + end) >>> 1;
+                invokeAll(new TileRangeTask(start, middle), new TileRangeTask(middle, end));
+            }
+        }
+    }
+
+    private static final class Texture {
+        private final int width;
+        private final int height;
+        private final int[] pixels;
+
+        private Texture(final int width, final int height, final int[] pixels) {
+            this.width = width;
+            this.height = height;
+            this.pixels = pixels;
+        }
+
+        private int sample(final float u, final float v) {
+            int x = (int) (u * width);
+            int y = (int) (v * height);
+            // @formatter:off CHECKSTYLE:OFF
+            if (x < 0) x = 0; else if (x >= width) x = width - 1;
+            if (y < 0) y = 0; else if (y >= height) y = height - 1;
+            // @formatter:on CHECKSTYLE:ON
+            return pixels[y * width + x];
+        }
+    }
+}
@@ -1,12 +1,12 @@
 package imgui.gl3;
 
 import imgui.ImDrawData;
+import imgui.ImDrawDataSnapshot;
 import imgui.ImFontAtlas;
 import imgui.ImGui;
 import imgui.ImGuiIO;
 import imgui.ImGuiViewport;
 import imgui.ImVec2;
-import imgui.ImVec4;
 import imgui.callback.ImPlatformFuncViewport;
 import imgui.flag.ImGuiConfigFlags;
 import imgui.flag.ImGuiViewportFlags;
@@ -14,10 +14,16 @@ import imgui.type.ImInt;
 import imgui.flag.ImGuiBackendFlags;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import static org.lwjgl.opengl.GL32.*;
+import static org.lwjgl.opengl.GL33.GL_TEXTURE_SWIZZLE_RGBA;
 
 /**
  * This class is a straightforward port of the
@@ -32,6 +38,8 @@ import static org.lwjgl.opengl.GL32.*;
  */
 @SuppressWarnings("MagicNumber")
 public final class ImGuiImplGl3 {
+    private static final int CMD_DATA_RESIZE_FACTOR = 100 * ImDrawData.SIZEOF_IM_DRAW_CMD_DATA;
+
     // OpenGL Data
     private int glVersion = 0;
     private String glslVersion = "";
@@ -46,34 +54,85 @@ public final class ImGuiImplGl3 {
     private int gAttribLocationVtxColor = 0;
     private int gVboHandle = 0;
     private int gElementsHandle = 0;
-    private int gVertexArrayObjectHandle = 0;
+
+    // Merged geometry upload: all cmd lists are stored in one vertex and one index buffer
+    private boolean mergedGeometryUpload = false;
+    private long gVboCapacity = 0;
+    private long gElementsCapacity = 0;
+    private int[] cmdListVtxOffsets = new int[16];
+    private int[] cmdListIdxOffsets = new int[16];
+
+    // Font atlas is uploaded as a single-channel texture on OpenGL 3.3+
+    private boolean fontAtlasAlpha8 = true;
+    private final int[] fontAtlasSwizzle = {GL_ONE, GL_ONE, GL_ONE, GL_RED};
+
+    // Signed distance field fonts
+    private boolean sdfFonts = false;
+    private int gSdfShaderHandle = 0;
+    private int gSdfFragHandle = 0;
+    private int gSdfAttribLocationTex = 0;
+    private int gSdfAttribLocationProjMtx = 0;
+    private int boundShaderHandle = 0;
+    private int[] sdfTextureIds = new int[4];
+    private int sdfTextureCount = 0;
+
+    // Cache of linked program binaries, used to skip shaders compilation on startup
+    private Path programBinaryCacheDirectory = null;
+    private ImGuiImplGl3ProgramCache programCache = null;
+    private CharSequence vertShaderSource = null;
+
+    // Hashes of the uploaded font atlas rows, used to upload only changed rows when the atlas is rebuilt with the same size
+    private boolean fontsTexturePartialUpdate = false;
+    private long lastFontsTextureUploadSize = 0;
+    private long[] fontTextureRowHashes = null;
+    private int fontTextureWidth = 0;
+    private int fontTextureHeight = 0;
+    private boolean fontTextureAlpha8 = false;
+
+    // Persistent mapped buffers used to stream geometry on OpenGL 4.4+
+    private boolean persistentMappedBuffers = true;
+    private ImGuiImplGl3RingBuffer vtxRingBuffer = null;
+    private ImGuiImplGl3RingBuffer idxRingBuffer = null;
+
+    // Multi-draw indirect submission used on OpenGL 4.3+
+    private boolean multiDrawIndirect = false;
+    private boolean multiDrawFrame = false;
+    private ImGuiImplGl3MultiDraw multiDraw = null;
+
+    // Objects which can't be shared among GL contexts, stored for every rendered viewport
+    private final Map<Integer, ContextData> contextDataMap = new HashMap<>();
+    private ContextData contextData = null;
+
+    // When true, nothing except the renderer touches the GL context, so its state isn't backed up and restored
+    private boolean exclusiveContext = false;
+
+    // Draw commands merged into one draw call and the state applied by the last one
+    private int batchTextureId = 0;
+    private int batchScissorX = 0;
+    private int batchScissorY = 0;
+    private int batchScissorW = 0;
+    private int batchScissorH = 0;
+    private int batchVtxOffset = 0;
+    private int batchIdxOffset = 0;
+    private int batchElemCount = 0;
+    private int boundTextureId = -1;
+    private final int[] appliedScissor = new int[4];
+
+    // Statistics of the last rendered draw data
+    private int lastCmdCount = 0;
+    private int lastDrawCallCount = 0;
 
     // Used to store tmp renderer data
     private final ImVec2 displaySize = new ImVec2();
     private final ImVec2 framebufferScale = new ImVec2();
     private final ImVec2 displayPos = new ImVec2();
-    private final ImVec4 clipRect = new ImVec4();
+    private ImDrawData sourceDrawData = null;
+    private ImDrawDataSnapshot sourceSnapshot = null;
+    private ByteBuffer cmdData = ByteBuffer.allocateDirect(CMD_DATA_RESIZE_FACTOR).order(ByteOrder.nativeOrder());
     private final float[] orthoProjMatrix = new float[4 * 4];
 
-    // Variables used to backup GL state before and after the rendering of Dear ImGui
-    private final int[] lastActiveTexture = new int[1];
-    private final int[] lastProgram = new int[1];
-    private final int[] lastTexture = new int[1];
-    private final int[] lastArrayBuffer = new int[1];
-    private final int[] lastVertexArrayObject = new int[1];
-    private final int[] lastViewport = new int[4];
-    private final int[] lastScissorBox = new int[4];
-    private final int[] lastBlendSrcRgb = new int[1];
-    private final int[] lastBlendDstRgb = new int[1];
-    private final int[] lastBlendSrcAlpha = new int[1];
-    private final int[] lastBlendDstAlpha = new int[1];
-    private final int[] lastBlendEquationRgb = new int[1];
-    private final int[] lastBlendEquationAlpha = new int[1];
-    private boolean lastEnableBlend = false;
-    private boolean lastEnableCullFace = false;
-    private boolean lastEnableDepthTest = false;
-    private boolean lastEnableStencilTest = false;
-    private boolean lastEnableScissorTest = false;
+    // GL state of the application, backed up before the rendering of Dear ImGui and restored after it
+    private final GlState lastState = new GlState();
 
     /**
      * Method to do an initialization of the {@link ImGuiImplGl3} state.
@@ -131,6 +190,261 @@ public final class ImGuiImplGl3 {
         }
     }
 
+    /**
+     * Enables a mode in which geometry of all cmd lists is concatenated into one vertex and one index buffer.
+     * Buffers are grown when needed and orphaned every frame, so the driver doesn't reallocate them for every cmd list.
+     * Commands are drawn with base vertex offsets, thus the mode requires OpenGL 3.2+ and is ignored on older contexts.
+     * <p>
+     * Disabled by default.
+     *
+     * @param mergedGeometryUpload true to upload geometry of the whole frame at once
+     */
+    public void setMergedGeometryUpload(final boolean mergedGeometryUpload) {
+        this.mergedGeometryUpload = mergedGeometryUpload;
+    }
+
+    /**
+     * @return true, if geometry of all cmd lists is uploaded at once
+     */
+    public boolean isMergedGeometryUpload() {
+        return mergedGeometryUpload;
+    }
+
+    /**
+     * Allows {@link #updateFontsTexture()} to reuse the existing texture and upload only the band of changed rows,
+     * when the atlas keeps its size and format. Rows are compared by 64-bit hashes, which are computed on every update,
+     * so the option costs a pass over the atlas pixels.
+     * <p>
+     * Saves uploads only when rebuilds keep glyph positions, e.g. when only pixels of custom rects are changed.
+     * Every atlas build packs all glyphs again, so adding glyphs (see {@link imgui.ImFontGlyphPager}) usually moves most of them
+     * and the band covers nearly the whole texture, while growing the texture height recreates it anyway.
+     * The size of the last upload is reported by the {@link #getLastFontsTextureUploadSize()}.
+     * <p>
+     * Disabled by default.
+     *
+     * @param fontsTexturePartialUpdate true to upload only changed rows of the font atlas
+     */
+    public void setFontsTexturePartialUpdate(final boolean fontsTexturePartialUpdate) {
+        this.fontsTexturePartialUpdate = fontsTexturePartialUpdate;
+        if (!fontsTexturePartialUpdate) {
+            fontTextureRowHashes = null;
+        }
+    }
+
+    /**
+     * @return true, if only changed rows of the font atlas are uploaded
+     */
+    public boolean isFontsTexturePartialUpdate() {
+        return fontsTexturePartialUpdate;
+    }
+
+    /**
+     * @return amount of bytes uploaded by the last {@link #updateFontsTexture()}, the whole texture unless only changed rows were uploaded
+     */
+    public long getLastFontsTextureUploadSize() {
+        return lastFontsTextureUploadSize;
+    }
+
+    /**
+     * Allows to upload the font atlas as a single-channel GL_R8 texture, which is four times smaller than the RGBA one.
+     * Texture swizzle makes the sampled color white with the alpha taken from the red channel, so shaders are not changed.
+     * Used only when the OpenGL context is 3.3+, otherwise the atlas is uploaded as RGBA.
+     * <p>
+     * Atlas with colors (see {@link ImFontAtlas#getTexPixelsUseColors()}), e.g. with colored glyphs of the FreeType builder,
+     * is always uploaded as RGBA. The flag isn't set for colored pixels written into custom rects,
+     * so set it on the atlas in that case, or disable this option to force the RGBA upload.
+     * <p>
+     * Enabled by default. Takes effect on the next {@link #updateFontsTexture()} call.
+     *
+     * @param fontAtlasAlpha8 false to always upload the font atlas as RGBA
+     */
+    public void setFontAtlasAlpha8(final boolean fontAtlasAlpha8) {
+        this.fontAtlasAlpha8 = fontAtlasAlpha8;
+    }
+
+    /**
+     * @return true, if the font atlas is allowed to be uploaded as a single-channel texture when it doesn't use colors
+     */
+    public boolean isFontAtlasAlpha8() {
+        return fontAtlasAlpha8;
+    }
+
+    /**
+     * Allows to stream geometry through triple-buffered persistently mapped buffers with fence synchronization.
+     * Used only when the OpenGL context is 4.4+ (ARB_buffer_storage), otherwise geometry is uploaded with glBufferData.
+     * When used, geometry of all cmd lists is merged the same way as with {@link #setMergedGeometryUpload(boolean)}.
+     * <p>
+     * Enabled by default. Should be called before the {@link #init(String)} method.
+     *
+     * @param persistentMappedBuffers true to use persistent mapped buffers when possible
+     */
+    public void setPersistentMappedBuffers(final boolean persistentMappedBuffers) {
+        this.persistentMappedBuffers = persistentMappedBuffers;
+    }
+
+    /**
+     * @return true, if persistent mapped buffers are allowed to use
+     */
+    public boolean isPersistentMappedBuffers() {
+        return persistentMappedBuffers;
+    }
+
+    /**
+     * Enables a mode in which draw commands are submitted with glMultiDrawElementsIndirect:
+     * one call for every run of commands with the same texture, instead of one call for every command.
+     * Clip rects are applied in the fragment shader, so commands with different clip rects still go into the same call.
+     * Geometry is merged the same way as with {@link #setMergedGeometryUpload(boolean)}.
+     * <p>
+     * The mode requires OpenGL 4.3+ and is ignored on older contexts. Disabled by default.
+     *
+     * @param multiDrawIndirect true to submit draw commands with multi-draw indirect calls
+     */
+    public void setMultiDrawIndirect(final boolean multiDrawIndirect) {
+        this.multiDrawIndirect = multiDrawIndirect;
+    }
+
+    /**
+     * @return true, if draw commands are submitted with multi-draw indirect calls
+     */
+    public boolean isMultiDrawIndirect() {
+        return multiDrawIndirect;
+    }
+
+    /**
+     * Allows to render font atlas textures as signed distance fields, built with the {@link ImFontAtlas#buildSdf(int)}.
+     * Commands with SDF textures are drawn with a separate shader, which turns the distance into the coverage with an edge width
+     * calculated from screen-space derivatives, so glyphs stay sharp at any scale. Other textures are rendered as usual.
+     * <p>
+     * Font textures created by the renderer, the one of {@link #updateFontsTexture()} and ones of the {@link ImGuiImplGl3FontAtlasCache},
+     * are SDF textures only when their atlas is built by the {@link ImFontAtlas#buildSdf(int)} (see {@link ImFontAtlas#isBuiltSdf()}),
+     * other atlases are rendered as usual. Textures uploaded by the application are registered with {@link #addSdfTexture(int)}.
+     * <p>
+     * Requires GLSL 1.30+ and is ignored with older versions. Multi-draw indirect submission is not used while the mode is enabled.
+     * <p>
+     * Disabled by default. Should be called before the {@link #init()}.
+     *
+     * @param sdfFonts true to render the font atlas as signed distance fields
+     */
+    public void setSdfFonts(final boolean sdfFonts) {
+        this.sdfFonts = sdfFonts;
+    }
+
+    /**
+     * @return true, if the font atlas is rendered as signed distance fields
+     */
+    public boolean isSdfFonts() {
+        return sdfFonts;
+    }
+
+    /**
+     * Makes commands with the texture to be drawn with the SDF shader, when SDF fonts mode is enabled.
+     *
+     * @param textureId texture with an atlas built by the {@link ImFontAtlas#buildSdf(int)}
+     */
+    public void addSdfTexture(final int textureId) {
+        if (isSdfTexture(textureId)) {
+            return;
+        }
+        if (sdfTextureCount == sdfTextureIds.length) {
+            final int[] ids = new int[sdfTextureCount * 2];
+            System.arraycopy(sdfTextureIds, 0, ids, 0, sdfTextureCount);
+            sdfTextureIds = ids;
+        }
+        sdfTextureIds[sdfTextureCount++] = textureId;
+    }
+
+    /**
+     * Should be called before the texture registered with the {@link #addSdfTexture(int)} is deleted, since its name could be reused.
+     *
+     * @param textureId texture to draw with the usual shader
+     */
+    public void removeSdfTexture(final int textureId) {
+        for (int i = 0; i < sdfTextureCount; i++) {
+            if (sdfTextureIds[i] == textureId) {
+                sdfTextureIds[i] = sdfTextureIds[--sdfTextureCount];
+                return;
+            }
+        }
+    }
+
+    /**
+     * Linear search, since there are a few SDF textures at most.
+     */
+    private boolean isSdfTexture(final int textureId) {
+        for (int i = 0; i < sdfTextureCount; i++) {
+            if (sdfTextureIds[i] == textureId) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sets the directory to store binaries of linked shader programs. On the next start programs are loaded from there,
+     * instead of being compiled and linked, which takes a noticeable time with some drivers.
+     * Binaries are specific to the GL vendor, renderer and version, so they are invalidated by driver updates automatically.
+     * If the driver rejects a binary, the program is compiled from sources as usual.
+     * <p>
+     * Requires OpenGL 4.1+ or the ARB_get_program_binary extension and is ignored otherwise.
+     * <p>
+     * Disabled by default. Should be called before the {@link #init()}.
+     *
+     * @param programBinaryCacheDirectory directory for program binaries or null to disable the cache
+     */
+    public void setProgramBinaryCacheDirectory(final Path programBinaryCacheDirectory) {
+        this.programBinaryCacheDirectory = programBinaryCacheDirectory;
+    }
+
+    /**
+     * @return directory for program binaries or null if the cache is disabled
+     */
+    public Path getProgramBinaryCacheDirectory() {
+        return programBinaryCacheDirectory;
+    }
+
+    /**
+     * Tells the renderer that nothing else modifies the GL context state. In that case the GL state is not backed up before the rendering
+     * and not restored after it, so the renderer avoids about twenty synchronous glGet* queries per frame.
+     * The render state is kept between frames, only the scissor test is disabled after the rendering.
+     * <p>
+     * The renderer keeps a shadow of the GL state set in every context and skips calls for values which are already set.
+     * Without the exclusive context the state is still queried every frame, since the application could change it between frames.
+     * Queried values then seed the shadow, so only the values which differ from the application state are set and restored.
+     * <p>
+     * Disabled by default. Enable it only when the application guarantees that it doesn't touch the GL state by itself.
+     *
+     * @param exclusiveContext true if the renderer owns the GL context state
+     */
+    public void setExclusiveContext(final boolean exclusiveContext) {
+        this.exclusiveContext = exclusiveContext;
+        for (final ContextData data : contextDataMap.values()) {
+            data.state.known = false;
+        }
+    }
+
+    /**
+     * @return true, if the renderer owns the GL context state
+     */
+    public boolean isExclusiveContext() {
+        return exclusiveContext;
+    }
+
+    /**
+     * @return amount of draw commands in the last rendered {@link ImDrawData}
+     */
+    public int getLastCmdCount() {
+        return lastCmdCount;
+    }
+
+    /**
+     * Adjacent draw commands with the same texture, clip rect and contiguous indices are merged into one draw call.
+     *
+     * @return amount of draw calls issued to render the last {@link ImDrawData}
+     */
+    public int getLastDrawCallCount() {
+        return lastDrawCallCount;
+    }
+
     /**
      * Method to render {@link ImDrawData} into current OpenGL context.
      *
@@ -146,6 +460,53 @@ public final class ImGuiImplGl3 {
         drawData.getDisplayPos(displayPos);
         drawData.getFramebufferScale(framebufferScale); // (1,1) unless using retina display which are often (2,2)
 
+        // Fetch all draw commands at once, so the rendering loop works only with the Java memory
+        final int cmdDataCapacity = drawData.getTotalCmdCount() * ImDrawData.SIZEOF_IM_DRAW_CMD_DATA;
+        if (cmdData.capacity() < cmdDataCapacity) {
+            cmdData = ByteBuffer.allocateDirect(cmdDataCapacity + CMD_DATA_RESIZE_FACTOR).order(ByteOrder.nativeOrder());
+        }
+        final int cmdCount = drawData.getCmdBufferData(cmdData);
+
+        final ImGuiViewport ownerViewport = drawData.getOwnerViewport();
+
+        sourceDrawData = drawData;
+        render(ownerViewport.isValidPtr() ? ownerViewport.getID() : 0, cmdData, cmdCount,
+            drawData.getCmdListsCount(), drawData.getTotalVtxCount(), drawData.getTotalIdxCount());
+        sourceDrawData = null;
+    }
+
+    /**
+     * Method to render {@link ImDrawDataSnapshot} into current OpenGL context.
+     * The method doesn't access the Dear ImGui context, so it could be called from a separate render thread,
+     * which owns the OpenGL context, while the UI thread builds the next frame.
+     *
+     * @param snapshot draw data snapshot to render
+     */
+    public void renderDrawData(final ImDrawDataSnapshot snapshot) {
+        if (snapshot.getCmdListsCount() <= 0) {
+            return;
+        }
+
+        snapshot.getDisplaySize(displaySize);
+        snapshot.getDisplayPos(displayPos);
+        snapshot.getFramebufferScale(framebufferScale);
+
+        sourceSnapshot = snapshot;
+        render(snapshot.getOwnerViewportId(), snapshot.getCmdBufferData(), snapshot.getCmdCount(),
+            snapshot.getCmdListsCount(), snapshot.getTotalVtxCount(), snapshot.getTotalIdxCount());
+        sourceSnapshot = null;
+    }
+
+    private ByteBuffer getCmdListVtxBuffer(final int cmdListIdx) {
+        return sourceSnapshot != null ? sourceSnapshot.getCmdListVtxBufferData(cmdListIdx) : sourceDrawData.getCmdListVtxBufferView(cmdListIdx);
+    }
+
+    private ByteBuffer getCmdListIdxBuffer(final int cmdListIdx) {
+        return sourceSnapshot != null ? sourceSnapshot.getCmdListIdxBufferData(cmdListIdx) : sourceDrawData.getCmdListIdxBufferView(cmdListIdx);
+    }
+
+    private void render(final int viewportId, final ByteBuffer cmdBuffer, final int cmdCount,
+                        final int cmdListsCount, final int totalVtxCount, final int totalIdxCount) {
         final float clipOffX = displayPos.x;
         final float clipOffY = displayPos.y;
         final float clipScaleX = framebufferScale.x;
@@ -159,49 +520,243 @@ public final class ImGuiImplGl3 {
             return;
         }
 
-        backupGlState();
+        useContextData(viewportId);
+
+        if (!exclusiveContext) {
+            backupGlState();
+        }
+
+        // Geometry is streamed before binding, since persistent buffers could be recreated to fit the frame
+        final boolean streamGeometry = vtxRingBuffer != null;
+        if (streamGeometry) {
+            streamGeometry(cmdListsCount, totalVtxCount, totalIdxCount);
+        }
+
         bind(fbWidth, fbHeight);
 
+        multiDrawFrame = multiDrawIndirect && glVersion >= 430 && gSdfShaderHandle == 0;
+        if (multiDrawFrame) {
+            if (multiDraw == null) {
+                multiDraw = new ImGuiImplGl3MultiDraw(gAttribLocationVtxPos, gAttribLocationVtxUV, gAttribLocationVtxColor);
+            }
+            multiDraw.begin();
+        }
+
+        final boolean mergeGeometry = streamGeometry || ((mergedGeometryUpload || multiDrawFrame) && glVersion >= 320);
+        if (mergeGeometry && !streamGeometry) {
+            uploadMergedGeometry(cmdListsCount, totalVtxCount, totalIdxCount);
+        }
+
         // Render command lists
-        for (int cmdListIdx = 0; cmdListIdx < drawData.getCmdListsCount(); cmdListIdx++) {
-            // Upload vertex/index buffers
-            glBufferData(GL_ARRAY_BUFFER, drawData.getCmdListVtxBufferData(cmdListIdx), GL_STREAM_DRAW);
-            glBufferData(GL_ELEMENT_ARRAY_BUFFER, drawData.getCmdListIdxBufferData(cmdListIdx), GL_STREAM_DRAW);
+        int uploadedCmdListIdx = -1;
+
+        resetDrawBatch();
+        lastCmdCount = cmdCount;
+        lastDrawCallCount = 0;
+
+        for (int cmdIdx = 0; cmdIdx < cmdCount; cmdIdx++) {
+            final int cmdOffset = cmdIdx * ImDrawData.SIZEOF_IM_DRAW_CMD_DATA;
+            final int cmdListIdx = cmdBuffer.getInt(cmdOffset + ImDrawData.CMD_DATA_OFFSET_CMD_LIST_IDX);
+
+            // Upload vertex/index buffers straight from the native memory
+            final int cmdListVtxOffset;
+            final int cmdListIdxOffset;
+            if (mergeGeometry) {
+                cmdListVtxOffset = cmdListVtxOffsets[cmdListIdx];
+                cmdListIdxOffset = cmdListIdxOffsets[cmdListIdx];
+            } else {
+                if (cmdListIdx != uploadedCmdListIdx) {
+                    flushDrawBatch(); // Batched commands refer to the previous buffers
+                    glBufferData(GL_ARRAY_BUFFER, getCmdListVtxBuffer(cmdListIdx), GL_STREAM_DRAW);
+                    glBufferData(GL_ELEMENT_ARRAY_BUFFER, getCmdListIdxBuffer(cmdListIdx), GL_STREAM_DRAW);
+                    uploadedCmdListIdx = cmdListIdx;
+                }
+                cmdListVtxOffset = 0;
+                cmdListIdxOffset = 0;
+            }
 
-            for (int cmdBufferIdx = 0; cmdBufferIdx < drawData.getCmdListCmdBufferSize(cmdListIdx); cmdBufferIdx++) {
-                drawData.getCmdListCmdBufferClipRect(cmdListIdx, cmdBufferIdx, clipRect);
+            final int clipRectOffset = cmdOffset + ImDrawData.CMD_DATA_OFFSET_CLIP_RECT;
+            final float clipMinX = (cmdBuffer.getFloat(clipRectOffset) - clipOffX) * clipScaleX;
+            final float clipMinY = (cmdBuffer.getFloat(clipRectOffset + 4) - clipOffY) * clipScaleY;
+            final float clipMaxX = (cmdBuffer.getFloat(clipRectOffset + 8) - clipOffX) * clipScaleX;
+            final float clipMaxY = (cmdBuffer.getFloat(clipRectOffset + 12) - clipOffY) * clipScaleY;
 
-                final float clipMinX = (clipRect.x - clipOffX) * clipScaleX;
-                final float clipMinY = (clipRect.y - clipOffY) * clipScaleY;
-                final float clipMaxX = (clipRect.z - clipOffX) * clipScaleX;
-                final float clipMaxY = (clipRect.w - clipOffY) * clipScaleY;
+            if (clipMaxX <= clipMinX || clipMaxY <= clipMinY) {
+                continue;
+            }
 
-                if (clipMaxX <= clipMinX || clipMaxY <= clipMinY) {
-                    continue;
-                }
+            // Scissor/clipping rectangle (Y is inverted in OpenGL)
+            final int scissorX = (int) clipMinX;
+            final int scissorY = (int) (fbHeight - clipMaxY);
+            final int scissorW = (int) (clipMaxX - clipMinX);
+            final int scissorH = (int) (clipMaxY - clipMinY);
+
+            final int textureId = cmdBuffer.getInt(cmdOffset + ImDrawData.CMD_DATA_OFFSET_TEXTURE_ID);
+            final int elemCount = cmdBuffer.getInt(cmdOffset + ImDrawData.CMD_DATA_OFFSET_ELEM_COUNT);
+            final int idxBufferOffset = cmdListIdxOffset + cmdBuffer.getInt(cmdOffset + ImDrawData.CMD_DATA_OFFSET_IDX_OFFSET);
+            final int vtxBufferOffset = cmdListVtxOffset + cmdBuffer.getInt(cmdOffset + ImDrawData.CMD_DATA_OFFSET_VTX_OFFSET);
+
+            // Adjacent commands with the same state and contiguous indices are drawn with one call
+            final boolean canMerge = batchElemCount > 0
+                && batchTextureId == textureId
+                && batchVtxOffset == vtxBufferOffset
+                && batchIdxOffset + batchElemCount == idxBufferOffset
+                && batchScissorX == scissorX && batchScissorY == scissorY && batchScissorW == scissorW && batchScissorH == scissorH;
+
+            if (canMerge) {
+                batchElemCount += elemCount;
+            } else {
+                flushDrawBatch();
+                batchTextureId = textureId;
+                batchScissorX = scissorX;
+                batchScissorY = scissorY;
+                batchScissorW = scissorW;
+                batchScissorH = scissorH;
+                batchVtxOffset = vtxBufferOffset;
+                batchIdxOffset = idxBufferOffset;
+                batchElemCount = elemCount;
+            }
+        }
+
+        flushDrawBatch();
+
+        contextData.state.program = boundShaderHandle;
+
+        if (multiDrawFrame) {
+            lastDrawCallCount = multiDraw.submit(orthoProjMatrix);
+            contextData.state.known = false; // Program and scissor test were changed
+        }
+
+        if (streamGeometry) {
+            vtxRingBuffer.end();
+            idxRingBuffer.end();
+        }
+
+        unbind();
+
+        if (!exclusiveContext) {
+            restoreModifiedGlState();
+        }
+    }
 
-                // Apply scissor/clipping rectangle (Y is inverted in OpenGL)
-                glScissor((int) clipMinX, (int) (fbHeight - clipMaxY), (int) (clipMaxX - clipMinX), (int) (clipMaxY - clipMinY));
+    private void resetDrawBatch() {
+        batchElemCount = 0;
+        boundTextureId = -1;
+        boundShaderHandle = gShaderHandle;
+        appliedScissor[0] = -1;
+        appliedScissor[1] = -1;
+        appliedScissor[2] = -1;
+        appliedScissor[3] = -1;
+    }
 
-                // Bind texture, Draw
-                final int textureId = drawData.getCmdListCmdBufferTextureId(cmdListIdx, cmdBufferIdx);
-                final int elemCount = drawData.getCmdListCmdBufferElemCount(cmdListIdx, cmdBufferIdx);
-                final int idxBufferOffset = drawData.getCmdListCmdBufferIdxOffset(cmdListIdx, cmdBufferIdx);
-                final int vtxBufferOffset = drawData.getCmdListCmdBufferVtxOffset(cmdListIdx, cmdBufferIdx);
-                final int indices = idxBufferOffset * ImDrawData.SIZEOF_IM_DRAW_IDX;
+    private void flushDrawBatch() {
+        if (batchElemCount == 0) {
+            return;
+        }
 
-                glBindTexture(GL_TEXTURE_2D, textureId);
+        if (multiDrawFrame) {
+            multiDraw.add(batchTextureId, batchElemCount, batchIdxOffset, batchVtxOffset, batchScissorX, batchScissorY, batchScissorW, batchScissorH);
+            batchElemCount = 0;
+            return;
+        }
 
-                if (glVersion >= 320) {
-                    glDrawElementsBaseVertex(GL_TRIANGLES, elemCount, GL_UNSIGNED_SHORT, indices, vtxBufferOffset);
-                } else {
-                    glDrawElements(GL_TRIANGLES, elemCount, GL_UNSIGNED_SHORT, indices);
+        // Apply scissor/clipping rectangle and bind texture only when they differ from the previous draw call
+        if (appliedScissor[0] != batchScissorX || appliedScissor[1] != batchScissorY
+            || appliedScissor[2] != batchScissorW || appliedScissor[3] != batchScissorH) {
+            glScissor(batchScissorX, batchScissorY, batchScissorW, batchScissorH);
+            appliedScissor[0] = batchScissorX;
+            appliedScissor[1] = batchScissorY;
+            appliedScissor[2] = batchScissorW;
+            appliedScissor[3] = batchScissorH;
+        }
+
+        if (boundTextureId != batchTextureId) {
+            glBindTexture(GL_TEXTURE_2D, batchTextureId);
+            boundTextureId = batchTextureId;
+
+            final int shaderHandle = gSdfShaderHandle != 0 && isSdfTexture(batchTextureId) ? gSdfShaderHandle : gShaderHandle;
+            if (boundShaderHandle != shaderHandle) {
+                glUseProgram(shaderHandle);
+                if (shaderHandle == gSdfShaderHandle) {
+                    glUniform1i(gSdfAttribLocationTex, 0);
+                    glUniformMatrix4fv(gSdfAttribLocationProjMtx, false, orthoProjMatrix);
                 }
+                boundShaderHandle = shaderHandle;
             }
         }
 
-        unbind();
-        restoreModifiedGlState();
+        final long indices = (long) batchIdxOffset * ImDrawData.SIZEOF_IM_DRAW_IDX;
+
+        if (glVersion >= 320) {
+            glDrawElementsBaseVertex(GL_TRIANGLES, batchElemCount, GL_UNSIGNED_SHORT, indices, batchVtxOffset);
+        } else {
+            glDrawElements(GL_TRIANGLES, batchElemCount, GL_UNSIGNED_SHORT, indices);
+        }
+
+        lastDrawCallCount++;
+        batchElemCount = 0;
+    }
+
+    private void ensureCmdListOffsetsCapacity(final int cmdListsCount) {
+        if (cmdListVtxOffsets.length < cmdListsCount) {
+            cmdListVtxOffsets = new int[cmdListsCount * 2];
+            cmdListIdxOffsets = new int[cmdListsCount * 2];
+        }
+    }
+
+    private void streamGeometry(final int cmdListsCount, final int totalVtxCount, final int totalIdxCount) {
+        ensureCmdListOffsetsCapacity(cmdListsCount);
+
+        int vtxOffset = vtxRingBuffer.begin((long) totalVtxCount * ImDrawData.SIZEOF_IM_DRAW_VERT);
+        int idxOffset = idxRingBuffer.begin((long) totalIdxCount * ImDrawData.SIZEOF_IM_DRAW_IDX);
+
+        // Native draw lists are copied directly into the mapped memory
+        for (int cmdListIdx = 0; cmdListIdx < cmdListsCount; cmdListIdx++) {
+            final ByteBuffer vtxBuffer = getCmdListVtxBuffer(cmdListIdx);
+            final ByteBuffer idxBuffer = getCmdListIdxBuffer(cmdListIdx);
+
+            vtxRingBuffer.write(vtxBuffer);
+            idxRingBuffer.write(idxBuffer);
+
+            cmdListVtxOffsets[cmdListIdx] = vtxOffset;
+            cmdListIdxOffsets[cmdListIdx] = idxOffset;
+
+            vtxOffset += vtxBuffer.remaining() / ImDrawData.SIZEOF_IM_DRAW_VERT;
+            idxOffset += idxBuffer.remaining() / ImDrawData.SIZEOF_IM_DRAW_IDX;
+        }
+    }
+
+    private void uploadMergedGeometry(final int cmdListsCount, final int totalVtxCount, final int totalIdxCount) {
+        ensureCmdListOffsetsCapacity(cmdListsCount);
+
+        // Grow buffers when the frame doesn't fit, otherwise orphan the previous storage, so the driver doesn't wait for the GPU to finish with it
+        final long vtxSize = (long) totalVtxCount * ImDrawData.SIZEOF_IM_DRAW_VERT;
+        final long idxSize = (long) totalIdxCount * ImDrawData.SIZEOF_IM_DRAW_IDX;
+        if (gVboCapacity < vtxSize) {
+            gVboCapacity = vtxSize + vtxSize / 2;
+        }
+        if (gElementsCapacity < idxSize) {
+            gElementsCapacity = idxSize + idxSize / 2;
+        }
+        glBufferData(GL_ARRAY_BUFFER, gVboCapacity, GL_STREAM_DRAW);
+        glBufferData(GL_ELEMENT_ARRAY_BUFFER, gElementsCapacity, GL_STREAM_DRAW);
+
+        int vtxOffset = 0;
+        int idxOffset = 0;
+
+        for (int cmdListIdx = 0; cmdListIdx < cmdListsCount; cmdListIdx++) {
+            final ByteBuffer vtxBuffer = getCmdListVtxBuffer(cmdListIdx);
+            final ByteBuffer idxBuffer = getCmdListIdxBuffer(cmdListIdx);
+
+            glBufferSubData(GL_ARRAY_BUFFER, (long) vtxOffset * ImDrawData.SIZEOF_IM_DRAW_VERT, vtxBuffer);
+            glBufferSubData(GL_ELEMENT_ARRAY_BUFFER, (long) idxOffset * ImDrawData.SIZEOF_IM_DRAW_IDX, idxBuffer);
+
+            cmdListVtxOffsets[cmdListIdx] = vtxOffset;
+            cmdListIdxOffsets[cmdListIdx] = idxOffset;
+
+            vtxOffset += vtxBuffer.remaining() / ImDrawData.SIZEOF_IM_DRAW_VERT;
+            idxOffset += idxBuffer.remaining() / ImDrawData.SIZEOF_IM_DRAW_IDX;
+        }
     }
 
     /**
@@ -210,33 +765,209 @@ public final class ImGuiImplGl3 {
     public void dispose() {
         glDeleteBuffers(gVboHandle);
         glDeleteBuffers(gElementsHandle);
-        glDetachShader(gShaderHandle, gVertHandle);
-        glDetachShader(gShaderHandle, gFragHandle);
+        gVboCapacity = 0;
+        gElementsCapacity = 0;
+        // VAO could be deleted only in the current (main) context, objects of other contexts are destroyed with them
+        final ContextData mainContextData = contextDataMap.get(ImGui.getMainViewport().getID());
+        if (mainContextData != null) {
+            glDeleteVertexArrays(mainContextData.vertexArrayObject);
+        }
+        contextDataMap.clear();
+        contextData = null;
+        if (multiDraw != null) {
+            multiDraw.dispose();
+            multiDraw = null;
+        }
+        if (vtxRingBuffer != null) {
+            vtxRingBuffer.dispose();
+            idxRingBuffer.dispose();
+            vtxRingBuffer = null;
+            idxRingBuffer = null;
+        }
+        // Shaders are not created when programs are loaded from the binary cache
+        if (gFragHandle != 0) {
+            glDetachShader(gShaderHandle, gVertHandle);
+            glDetachShader(gShaderHandle, gFragHandle);
+        }
         glDeleteProgram(gShaderHandle);
-        glDeleteTextures(gFontTexture);
+        if (gSdfShaderHandle != 0) {
+            if (gSdfFragHandle != 0) {
+                glDetachShader(gSdfShaderHandle, gVertHandle);
+                glDetachShader(gSdfShaderHandle, gSdfFragHandle);
+            }
+            glDeleteProgram(gSdfShaderHandle);
+            gSdfShaderHandle = 0;
+        }
+        gVertHandle = 0;
+        gFragHandle = 0;
+        gSdfFragHandle = 0;
+        programCache = null;
+        deleteFontsTexture(gFontTexture);
+        gFontTexture = 0;
+        sdfTextureCount = 0;
+        fontTextureRowHashes = null;
         shutdownPlatformInterface();
     }
 
     /**
      * Method rebuilds the font atlas for Dear ImGui. Could be used to update application fonts in runtime.
+     * <p>
+     * When {@link #setFontsTexturePartialUpdate(boolean)} is enabled and the atlas keeps its size and format,
+     * the existing texture is reused and only the band of changed rows is uploaded with glTexSubImage2D.
      */
     public void updateFontsTexture() {
-        glDeleteTextures(gFontTexture);
-
         final ImFontAtlas fontAtlas = ImGui.getIO().getFonts();
         final ImInt width = new ImInt();
         final ImInt height = new ImInt();
-        final ByteBuffer buffer = fontAtlas.getTexDataAsRGBA32(width, height);
 
-        gFontTexture = glGenTextures();
+        final boolean alpha8 = isFontsTextureAlpha8(fontAtlas);
+        final ByteBuffer buffer = alpha8 ? fontAtlas.getTexDataAsAlpha8(width, height) : fontAtlas.getTexDataAsRGBA32(width, height);
+        final int rowSize = width.get() * (alpha8 ? 1 : 4);
 
-        glBindTexture(GL_TEXTURE_2D, gFontTexture);
+        final int lastUnpackAlignment = glGetInteger(GL_UNPACK_ALIGNMENT);
+        glPixelStorei(GL_UNPACK_ALIGNMENT, 1);
+
+        final long[] rowHashes = fontsTexturePartialUpdate ? hashRows(buffer, height.get(), rowSize) : null;
+
+        if (gFontTexture != 0 && rowHashes != null && fontTextureRowHashes != null && alpha8 == fontTextureAlpha8
+            && width.get() == fontTextureWidth && height.get() == fontTextureHeight) {
+            lastFontsTextureUploadSize = updateFontsTextureRows(buffer, rowHashes, width.get(), rowSize, alpha8 ? GL_RED : GL_RGBA);
+        } else {
+            deleteFontsTexture(gFontTexture);
+            gFontTexture = createFontsTexture(buffer, width.get(), height.get(), alpha8);
+            lastFontsTextureUploadSize = (long) rowSize * height.get();
+
+            fontTextureWidth = width.get();
+            fontTextureHeight = height.get();
+            fontTextureAlpha8 = alpha8;
+        }
+
+        glPixelStorei(GL_UNPACK_ALIGNMENT, lastUnpackAlignment);
+
+        fontTextureRowHashes = rowHashes;
+
+        // The same texture could be updated with an atlas built in another way
+        if (sdfFonts && fontAtlas.isBuiltSdf()) {
+            addSdfTexture(gFontTexture);
+        } else {
+            removeSdfTexture(gFontTexture);
+        }
+
+        fontAtlas.setTexID(gFontTexture);
+    }
+
+    /**
+     * Creates a texture with the pixels of the provided atlas, which is not necessarily the current one, and sets it as the atlas texture ID.
+     * The texture is owned by the caller.
+     *
+     * @return texture handle
+     */
+    int createFontsTexture(final ImFontAtlas fontAtlas) {
+        final ImInt width = new ImInt();
+        final ImInt height = new ImInt();
+        final boolean alpha8 = isFontsTextureAlpha8(fontAtlas);
+        final ByteBuffer buffer = alpha8 ? fontAtlas.getTexDataAsAlpha8(width, height) : fontAtlas.getTexDataAsRGBA32(width, height);
+
+        final int lastUnpackAlignment = glGetInteger(GL_UNPACK_ALIGNMENT);
+        glPixelStorei(GL_UNPACK_ALIGNMENT, 1);
+        final int textureId = createFontsTexture(buffer, width.get(), height.get(), alpha8);
+        glPixelStorei(GL_UNPACK_ALIGNMENT, lastUnpackAlignment);
+
+        if (sdfFonts && fontAtlas.isBuiltSdf()) {
+            addSdfTexture(textureId);
+        }
+
+        fontAtlas.setTexID(textureId);
+        return textureId;
+    }
+
+    /**
+     * Deletes a texture created by the {@link #createFontsTexture(ImFontAtlas)}.
+     */
+    void deleteFontsTexture(final int textureId) {
+        removeSdfTexture(textureId);
+        glDeleteTextures(textureId);
+    }
+
+    /**
+     * Builds the atlas, if needed, since colors usage is known only after the build.
+     *
+     * @return true if the texture of the atlas is created in the single-channel format
+     */
+    boolean isFontsTextureAlpha8(final ImFontAtlas fontAtlas) {
+        if (!fontAtlasAlpha8 || glVersion < 330) {
+            return false;
+        }
+        if (!fontAtlas.isBuilt()) {
+            fontAtlas.build();
+        }
+        return !fontAtlas.getTexPixelsUseColors();
+    }
+
+    private int createFontsTexture(final ByteBuffer buffer, final int width, final int height, final boolean alpha8) {
+        final int textureId = glGenTextures();
+
+        glBindTexture(GL_TEXTURE_2D, textureId);
         glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MIN_FILTER, GL_LINEAR);
         glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MAG_FILTER, GL_LINEAR);
 
-        glTexImage2D(GL_TEXTURE_2D, 0, GL_RGBA, width.get(), height.get(), 0, GL_RGBA, GL_UNSIGNED_BYTE, buffer);
+        if (alpha8) {
+            // Only the coverage is stored, RGB is always white: (1, 1, 1, R)
+            glTexImage2D(GL_TEXTURE_2D, 0, GL_R8, width, height, 0, GL_RED, GL_UNSIGNED_BYTE, buffer);
+            glTexParameteriv(GL_TEXTURE_2D, GL_TEXTURE_SWIZZLE_RGBA, fontAtlasSwizzle);
+        } else {
+            glTexImage2D(GL_TEXTURE_2D, 0, GL_RGBA, width, height, 0, GL_RGBA, GL_UNSIGNED_BYTE, buffer);
+        }
 
-        fontAtlas.setTexID(gFontTexture);
+        return textureId;
+    }
+
+    /**
+     * FNV-1a over 8-byte words of every row.
+     */
+    private static long[] hashRows(final ByteBuffer buffer, final int height, final int rowSize) {
+        final long[] hashes = new long[height];
+        for (int row = 0; row < height; row++) {
+            final int rowStart = row * rowSize;
+            final int rowEnd = rowStart + rowSize;
+            long hash = 0xcbf29ce484222325L;
+            int i = rowStart;
+            for (; i + Long.BYTES <= rowEnd; i += Long.BYTES) {
+                hash = (hash ^ buffer.getLong(i)) * 0x100000001b3L;
+            }
+            for (; i < rowEnd; i++) {
+                hash = (hash ^ buffer.get(i)) * 0x100000001b3L;
+            }
+            hashes[row] = hash;
+        }
+        return hashes;
+    }
+
+    /**
+     * @return amount of uploaded bytes
+     */
+    private long updateFontsTextureRows(final ByteBuffer buffer, final long[] rowHashes, final int width, final int rowSize, final int format) {
+        int firstRow = -1;
+        int lastRow = -1;
+        for (int row = 0; row < rowHashes.length; row++) {
+            if (rowHashes[row] != fontTextureRowHashes[row]) {
+                if (firstRow == -1) {
+                    firstRow = row;
+                }
+                lastRow = row;
+            }
+        }
+
+        if (firstRow == -1) {
+            return 0;
+        }
+
+        buffer.limit((lastRow + 1) * rowSize);
+        buffer.position(firstRow * rowSize);
+        glBindTexture(GL_TEXTURE_2D, gFontTexture);
+        glTexSubImage2D(GL_TEXTURE_2D, 0, 0, firstRow, width, lastRow - firstRow + 1, format, GL_UNSIGNED_BYTE, buffer);
+        buffer.clear();
+        return (long) (lastRow - firstRow + 1) * rowSize;
     }
 
     private void readGlVersion() {
@@ -277,10 +1008,19 @@ public final class ImGuiImplGl3 {
         gAttribLocationVtxUV = glGetAttribLocation(gShaderHandle, "UV");
         gAttribLocationVtxColor = glGetAttribLocation(gShaderHandle, "Color");
 
+        if (sdfFonts && parseGlslVersionString() >= 130) {
+            createSdfShader();
+        }
+
         // Create buffers
         gVboHandle = glGenBuffers();
         gElementsHandle = glGenBuffers();
 
+        if (persistentMappedBuffers && glVersion >= 440) {
+            vtxRingBuffer = new ImGuiImplGl3RingBuffer(ImDrawData.SIZEOF_IM_DRAW_VERT);
+            idxRingBuffer = new ImGuiImplGl3RingBuffer(ImDrawData.SIZEOF_IM_DRAW_IDX);
+        }
+
         updateFontsTexture();
 
         // Restore modified GL state
@@ -293,7 +1033,6 @@ public final class ImGuiImplGl3 {
         final int glslVersionValue = parseGlslVersionString();
 
         // Select shaders matching our GLSL versions
-        final CharSequence vertShaderSource;
         final CharSequence fragShaderSource;
 
         if (glslVersionValue < 130) {
@@ -310,17 +1049,75 @@ public final class ImGuiImplGl3 {
             fragShaderSource = getFragmentShaderGlsl130();
         }
 
+        if (programBinaryCacheDirectory != null) {
+            programCache = ImGuiImplGl3ProgramCache.create(programBinaryCacheDirectory, glVersion);
+        }
+
+        if (programCache != null) {
+            gShaderHandle = programCache.load(vertShaderSource, fragShaderSource);
+            if (gShaderHandle != 0) {
+                return;
+            }
+        }
+
         gVertHandle = createAndCompileShader(GL_VERTEX_SHADER, vertShaderSource);
         gFragHandle = createAndCompileShader(GL_FRAGMENT_SHADER, fragShaderSource);
 
         gShaderHandle = glCreateProgram();
         glAttachShader(gShaderHandle, gVertHandle);
         glAttachShader(gShaderHandle, gFragHandle);
+        if (programCache != null) {
+            programCache.prepare(gShaderHandle);
+        }
         glLinkProgram(gShaderHandle);
 
         if (glGetProgrami(gShaderHandle, GL_LINK_STATUS) == GL_FALSE) {
             throw new IllegalStateException("Failed to link shader program:\n" + glGetProgramInfoLog(gShaderHandle));
         }
+
+        if (programCache != null) {
+            programCache.save(gShaderHandle, vertShaderSource, fragShaderSource);
+        }
+    }
+
+    /**
+     * SDF program shares the vertex shader with the main one and uses the same attribute locations, so the same VAO setup works for both.
+     */
+    private void createSdfShader() {
+        final CharSequence sdfFragShaderSource = getFragmentShaderSdf(parseGlslVersionString());
+
+        if (programCache != null) {
+            gSdfShaderHandle = programCache.load(vertShaderSource, sdfFragShaderSource);
+        }
+
+        if (gSdfShaderHandle == 0) {
+            if (gVertHandle == 0) {
+                gVertHandle = createAndCompileShader(GL_VERTEX_SHADER, vertShaderSource);
+            }
+            gSdfFragHandle = createAndCompileShader(GL_FRAGMENT_SHADER, sdfFragShaderSource);
+
+            gSdfShaderHandle = glCreateProgram();
+            glAttachShader(gSdfShaderHandle, gVertHandle);
+            glAttachShader(gSdfShaderHandle, gSdfFragHandle);
+            glBindAttribLocation(gSdfShaderHandle, gAttribLocationVtxPos, "Position");
+            glBindAttribLocation(gSdfShaderHandle, gAttribLocationVtxUV, "UV");
+            glBindAttribLocation(gSdfShaderHandle, gAttribLocationVtxColor, "Color");
+            if (programCache != null) {
+                programCache.prepare(gSdfShaderHandle);
+            }
+            glLinkProgram(gSdfShaderHandle);
+
+            if (glGetProgrami(gSdfShaderHandle, GL_LINK_STATUS) == GL_FALSE) {
+                throw new IllegalStateException("Failed to link SDF shader program:\n" + glGetProgramInfoLog(gSdfShaderHandle));
+            }
+
+            if (programCache != null) {
+                programCache.save(gSdfShaderHandle, vertShaderSource, sdfFragShaderSource);
+            }
+        }
+
+        gSdfAttribLocationTex = glGetUniformLocation(gSdfShaderHandle, "Texture");
+        gSdfAttribLocationProjMtx = glGetUniformLocation(gSdfShaderHandle, "ProjMtx");
     }
 
     private int parseGlslVersionString() {
@@ -335,65 +1132,145 @@ public final class ImGuiImplGl3 {
     }
 
     private void backupGlState() {
-        glGetIntegerv(GL_ACTIVE_TEXTURE, lastActiveTexture);
+        lastState.activeTexture = glGetInteger(GL_ACTIVE_TEXTURE);
         glActiveTexture(GL_TEXTURE0);
-        glGetIntegerv(GL_CURRENT_PROGRAM, lastProgram);
-        glGetIntegerv(GL_TEXTURE_BINDING_2D, lastTexture);
-        glGetIntegerv(GL_ARRAY_BUFFER_BINDING, lastArrayBuffer);
-        glGetIntegerv(GL_VERTEX_ARRAY_BINDING, lastVertexArrayObject);
-        glGetIntegerv(GL_VIEWPORT, lastViewport);
-        glGetIntegerv(GL_SCISSOR_BOX, lastScissorBox);
-        glGetIntegerv(GL_BLEND_SRC_RGB, lastBlendSrcRgb);
-        glGetIntegerv(GL_BLEND_DST_RGB, lastBlendDstRgb);
-        glGetIntegerv(GL_BLEND_SRC_ALPHA, lastBlendSrcAlpha);
-        glGetIntegerv(GL_BLEND_DST_ALPHA, lastBlendDstAlpha);
-        glGetIntegerv(GL_BLEND_EQUATION_RGB, lastBlendEquationRgb);
-        glGetIntegerv(GL_BLEND_EQUATION_ALPHA, lastBlendEquationAlpha);
-        lastEnableBlend = glIsEnabled(GL_BLEND);
-        lastEnableCullFace = glIsEnabled(GL_CULL_FACE);
-        lastEnableDepthTest = glIsEnabled(GL_DEPTH_TEST);
-        lastEnableStencilTest = glIsEnabled(GL_STENCIL_TEST);
-        lastEnableScissorTest = glIsEnabled(GL_SCISSOR_TEST);
+        lastState.program = glGetInteger(GL_CURRENT_PROGRAM);
+        lastState.texture = glGetInteger(GL_TEXTURE_BINDING_2D);
+        lastState.arrayBuffer = glGetInteger(GL_ARRAY_BUFFER_BINDING);
+        lastState.vertexArrayObject = glGetInteger(GL_VERTEX_ARRAY_BINDING);
+        glGetIntegerv(GL_VIEWPORT, lastState.viewport);
+        glGetIntegerv(GL_SCISSOR_BOX, lastState.scissorBox);
+        lastState.blendSrcRgb = glGetInteger(GL_BLEND_SRC_RGB);
+        lastState.blendDstRgb = glGetInteger(GL_BLEND_DST_RGB);
+        lastState.blendSrcAlpha = glGetInteger(GL_BLEND_SRC_ALPHA);
+        lastState.blendDstAlpha = glGetInteger(GL_BLEND_DST_ALPHA);
+        lastState.blendEquationRgb = glGetInteger(GL_BLEND_EQUATION_RGB);
+        lastState.blendEquationAlpha = glGetInteger(GL_BLEND_EQUATION_ALPHA);
+        lastState.enableBlend = glIsEnabled(GL_BLEND);
+        lastState.enableCullFace = glIsEnabled(GL_CULL_FACE);
+        lastState.enableDepthTest = glIsEnabled(GL_DEPTH_TEST);
+        lastState.enableStencilTest = glIsEnabled(GL_STENCIL_TEST);
+        lastState.enableScissorTest = glIsEnabled(GL_SCISSOR_TEST);
+        lastState.known = true;
+
+        // The state of the context is known exactly now, so the shadow is seeded with it
+        contextData.state.set(lastState);
+        contextData.state.activeTexture = GL_TEXTURE0;
     }
 
     private void restoreModifiedGlState() {
-        glUseProgram(lastProgram[0]);
-        glBindTexture(GL_TEXTURE_2D, lastTexture[0]);
-        glActiveTexture(lastActiveTexture[0]);
-        glBindVertexArray(lastVertexArrayObject[0]);
-        glBindBuffer(GL_ARRAY_BUFFER, lastArrayBuffer[0]);
-        glBlendEquationSeparate(lastBlendEquationRgb[0], lastBlendEquationAlpha[0]);
-        glBlendFuncSeparate(lastBlendSrcRgb[0], lastBlendDstRgb[0], lastBlendSrcAlpha[0], lastBlendDstAlpha[0]);
-        // @formatter:off CHECKSTYLE:OFF
-        if (lastEnableBlend) glEnable(GL_BLEND); else glDisable(GL_BLEND);
-        if (lastEnableCullFace) glEnable(GL_CULL_FACE); else glDisable(GL_CULL_FACE);
-        if (lastEnableDepthTest) glEnable(GL_DEPTH_TEST); else glDisable(GL_DEPTH_TEST);
-        if (lastEnableStencilTest) glEnable(GL_STENCIL_TEST); else glDisable(GL_STENCIL_TEST);
-        if (lastEnableScissorTest) glEnable(GL_SCISSOR_TEST); else glDisable(GL_SCISSOR_TEST);
-        // @formatter:on CHECKSTYLE:ON
-        glViewport(lastViewport[0], lastViewport[1], lastViewport[2], lastViewport[3]);
-        glScissor(lastScissorBox[0], lastScissorBox[1], lastScissorBox[2], lastScissorBox[3]);
+        final GlState state = contextData.state;
+        final boolean known = state.known;
+
+        if (!known || state.program != lastState.program) {
+            glUseProgram(lastState.program);
+        }
+        // Texture, array buffer and scissor box are changed while drawing without updating the shadow, so they are always restored
+        glBindTexture(GL_TEXTURE_2D, lastState.texture);
+        if (!known || state.activeTexture != lastState.activeTexture) {
+            glActiveTexture(lastState.activeTexture);
+        }
+        if (!known || state.vertexArrayObject != lastState.vertexArrayObject) {
+            glBindVertexArray(lastState.vertexArrayObject);
+        }
+        glBindBuffer(GL_ARRAY_BUFFER, lastState.arrayBuffer);
+        if (!known || state.blendEquationRgb != lastState.blendEquationRgb || state.blendEquationAlpha != lastState.blendEquationAlpha) {
+            glBlendEquationSeparate(lastState.blendEquationRgb, lastState.blendEquationAlpha);
+        }
+        if (!known || state.blendSrcRgb != lastState.blendSrcRgb || state.blendDstRgb != lastState.blendDstRgb
+            || state.blendSrcAlpha != lastState.blendSrcAlpha || state.blendDstAlpha != lastState.blendDstAlpha) {
+            glBlendFuncSeparate(lastState.blendSrcRgb, lastState.blendDstRgb, lastState.blendSrcAlpha, lastState.blendDstAlpha);
+        }
+        if (!known || state.enableBlend != lastState.enableBlend) {
+            setCapability(GL_BLEND, lastState.enableBlend);
+        }
+        if (!known || state.enableCullFace != lastState.enableCullFace) {
+            setCapability(GL_CULL_FACE, lastState.enableCullFace);
+        }
+        if (!known || state.enableDepthTest != lastState.enableDepthTest) {
+            setCapability(GL_DEPTH_TEST, lastState.enableDepthTest);
+        }
+        if (!known || state.enableStencilTest != lastState.enableStencilTest) {
+            setCapability(GL_STENCIL_TEST, lastState.enableStencilTest);
+        }
+        if (!known || state.enableScissorTest != lastState.enableScissorTest) {
+            setCapability(GL_SCISSOR_TEST, lastState.enableScissorTest);
+        }
+        if (!known || !Arrays.equals(state.viewport, lastState.viewport)) {
+            glViewport(lastState.viewport[0], lastState.viewport[1], lastState.viewport[2], lastState.viewport[3]);
+        }
+        glScissor(lastState.scissorBox[0], lastState.scissorBox[1], lastState.scissorBox[2], lastState.scissorBox[3]);
+
+        state.set(lastState);
+    }
+
+    private static void setCapability(final int capability, final boolean enabled) {
+        if (enabled) {
+            glEnable(capability);
+        } else {
+            glDisable(capability);
+        }
     }
 
     // Setup desired GL state
     private void bind(final int fbWidth, final int fbHeight) {
-        // Recreate the VAO every time (this is to easily allow multiple GL contexts to be rendered to. VAO are not shared among GL contexts)
-        // The renderer would actually work without any VAO bound, but then our VertexAttrib calls would overwrite the default one currently bound.
-        gVertexArrayObjectHandle = glGenVertexArrays();
+        final int vboHandle = vtxRingBuffer != null ? vtxRingBuffer.getHandle() : gVboHandle;
+        final int elementsHandle = idxRingBuffer != null ? idxRingBuffer.getHandle() : gElementsHandle;
+        final int buffersGeneration = vtxRingBuffer != null ? vtxRingBuffer.getGeneration() + idxRingBuffer.getGeneration() : 0;
+
+        // Values which are already set in the context according to the shadow of its state are skipped
+        final GlState state = contextData.state;
+        final boolean known = state.known;
 
         // Setup render state: alpha-blending enabled, no face culling, no depth testing, scissor enabled, polygon fill
-        glEnable(GL_BLEND);
-        glBlendEquation(GL_FUNC_ADD);
-        glBlendFuncSeparate(GL_SRC_ALPHA, GL_ONE_MINUS_SRC_ALPHA, GL_ONE, GL_ONE_MINUS_SRC_ALPHA);
-        glDisable(GL_CULL_FACE);
-        glDisable(GL_DEPTH_TEST);
-        glDisable(GL_STENCIL_TEST);
-        glEnable(GL_SCISSOR_TEST);
+        if (!known || state.activeTexture != GL_TEXTURE0) {
+            glActiveTexture(GL_TEXTURE0);
+            state.activeTexture = GL_TEXTURE0;
+        }
+        if (!known || !state.enableBlend) {
+            glEnable(GL_BLEND);
+            state.enableBlend = true;
+        }
+        if (!known || state.blendEquationRgb != GL_FUNC_ADD || state.blendEquationAlpha != GL_FUNC_ADD) {
+            glBlendEquation(GL_FUNC_ADD);
+            state.blendEquationRgb = GL_FUNC_ADD;
+            state.blendEquationAlpha = GL_FUNC_ADD;
+        }
+        if (!known || state.blendSrcRgb != GL_SRC_ALPHA || state.blendDstRgb != GL_ONE_MINUS_SRC_ALPHA
+            || state.blendSrcAlpha != GL_ONE || state.blendDstAlpha != GL_ONE_MINUS_SRC_ALPHA) {
+            glBlendFuncSeparate(GL_SRC_ALPHA, GL_ONE_MINUS_SRC_ALPHA, GL_ONE, GL_ONE_MINUS_SRC_ALPHA);
+            state.blendSrcRgb = GL_SRC_ALPHA;
+            state.blendDstRgb = GL_ONE_MINUS_SRC_ALPHA;
+            state.blendSrcAlpha = GL_ONE;
+            state.blendDstAlpha = GL_ONE_MINUS_SRC_ALPHA;
+        }
+        if (!known || state.enableCullFace) {
+            glDisable(GL_CULL_FACE);
+            state.enableCullFace = false;
+        }
+        if (!known || state.enableDepthTest) {
+            glDisable(GL_DEPTH_TEST);
+            state.enableDepthTest = false;
+        }
+        if (!known || state.enableStencilTest) {
+            glDisable(GL_STENCIL_TEST);
+            state.enableStencilTest = false;
+        }
+        if (!known || !state.enableScissorTest) {
+            glEnable(GL_SCISSOR_TEST);
+            state.enableScissorTest = true;
+        }
 
         // Setup viewport, orthographic projection matrix
         // Our visible imgui space lies from draw_data->DisplayPos (top left) to draw_data->DisplayPos+data_data->DisplaySize (bottom right).
         // DisplayPos is (0,0) for single viewport apps.
-        glViewport(0, 0, fbWidth, fbHeight);
+        if (!known || state.viewport[0] != 0 || state.viewport[1] != 0 || state.viewport[2] != fbWidth || state.viewport[3] != fbHeight) {
+            glViewport(0, 0, fbWidth, fbHeight);
+            state.viewport[0] = 0;
+            state.viewport[1] = 0;
+            state.viewport[2] = fbWidth;
+            state.viewport[3] = fbHeight;
+        }
         final float left = displayPos.x;
         final float right = displayPos.x + displaySize.x;
         final float top = displayPos.y;
@@ -408,26 +1285,121 @@ public final class ImGuiImplGl3 {
         orthoProjMatrix[15] = 1.0f;
 
         // Bind shader
-        glUseProgram(gShaderHandle);
-        glUniform1i(gAttribLocationTex, 0);
+        if (!known || state.program != gShaderHandle) {
+            glUseProgram(gShaderHandle);
+            glUniform1i(gAttribLocationTex, 0);
+            state.program = gShaderHandle;
+        }
         glUniformMatrix4fv(gAttribLocationProjMtx, false, orthoProjMatrix);
 
-        glBindVertexArray(gVertexArrayObjectHandle);
+        // VAO is created once for every GL context (they are not shared among contexts) and reused in next frames.
+        // The renderer would actually work without any VAO bound, but then our VertexAttrib calls would overwrite the default one currently bound.
+        if (contextData.vertexArrayObject == 0) {
+            contextData.vertexArrayObject = glGenVertexArrays();
+        }
+        if (!known || state.vertexArrayObject != contextData.vertexArrayObject) {
+            glBindVertexArray(contextData.vertexArrayObject);
+            state.vertexArrayObject = contextData.vertexArrayObject;
+        }
+
+        // Bind vertex/index buffers and setup attributes for ImDrawVert.
+        // Array buffer binding is not a part of the VAO state, but it's needed to upload the geometry.
+        glBindBuffer(GL_ARRAY_BUFFER, vboHandle);
+
+        if (contextData.buffersGeneration != buffersGeneration) {
+            glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, elementsHandle);
+            glEnableVertexAttribArray(gAttribLocationVtxPos);
+            glEnableVertexAttribArray(gAttribLocationVtxUV);
+            glEnableVertexAttribArray(gAttribLocationVtxColor);
+            glVertexAttribPointer(gAttribLocationVtxPos, 2, GL_FLOAT, false, ImDrawData.SIZEOF_IM_DRAW_VERT, 0);
+            glVertexAttribPointer(gAttribLocationVtxUV, 2, GL_FLOAT, false, ImDrawData.SIZEOF_IM_DRAW_VERT, 8);
+            glVertexAttribPointer(gAttribLocationVtxColor, 4, GL_UNSIGNED_BYTE, true, ImDrawData.SIZEOF_IM_DRAW_VERT, 16);
+            contextData.buffersGeneration = buffersGeneration;
+        }
 
-        // Bind vertex/index buffers and setup attributes for ImDrawVert
-        glBindBuffer(GL_ARRAY_BUFFER, gVboHandle);
-        glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, gElementsHandle);
-        glEnableVertexAttribArray(gAttribLocationVtxPos);
-        glEnableVertexAttribArray(gAttribLocationVtxUV);
-        glEnableVertexAttribArray(gAttribLocationVtxColor);
-        glVertexAttribPointer(gAttribLocationVtxPos, 2, GL_FLOAT, false, ImDrawData.SIZEOF_IM_DRAW_VERT, 0);
-        glVertexAttribPointer(gAttribLocationVtxUV, 2, GL_FLOAT, false, ImDrawData.SIZEOF_IM_DRAW_VERT, 8);
-        glVertexAttribPointer(gAttribLocationVtxColor, 4, GL_UNSIGNED_BYTE, true, ImDrawData.SIZEOF_IM_DRAW_VERT, 16);
+        state.known = true;
     }
 
     private void unbind() {
-        // Destroy the temporary VAO
-        glDeleteVertexArrays(gVertexArrayObjectHandle);
+        // Scissor test is the only state disabled with the exclusive context, otherwise it would clip glClear calls made by the application
+        if (exclusiveContext) {
+            glDisable(GL_SCISSOR_TEST);
+            contextData.state.enableScissorTest = false;
+        }
+    }
+
+    private void useContextData(final int viewportId) {
+        if (contextData != null && contextData.viewportId == viewportId) {
+            return;
+        }
+
+        contextData = contextDataMap.get(viewportId);
+
+        if (contextData == null) {
+            contextData = new ContextData(viewportId);
+            contextDataMap.put(viewportId, contextData);
+        }
+    }
+
+    /**
+     * GL objects and state which are not shared among GL contexts. Every viewport is rendered in its own context.
+     */
+    private static final class ContextData {
+        private final int viewportId;
+        private int vertexArrayObject = 0;
+        private int buffersGeneration = -1; // buffers attached to the VAO, changes when persistent buffers are recreated
+        private final GlState state = new GlState(); // shadow of the GL state set in the context
+
+        private ContextData(final int viewportId) {
+            this.viewportId = viewportId;
+        }
+    }
+
+    /**
+     * Values of the GL state which are changed by the renderer.
+     */
+    private static final class GlState {
+        private boolean known = false; // false, if the values may differ from the actual state of the context
+        private int activeTexture = 0;
+        private int program = 0;
+        private int texture = 0;
+        private int arrayBuffer = 0;
+        private int vertexArrayObject = 0;
+        private final int[] viewport = new int[4];
+        private final int[] scissorBox = new int[4];
+        private int blendSrcRgb = 0;
+        private int blendDstRgb = 0;
+        private int blendSrcAlpha = 0;
+        private int blendDstAlpha = 0;
+        private int blendEquationRgb = 0;
+        private int blendEquationAlpha = 0;
+        private boolean enableBlend = false;
+        private boolean enableCullFace = false;
+        private boolean enableDepthTest = false;
+        private boolean enableStencilTest = false;
+        private boolean enableScissorTest = false;
+
+        private void set(final GlState other) {
+            known = other.known;
+            activeTexture = other.activeTexture;
+            program = other.program;
+            texture = other.texture;
+            arrayBuffer = other.arrayBuffer;
+            vertexArrayObject = other.vertexArrayObject;
+            System.arraycopy(other.viewport, 0, viewport, 0, viewport.length);
+            System.arraycopy(other.scissorBox, 0, scissorBox, 0, scissorBox.length);
+            blendSrcRgb = other.blendSrcRgb;
+            blendDstRgb = other.blendDstRgb;
+            blendSrcAlpha = other.blendSrcAlpha;
+            blendDstAlpha = other.blendDstAlpha;
+            blendEquationRgb = other.blendEquationRgb;
+            blendEquationAlpha = other.blendEquationAlpha;
+            enableBlend = other.enableBlend;
+            enableCullFace = other.enableCullFace;
+            enableDepthTest = other.enableDepthTest;
+            enableStencilTest = other.enableStencilTest;
+            enableScissorTest = other.enableScissorTest;
+        }
     }
 
     //--------------------------------------------------------------------------------------------------------
@@ -437,6 +1409,16 @@ public final class ImGuiImplGl3 {
     //--------------------------------------------------------------------------------------------------------
 
     private void initPlatformInterface() {
+        ImGui.getPlatformIO().setRendererDestroyWindow(new ImPlatformFuncViewport() {
+            @Override
+            public void accept(final ImGuiViewport vp) {
+                // Context of the viewport is destroyed with its window, so are the objects created in it
+                final ContextData data = contextDataMap.remove(vp.getID());
+                if (data == contextData) {
+                    contextData = null;
+                }
+            }
+        });
         ImGui.getPlatformIO().setRendererRenderWindow(new ImPlatformFuncViewport() {
             @Override
             public void accept(final ImGuiViewport vp) {
@@ -453,7 +1435,7 @@ public final class ImGuiImplGl3 {
         ImGui.destroyPlatformWindows();
     }
 
-    private int createAndCompileShader(final int type, final CharSequence source) {
+    static int createAndCompileShader(final int type, final CharSequence source) {
         final int id = glCreateShader(type);
 
         glShaderSource(id, source);
@@ -581,4 +1563,23 @@ public final class ImGuiImplGl3 {
             + "    Out_Color = Frag_Color * texture(Texture, Frag_UV.st);\n"
             + "}\n";
     }
+
+    /**
+     * Distance is stored in the alpha channel: 0.5 on the glyph edge. Solid shapes, which use the white pixel, are decoded as fully opaque.
+     */
+    private String getFragmentShaderSdf(final int glslVersionValue) {
+        return glslVersion + "\n"
+            + (glslVersionValue == 300 ? "precision mediump float;\n" : "")
+            + "uniform sampler2D Texture;\n"
+            + "in vec2 Frag_UV;\n"
+            + "in vec4 Frag_Color;\n"
+            + (glslVersionValue >= 300 ? "layout (location = 0) out vec4 Out_Color;\n" : "out vec4 Out_Color;\n")
+            + "void main()\n"
+            + "{\n"
+            + "    vec4 texColor = texture(Texture, Frag_UV.st);\n"
+            + "    float width = max(fwidth(texColor.a) * 0.7, 0.0001);\n"
+            + "    float alpha = smoothstep(0.5 - width, 0.5 + width, texColor.a);\n"
+            + "    Out_Color = vec4(Frag_Color.rgb * texColor.rgb, Frag_Color.a * alpha);\n"
+            + "}\n";
+    }
 }
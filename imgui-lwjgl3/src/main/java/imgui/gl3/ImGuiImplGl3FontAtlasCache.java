@@ -0,0 +1,281 @@
+package imgui.gl3;
+
+import imgui.ImFont;
+import imgui.ImFontAtlas;
+import imgui.ImGui;
+import imgui.ImGuiIO;
+import imgui.callback.ImFontAtlasScaleCallback;
+import org.lwjgl.glfw.GLFWWindowContentScaleCallback;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.lwjgl.glfw.GLFW.glfwGetWindowContentScale;
+import static org.lwjgl.glfw.GLFW.glfwSetWindowContentScaleCallback;
+
+/**
+ * Bounded LRU cache of font atlases and their textures, keyed by the DPI scale.
+ * Allows to switch fonts instantly when a window moves between monitors with different content scales,
+ * instead of rebuilding the atlas and re-uploading its texture on every move.
+ * <p>
+ * Atlases are built by the provided callback, which adds fonts with sizes multiplied by the scale.
+ * Once uploaded, CPU-side pixels of the atlas are freed, so the memory usage is the size of textures in the video memory.
+ * When the usage exceeds the limit, the least recently used atlases are destroyed. The current atlas is never evicted.
+ * <p>
+ * Should be used from the thread which owns the Dear ImGui context and the OpenGL context, outside of the frame:
+ * <pre>
+ *     glfwGetWindowContentScale(windowPtr, scaleX, scaleY);
+ *     fontAtlasCache.apply(scaleX[0]);
+ *     ImGui.newFrame();
+ * </pre>
+ * Or the cache could follow the window content scale by itself, see {@link #installContentScaleCallback(long)}.
+ * <p>
+ * Switching the atlas makes all {@link ImFont} handles of the previous atlas invalid, since it could be evicted and destroyed.
+ * The default font of the IO is re-resolved automatically: it's replaced by the font with the same index in the new atlas.
+ * Other font handles held by the application (e.g. used with the {@link ImGui#pushFont(ImFont)}) should be taken again
+ * from the new atlas in the {@link #setFontAtlasChangeCallback(ImFontAtlasScaleCallback)}.
+ */
+public final class ImGuiImplGl3FontAtlasCache {
+    private static final float SCALE_PRECISION = 100f;
+
+    private final ImGuiImplGl3 imGuiGl3;
+    private final ImFontAtlasScaleCallback setupCallback;
+    private final Map<Integer, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long maxMemoryUsage;
+    private long memoryUsage = 0;
+    private Entry currentEntry = null;
+    private ImFontAtlas originalFontAtlas = null;
+    private ImFontAtlasScaleCallback fontAtlasChangeCallback = null;
+
+    private long contentScaleWindowPtr = 0;
+    private GLFWWindowContentScaleCallback prevContentScaleCallback = null;
+
+    /**
+     * @param imGuiGl3       renderer to create textures with
+     * @param setupCallback  callback to add fonts to the atlas for the requested scale
+     * @param maxMemoryUsage limit of the textures memory in bytes
+     */
+    public ImGuiImplGl3FontAtlasCache(final ImGuiImplGl3 imGuiGl3, final ImFontAtlasScaleCallback setupCallback, final long maxMemoryUsage) {
+        this.imGuiGl3 = imGuiGl3;
+        this.setupCallback = setupCallback;
+        this.maxMemoryUsage = maxMemoryUsage;
+    }
+
+    /**
+     * Sets the callback called by the {@link #apply(float)} after the current atlas was changed.
+     * Should be used to replace font handles of the previous atlas by the fonts of the new one:
+     * <pre>
+     *     fontAtlasCache.setFontAtlasChangeCallback(new ImFontAtlasScaleCallback() {
+     *         public void accept(final ImFontAtlas fontAtlas, final float dpiScale) {
+     *             monoFont = fontAtlas.getFont(1);
+     *         }
+     *     });
+     * </pre>
+     *
+     * @param fontAtlasChangeCallback callback or null to remove it
+     */
+    public void setFontAtlasChangeCallback(final ImFontAtlasScaleCallback fontAtlasChangeCallback) {
+        this.fontAtlasChangeCallback = fontAtlasChangeCallback;
+    }
+
+    /**
+     * Makes the cache follow the content scale of the window: applies the current scale immediately
+     * and the new one every time the window content scale changes (e.g. when it's moved to a monitor with a different DPI).
+     * The previous content scale callback of the window is chained.
+     * <p>
+     * The scale is applied inside the GLFW callback, so events should be polled outside of the frame with the OpenGL context current,
+     * which is the case for the usual main loop. Callback is removed by the {@link #dispose()}.
+     *
+     * @param windowPtr pointer to the GLFW window
+     */
+    public void installContentScaleCallback(final long windowPtr) {
+        if (contentScaleWindowPtr != 0) {
+            throw new IllegalStateException("Content scale callback is already installed");
+        }
+        final float[] scaleX = new float[1];
+        final float[] scaleY = new float[1];
+        glfwGetWindowContentScale(windowPtr, scaleX, scaleY);
+        apply(scaleX[0]);
+
+        contentScaleWindowPtr = windowPtr;
+        prevContentScaleCallback = glfwSetWindowContentScaleCallback(windowPtr, (window, xScale, yScale) -> {
+            apply(xScale);
+            if (prevContentScaleCallback != null) {
+                prevContentScaleCallback.invoke(window, xScale, yScale);
+            }
+        });
+    }
+
+    /**
+     * Makes the atlas for the scale current: sets it to the {@link ImGuiIO#setFonts(ImFontAtlas)}.
+     * The atlas is built and uploaded when it's not in the cache yet. Scales are compared with the precision of 0.01.
+     * The default font of the IO is replaced by the font with the same index in the new atlas,
+     * then the {@link #setFontAtlasChangeCallback(ImFontAtlasScaleCallback)} is called.
+     *
+     * @param dpiScale DPI scale to use
+     * @return true if the current atlas was changed
+     */
+    public boolean apply(final float dpiScale) {
+        final Entry entry = get(dpiScale);
+        if (entry == currentEntry) {
+            return false;
+        }
+
+        final ImGuiIO io = ImGui.getIO();
+        if (originalFontAtlas == null) {
+            // IO returns a shared instance, so its pointer is copied
+            originalFontAtlas = new ImFontAtlas(io.getFonts().ptr);
+        }
+        final int fontDefaultIdx = indexOfFont(io.getFonts(), io.getFontDefault());
+        io.setFonts(entry.fontAtlas);
+        io.setFontDefault(fontDefaultIdx != -1 && fontDefaultIdx < entry.fontAtlas.getFontsSize() ? entry.fontAtlas.getFont(fontDefaultIdx) : null);
+        currentEntry = entry;
+
+        evict();
+
+        if (fontAtlasChangeCallback != null) {
+            fontAtlasChangeCallback.accept(entry.fontAtlas, entry.dpiScale);
+        }
+        return true;
+    }
+
+    private static int indexOfFont(final ImFontAtlas fontAtlas, final ImFont font) {
+        if (font == null) {
+            return -1;
+        }
+        final int fontsSize = fontAtlas.getFontsSize();
+        for (int i = 0; i < fontsSize; i++) {
+            if (fontAtlas.getFont(i).ptr == font.ptr) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return atlas for the scale, built and uploaded when it's not in the cache yet
+     */
+    public ImFontAtlas getFontAtlas(final float dpiScale) {
+        final ImFontAtlas fontAtlas = get(dpiScale).fontAtlas;
+        evict();
+        return fontAtlas;
+    }
+
+    private Entry get(final float dpiScale) {
+        final int key = Math.round(dpiScale * SCALE_PRECISION);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            entry = create(key / SCALE_PRECISION);
+            entries.put(key, entry);
+            memoryUsage += entry.memoryUsage;
+        }
+        return entry;
+    }
+
+    private Entry create(final float dpiScale) {
+        final ImFontAtlas fontAtlas = new ImFontAtlas();
+        setupCallback.accept(fontAtlas, dpiScale);
+        if (!fontAtlas.build()) {
+            fontAtlas.destroy();
+            throw new IllegalStateException("Failed to build font atlas for the scale " + dpiScale);
+        }
+
+        final int textureId = imGuiGl3.createFontsTexture(fontAtlas);
+        final long bytesPerPixel = imGuiGl3.isFontsTextureAlpha8(fontAtlas) ? 1 : 4;
+        final long textureMemory = bytesPerPixel * fontAtlas.getTexWidth() * fontAtlas.getTexHeight();
+        fontAtlas.clearTexData();
+
+        return new Entry(fontAtlas, dpiScale, textureId, textureMemory);
+    }
+
+    private void evict() {
+        final Iterator<Entry> it = entries.values().iterator();
+        while (memoryUsage > maxMemoryUsage && it.hasNext()) {
+            final Entry entry = it.next();
+            if (entry != currentEntry) {
+                it.remove();
+                destroy(entry);
+            }
+        }
+    }
+
+    private void destroy(final Entry entry) {
+        memoryUsage -= entry.memoryUsage;
+        imGuiGl3.deleteFontsTexture(entry.textureId);
+        entry.fontAtlas.destroy();
+    }
+
+    /**
+     * @return memory used by cached textures in bytes
+     */
+    public long getMemoryUsage() {
+        return memoryUsage;
+    }
+
+    /**
+     * @return limit of the textures memory in bytes
+     */
+    public long getMaxMemoryUsage() {
+        return maxMemoryUsage;
+    }
+
+    /**
+     * Sets the limit of the textures memory. Exceeding atlases are evicted immediately.
+     *
+     * @param maxMemoryUsage limit in bytes
+     */
+    public void setMaxMemoryUsage(final long maxMemoryUsage) {
+        this.maxMemoryUsage = maxMemoryUsage;
+        evict();
+    }
+
+    /**
+     * @return amount of cached atlases
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Restores the atlas which was used before the first {@link #apply(float)} call and destroys all cached atlases with their textures.
+     * Should be called before the Dear ImGui context is destroyed, since the context destroys its current atlas.
+     */
+    public void dispose() {
+        if (contentScaleWindowPtr != 0) {
+            final GLFWWindowContentScaleCallback callback = glfwSetWindowContentScaleCallback(contentScaleWindowPtr, prevContentScaleCallback);
+            if (callback != null) {
+                callback.free();
+            }
+            contentScaleWindowPtr = 0;
+            prevContentScaleCallback = null;
+        }
+        if (originalFontAtlas != null) {
+            final ImGuiIO io = ImGui.getIO();
+            final int fontDefaultIdx = indexOfFont(io.getFonts(), io.getFontDefault());
+            io.setFonts(originalFontAtlas);
+            io.setFontDefault(fontDefaultIdx != -1 && fontDefaultIdx < originalFontAtlas.getFontsSize() ? originalFontAtlas.getFont(fontDefaultIdx) : null);
+            originalFontAtlas = null;
+        }
+        for (final Entry entry : entries.values()) {
+            destroy(entry);
+        }
+        entries.clear();
+        currentEntry = null;
+    }
+
+    private static final class Entry {
+        final ImFontAtlas fontAtlas;
+        final float dpiScale;
+        final int textureId;
+        final long memoryUsage;
+
+        Entry(final ImFontAtlas fontAtlas, final float dpiScale, final int textureId, final long memoryUsage) {
+            this.fontAtlas = fontAtlas;
+            this.dpiScale = dpiScale;
+            this.textureId = textureId;
+            this.memoryUsage = memoryUsage;
+        }
+    }
+}
@@ -0,0 +1,368 @@
+package imgui.gl3;
+
+import imgui.ImGui;
+import imgui.ImTextureRegion;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.lwjgl.opengl.GL32.*;
+
+/**
+ * Atlas of small user images (icons, thumbnails), which packs them into shared texture pages.
+ * Every distinct texture splits draw commands, so images drawn from the same page take one draw call instead of one call per image.
+ * <p>
+ * Images are packed with the shelf algorithm: a page is split into horizontal shelves with the height of the first image put there,
+ * next images of a similar height are placed one after another. Space of removed images is merged with adjacent free space
+and reused by images which fit into it. Pages left without images are deleted, except of one kept for next images.
+ * Every image is surrounded by a one-texel border with its edge texels replicated, the same as the clamp to edge wrapping does.
+ * The border is uploaded with the image, so linear filtering doesn't bleed neighbour images or stale texels of the reused space.
+ * <p>
+ * Images are added as {@link ImTextureRegion} handles. Regions, which were not drawn for a while, could be evicted with the {@link #evictUnused(int)}.
+ * All methods should be called on the render thread.
+ */
+@SuppressWarnings("MagicNumber")
+public final class ImGuiImplGl3ImageAtlas {
+    private static final int DEFAULT_PAGE_SIZE = 1024;
+    private static final int BORDER = 1;
+    private static final int PADDING = BORDER * 2;
+
+    private final int pageSize;
+    private final List<Page> pages = new ArrayList<>();
+    private final Map<ImTextureRegion, Allocation> allocations = new IdentityHashMap<>();
+    private ByteBuffer paddedPixels = ByteBuffer.allocateDirect(0);
+
+    public ImGuiImplGl3ImageAtlas() {
+        this(DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * @param pageSize width and height of texture pages, images bigger than the page can't be added
+     */
+    public ImGuiImplGl3ImageAtlas(final int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Packs the image into a page and uploads its pixels.
+     *
+     * @param width      width of the image
+     * @param height     height of the image
+     * @param rgbaPixels buffer with RGBA8 pixels, read from its position
+     * @return region of the page with the image
+     */
+    public ImTextureRegion add(final int width, final int height, final ByteBuffer rgbaPixels) {
+        if (width <= 0 || height <= 0 || width + PADDING > pageSize || height + PADDING > pageSize) {
+            throw new IllegalArgumentException("Image size " + width + "x" + height + " doesn't fit into the page " + pageSize + "x" + pageSize);
+        }
+        if (rgbaPixels.remaining() < width * height * 4) {
+            throw new IllegalArgumentException("Buffer is too small for the image " + width + "x" + height + ": " + rgbaPixels.remaining());
+        }
+
+        final Allocation allocation = allocate(width + PADDING, height + PADDING);
+        final ByteBuffer pixels = addBorder(width, height, rgbaPixels);
+
+        final int[] lastTexture = new int[1];
+        glGetIntegerv(GL_TEXTURE_BINDING_2D, lastTexture);
+        final int lastUnpackAlignment = glGetInteger(GL_UNPACK_ALIGNMENT);
+        glPixelStorei(GL_UNPACK_ALIGNMENT, 1);
+        glBindTexture(GL_TEXTURE_2D, allocation.page.textureId);
+        glTexSubImage2D(GL_TEXTURE_2D, 0, allocation.x, allocation.shelf.y, width + PADDING, height + PADDING, GL_RGBA, GL_UNSIGNED_BYTE, pixels);
+        glPixelStorei(GL_UNPACK_ALIGNMENT, lastUnpackAlignment);
+        glBindTexture(GL_TEXTURE_2D, lastTexture[0]);
+
+        final float texelSize = 1f / pageSize;
+        final int imageX = allocation.x + BORDER;
+        final int imageY = allocation.shelf.y + BORDER;
+        final ImTextureRegion region = new ImTextureRegion(
+            allocation.page.textureId,
+            imageX * texelSize,
+            imageY * texelSize,
+            (imageX + width) * texelSize,
+            (imageY + height) * texelSize,
+            width,
+            height
+        );
+        allocations.put(region, allocation);
+        return region;
+    }
+
+    /**
+     * @return pixels of the image surrounded by the border with replicated edge texels
+     */
+    private ByteBuffer addBorder(final int width, final int height, final ByteBuffer rgbaPixels) {
+        final int paddedWidth = width + PADDING;
+        final int paddedSize = paddedWidth * (height + PADDING) * 4;
+        if (paddedPixels.capacity() < paddedSize) {
+            paddedPixels = ByteBuffer.allocateDirect(paddedSize);
+        }
+        paddedPixels.clear();
+        paddedPixels.order(rgbaPixels.order());
+
+        final int srcStart = rgbaPixels.position();
+        final int rowSize = width * 4;
+        final ByteBuffer srcRow = rgbaPixels.duplicate();
+        for (int y = -BORDER; y < height + BORDER; y++) {
+            final int rowStart = srcStart + Math.max(0, Math.min(height - 1, y)) * rowSize;
+            paddedPixels.putInt(rgbaPixels.getInt(rowStart));
+            srcRow.limit(rowStart + rowSize).position(rowStart);
+            paddedPixels.put(srcRow);
+            paddedPixels.putInt(rgbaPixels.getInt(rowStart + rowSize - 4));
+        }
+
+        paddedPixels.flip();
+        return paddedPixels;
+    }
+
+    /**
+     * Frees the space of the region. The region becomes invalid.
+     */
+    public void remove(final ImTextureRegion region) {
+        final Allocation allocation = allocations.remove(region);
+        if (allocation != null) {
+            free(allocation);
+            region.invalidate();
+        }
+    }
+
+    /**
+     * Removes regions, which were not drawn during the provided amount of frames.
+     * Regions which were never drawn are counted from the frame they were added at.
+     *
+     * @param maxUnusedFrames amount of frames a region could stay unused
+     * @return amount of evicted regions
+     */
+    public int evictUnused(final int maxUnusedFrames) {
+        final int frameCount = ImGui.getFrameCount();
+        int evicted = 0;
+
+        final Iterator<Map.Entry<ImTextureRegion, Allocation>> it = allocations.entrySet().iterator();
+        while (it.hasNext()) {
+            final Map.Entry<ImTextureRegion, Allocation> entry = it.next();
+            final int lastUsedFrame = Math.max(entry.getKey().getLastUsedFrame(), entry.getValue().addedFrame);
+            if (frameCount - lastUsedFrame > maxUnusedFrames) {
+                it.remove();
+                free(entry.getValue());
+                entry.getKey().invalidate();
+                evicted++;
+            }
+        }
+
+        return evicted;
+    }
+
+    /**
+     * @return amount of texture pages
+     */
+    public int getPageCount() {
+        return pages.size();
+    }
+
+    /**
+     * @return amount of images in the atlas
+     */
+    public int getRegionCount() {
+        return allocations.size();
+    }
+
+    /**
+     * Deletes all pages. All regions become invalid.
+     */
+    public void dispose() {
+        for (final ImTextureRegion region : allocations.keySet()) {
+            region.invalidate();
+        }
+        allocations.clear();
+        for (final Page page : pages) {
+            glDeleteTextures(page.textureId);
+        }
+        pages.clear();
+    }
+
+    private Allocation allocate(final int width, final int height) {
+        for (final Page page : pages) {
+            final Allocation allocation = page.allocate(width, height);
+            if (allocation != null) {
+                return allocation;
+            }
+        }
+
+        final Page page = new Page(createPageTexture());
+        pages.add(page);
+        return page.allocate(width, height);
+    }
+
+    private void free(final Allocation allocation) {
+        final Page page = allocation.page;
+        page.regionCount--;
+
+        if (page.regionCount == 0) {
+            // One empty page is kept, so removing and adding images in turn doesn't recreate the texture every time
+            if (hasEmptyPage(page)) {
+                pages.remove(page);
+                glDeleteTextures(page.textureId);
+            } else {
+                // Empty page is reset completely, so shelves of any height could be created there again
+                page.shelves.clear();
+                page.nextShelfY = 0;
+            }
+            return;
+        }
+
+        allocation.shelf.free(allocation.x, allocation.width);
+    }
+
+    private boolean hasEmptyPage(final Page except) {
+        for (final Page page : pages) {
+            if (page != except && page.regionCount == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int createPageTexture() {
+        final int[] lastTexture = new int[1];
+        glGetIntegerv(GL_TEXTURE_BINDING_2D, lastTexture);
+
+        final int textureId = glGenTextures();
+        glBindTexture(GL_TEXTURE_2D, textureId);
+        glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MIN_FILTER, GL_LINEAR);
+        glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MAG_FILTER, GL_LINEAR);
+        glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_WRAP_S, GL_CLAMP_TO_EDGE);
+        glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_WRAP_T, GL_CLAMP_TO_EDGE);
+        glTexImage2D(GL_TEXTURE_2D, 0, GL_RGBA, pageSize, pageSize, 0, GL_RGBA, GL_UNSIGNED_BYTE, (ByteBuffer) null);
+
+        glBindTexture(GL_TEXTURE_2D, lastTexture[0]);
+        return textureId;
+    }
+
+    private final class Page {
+        final int textureId;
+        final List<Shelf> shelves = new ArrayList<>();
+        int nextShelfY = 0;
+        int regionCount = 0;
+
+        Page(final int textureId) {
+            this.textureId = textureId;
+        }
+
+        Allocation allocate(final int width, final int height) {
+            for (final Shelf shelf : shelves) {
+                // Too high shelves are skipped to not waste the space
+                if (height > shelf.height || shelf.height - height > Math.max(PADDING * 2, height / 2)) {
+                    continue;
+                }
+                final int x = shelf.allocate(width, pageSize);
+                if (x != -1) {
+                    return allocated(shelf, x, width);
+                }
+            }
+
+            if (nextShelfY + height > pageSize) {
+                return null;
+            }
+
+            final Shelf shelf = new Shelf(nextShelfY, height);
+            shelves.add(shelf);
+            nextShelfY += height;
+            return allocated(shelf, shelf.allocate(width, pageSize), width);
+        }
+
+        private Allocation allocated(final Shelf shelf, final int x, final int width) {
+            regionCount++;
+            return new Allocation(this, shelf, x, width, ImGui.getFrameCount());
+        }
+    }
+
+    private static final class Shelf {
+        final int y;
+        final int height;
+        final List<int[]> freeSlots = new ArrayList<>(); // x and width of space freed by removed images
+        int nextX = 0;
+
+        Shelf(final int y, final int height) {
+            this.y = y;
+            this.height = height;
+        }
+
+        /**
+         * @return x position of the allocated space or -1 if there is no space
+         */
+        int allocate(final int width, final int pageSize) {
+            int bestSlotIdx = -1;
+            for (int i = 0; i < freeSlots.size(); i++) {
+                final int slotWidth = freeSlots.get(i)[1];
+                if (slotWidth >= width && (bestSlotIdx == -1 || slotWidth < freeSlots.get(bestSlotIdx)[1])) {
+                    bestSlotIdx = i;
+                }
+            }
+
+            if (bestSlotIdx != -1) {
+                final int[] slot = freeSlots.get(bestSlotIdx);
+                final int x = slot[0];
+                if (slot[1] == width) {
+                    freeSlots.remove(bestSlotIdx);
+                } else {
+                    slot[0] += width;
+                    slot[1] -= width;
+                }
+                return x;
+            }
+
+            if (nextX + width > pageSize) {
+                return -1;
+            }
+
+            final int x = nextX;
+            nextX += width;
+            return x;
+        }
+
+        /**
+         * Returns the space to the shelf, merging it with adjacent free slots and with the space after the last image.
+         */
+        void free(final int x, final int width) {
+            int start = x;
+            int end = x + width;
+
+            final Iterator<int[]> it = freeSlots.iterator();
+            while (it.hasNext()) {
+                final int[] slot = it.next();
+                if (slot[0] + slot[1] == start) {
+                    start = slot[0];
+                    it.remove();
+                } else if (slot[0] == end) {
+                    end = slot[0] + slot[1];
+                    it.remove();
+                }
+            }
+
+            if (end == nextX) {
+                nextX = start;
+            } else {
+                freeSlots.add(new int[]{start, end - start});
+            }
+        }
+    }
+
+    private static final class Allocation {
+        final Page page;
+        final Shelf shelf;
+        final int x;
+        final int width;
+        final int addedFrame;
+
+        Allocation(final Page page, final Shelf shelf, final int x, final int width, final int addedFrame) {
+            this.page = page;
+            this.shelf = shelf;
+            this.x = x;
+            this.width = width;
+            this.addedFrame = addedFrame;
+        }
+    }
+}
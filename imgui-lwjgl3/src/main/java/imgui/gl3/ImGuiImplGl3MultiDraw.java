@@ -0,0 +1,214 @@
+package imgui.gl3;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.lwjgl.opengl.GL32.*;
+import static org.lwjgl.opengl.GL33.glVertexAttribDivisor;
+import static org.lwjgl.opengl.GL40.GL_DRAW_INDIRECT_BUFFER;
+import static org.lwjgl.opengl.GL43.glMultiDrawElementsIndirect;
+
+/**
+ * Multi-draw indirect submission used by {@link ImGuiImplGl3} on OpenGL 4.3+ contexts.
+ * <p>
+ * Every draw command becomes a DrawElementsIndirectCommand. Consecutive commands with the same texture are submitted
+ * with one glMultiDrawElementsIndirect call. Since clip rects may differ inside such run, scissor test is not used:
+ * each command stores its clip rect in an instanced vertex attribute, fetched with the command baseInstance,
+ * and the fragment shader discards fragments outside of it.
+ */
+final class ImGuiImplGl3MultiDraw {
+    private static final int SIZEOF_INDIRECT_COMMAND = 20; // count, instanceCount, firstIndex, baseVertex, baseInstance
+    private static final int SIZEOF_CLIP_RECT = 16;
+    private static final int RESIZE_FACTOR = 256;
+
+    private final int shaderHandle;
+    private final int vertHandle;
+    private final int fragHandle;
+    private final int attribLocationTex;
+    private final int attribLocationProjMtx;
+    private final int attribLocationClipRect;
+    private final int indirectBufferHandle;
+    private final int clipRectBufferHandle;
+
+    private ByteBuffer indirectData = ByteBuffer.allocateDirect(RESIZE_FACTOR * SIZEOF_INDIRECT_COMMAND).order(ByteOrder.nativeOrder());
+    private ByteBuffer clipRectData = ByteBuffer.allocateDirect(RESIZE_FACTOR * SIZEOF_CLIP_RECT).order(ByteOrder.nativeOrder());
+    private int drawCount = 0;
+
+    // Runs of commands with the same texture
+    private int[] runTextureIds = new int[RESIZE_FACTOR];
+    private int[] runStarts = new int[RESIZE_FACTOR];
+    private int runCount = 0;
+
+    /**
+     * Vertex attributes are bound to the same locations as in the main program, so the same VAO setup works for both.
+     */
+    ImGuiImplGl3MultiDraw(final int attribLocationVtxPos, final int attribLocationVtxUV, final int attribLocationVtxColor) {
+        int clipRectLocation = 0;
+        while (clipRectLocation == attribLocationVtxPos || clipRectLocation == attribLocationVtxUV || clipRectLocation == attribLocationVtxColor) {
+            clipRectLocation++;
+        }
+        attribLocationClipRect = clipRectLocation;
+
+        vertHandle = ImGuiImplGl3.createAndCompileShader(GL_VERTEX_SHADER, getVertexShaderGlsl430Core());
+        fragHandle = ImGuiImplGl3.createAndCompileShader(GL_FRAGMENT_SHADER, getFragmentShaderGlsl430Core());
+
+        shaderHandle = glCreateProgram();
+        glAttachShader(shaderHandle, vertHandle);
+        glAttachShader(shaderHandle, fragHandle);
+        glBindAttribLocation(shaderHandle, attribLocationVtxPos, "Position");
+        glBindAttribLocation(shaderHandle, attribLocationVtxUV, "UV");
+        glBindAttribLocation(shaderHandle, attribLocationVtxColor, "Color");
+        glBindAttribLocation(shaderHandle, attribLocationClipRect, "ClipRect");
+        glLinkProgram(shaderHandle);
+
+        if (glGetProgrami(shaderHandle, GL_LINK_STATUS) == GL_FALSE) {
+            throw new IllegalStateException("Failed to link shader program:\n" + glGetProgramInfoLog(shaderHandle));
+        }
+
+        attribLocationTex = glGetUniformLocation(shaderHandle, "Texture");
+        attribLocationProjMtx = glGetUniformLocation(shaderHandle, "ProjMtx");
+
+        indirectBufferHandle = glGenBuffers();
+        clipRectBufferHandle = glGenBuffers();
+    }
+
+    void begin() {
+        indirectData.clear();
+        clipRectData.clear();
+        drawCount = 0;
+        runCount = 0;
+    }
+
+    /**
+     * Adds a draw command. Clip rect is in the framebuffer coordinates with the bottom-left origin, as it's passed to glScissor.
+     */
+    void add(final int textureId, final int elemCount, final int idxOffset, final int vtxOffset,
+             final int clipX, final int clipY, final int clipWidth, final int clipHeight) {
+        if (indirectData.remaining() < SIZEOF_INDIRECT_COMMAND) {
+            indirectData = grow(indirectData, SIZEOF_INDIRECT_COMMAND);
+            clipRectData = grow(clipRectData, SIZEOF_CLIP_RECT);
+        }
+
+        if (runCount == 0 || runTextureIds[runCount - 1] != textureId) {
+            if (runCount == runTextureIds.length) {
+                final int[] textureIds = new int[runCount * 2];
+                final int[] starts = new int[runCount * 2];
+                System.arraycopy(runTextureIds, 0, textureIds, 0, runCount);
+                System.arraycopy(runStarts, 0, starts, 0, runCount);
+                runTextureIds = textureIds;
+                runStarts = starts;
+            }
+            runTextureIds[runCount] = textureId;
+            runStarts[runCount] = drawCount;
+            runCount++;
+        }
+
+        indirectData.putInt(elemCount);
+        indirectData.putInt(1);
+        indirectData.putInt(idxOffset);
+        indirectData.putInt(vtxOffset);
+        indirectData.putInt(drawCount); // baseInstance points to the clip rect of the command
+
+        clipRectData.putFloat(clipX);
+        clipRectData.putFloat(clipY);
+        clipRectData.putFloat(clipX + clipWidth);
+        clipRectData.putFloat(clipY + clipHeight);
+
+        drawCount++;
+    }
+
+    /**
+     * Submits all added commands. Expects the VAO with the geometry to be bound.
+     *
+     * @return amount of issued draw calls
+     */
+    int submit(final float[] orthoProjMatrix) {
+        if (drawCount == 0) {
+            return 0;
+        }
+
+        indirectData.flip();
+        clipRectData.flip();
+
+        glBindBuffer(GL_DRAW_INDIRECT_BUFFER, indirectBufferHandle);
+        glBufferData(GL_DRAW_INDIRECT_BUFFER, indirectData, GL_STREAM_DRAW);
+
+        glBindBuffer(GL_ARRAY_BUFFER, clipRectBufferHandle);
+        glBufferData(GL_ARRAY_BUFFER, clipRectData, GL_STREAM_DRAW);
+        glEnableVertexAttribArray(attribLocationClipRect);
+        glVertexAttribPointer(attribLocationClipRect, 4, GL_FLOAT, false, SIZEOF_CLIP_RECT, 0);
+        glVertexAttribDivisor(attribLocationClipRect, 1);
+
+        glUseProgram(shaderHandle);
+        glUniform1i(attribLocationTex, 0);
+        glUniformMatrix4fv(attribLocationProjMtx, false, orthoProjMatrix);
+
+        // Clipping is done in the fragment shader
+        glDisable(GL_SCISSOR_TEST);
+
+        for (int i = 0; i < runCount; i++) {
+            final int start = runStarts[i];
+            final int end = i + 1 < runCount ? runStarts[i + 1] : drawCount;
+            glBindTexture(GL_TEXTURE_2D, runTextureIds[i]);
+            glMultiDrawElementsIndirect(GL_TRIANGLES, GL_UNSIGNED_SHORT, (long) start * SIZEOF_INDIRECT_COMMAND, end - start, SIZEOF_INDIRECT_COMMAND);
+        }
+
+        // Leave the VAO usable for the main program
+        glVertexAttribDivisor(attribLocationClipRect, 0);
+        glDisableVertexAttribArray(attribLocationClipRect);
+        glBindBuffer(GL_DRAW_INDIRECT_BUFFER, 0);
+
+        return runCount;
+    }
+
+    void dispose() {
+        glDeleteBuffers(indirectBufferHandle);
+        glDeleteBuffers(clipRectBufferHandle);
+        glDetachShader(shaderHandle, vertHandle);
+        glDetachShader(shaderHandle, fragHandle);
+        glDeleteProgram(shaderHandle);
+    }
+
+    private static ByteBuffer grow(final ByteBuffer buffer, final int elementSize) {
+        final ByteBuffer newBuffer = ByteBuffer.allocateDirect(buffer.capacity() * 2 + RESIZE_FACTOR * elementSize).order(ByteOrder.nativeOrder());
+        buffer.flip();
+        newBuffer.put(buffer);
+        return newBuffer;
+    }
+
+    private static String getVertexShaderGlsl430Core() {
+        return "#version 430 core\n"
+            + "in vec2 Position;\n"
+            + "in vec2 UV;\n"
+            + "in vec4 Color;\n"
+            + "in vec4 ClipRect;\n"
+            + "uniform mat4 ProjMtx;\n"
+            + "out vec2 Frag_UV;\n"
+            + "out vec4 Frag_Color;\n"
+            + "flat out vec4 Frag_ClipRect;\n"
+            + "void main()\n"
+            + "{\n"
+            + "    Frag_UV = UV;\n"
+            + "    Frag_Color = Color;\n"
+            + "    Frag_ClipRect = ClipRect;\n"
+            + "    gl_Position = ProjMtx * vec4(Position.xy,0,1);\n"
+            + "}\n";
+    }
+
+    private static String getFragmentShaderGlsl430Core() {
+        return "#version 430 core\n"
+            + "in vec2 Frag_UV;\n"
+            + "in vec4 Frag_Color;\n"
+            + "flat in vec4 Frag_ClipRect;\n"
+            + "uniform sampler2D Texture;\n"
+            + "layout (location = 0) out vec4 Out_Color;\n"
+            + "void main()\n"
+            + "{\n"
+            + "    if (gl_FragCoord.x < Frag_ClipRect.x || gl_FragCoord.y < Frag_ClipRect.y\n"
+            + "        || gl_FragCoord.x >= Frag_ClipRect.z || gl_FragCoord.y >= Frag_ClipRect.w) {\n"
+            + "        discard;\n"
+            + "    }\n"
+            + "    Out_Color = Frag_Color * texture(Texture, Frag_UV.st);\n"
+            + "}\n";
+    }
+}
@@ -0,0 +1,150 @@
+package imgui.gl3;
+
+import org.lwjgl.opengl.GL;
+import org.lwjgl.opengl.GLCapabilities;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import static org.lwjgl.opengl.GL32.*;
+import static org.lwjgl.opengl.GL41.GL_NUM_PROGRAM_BINARY_FORMATS;
+import static org.lwjgl.opengl.GL41.GL_PROGRAM_BINARY_LENGTH;
+import static org.lwjgl.opengl.GL41.GL_PROGRAM_BINARY_RETRIEVABLE_HINT;
+import static org.lwjgl.opengl.GL41.glGetProgramBinary;
+import static org.lwjgl.opengl.GL41.glProgramBinary;
+import static org.lwjgl.opengl.GL41.glProgramParameteri;
+
+/**
+ * On-disk cache of linked shader programs, used by {@link ImGuiImplGl3} to skip shaders compilation and linking on startup.
+ * <p>
+ * Programs are stored as glGetProgramBinary output. File names are hashes of the GL vendor, renderer and version strings and shader sources,
+ * so a driver update or a shader change results in a new file. Drivers could still reject a binary, in that case the program is compiled
+ * from sources and the file is rewritten.
+ */
+final class ImGuiImplGl3ProgramCache {
+    private static final int HEADER_SIZE = Integer.BYTES * 2; // binary format, binary length
+
+    private final Path directory;
+    private final String glInfo;
+
+    private ImGuiImplGl3ProgramCache(final Path directory) {
+        this.directory = directory;
+        this.glInfo = glGetString(GL_VENDOR) + "\n" + glGetString(GL_RENDERER) + "\n" + glGetString(GL_VERSION);
+    }
+
+    /**
+     * @return cache for the current GL context, or null if the context doesn't support program binaries
+     */
+    static ImGuiImplGl3ProgramCache create(final Path directory, final int glVersion) {
+        final GLCapabilities caps = GL.getCapabilities();
+        if (glVersion < 410 && !caps.GL_ARB_get_program_binary) {
+            return null;
+        }
+        if (glGetInteger(GL_NUM_PROGRAM_BINARY_FORMATS) <= 0) {
+            return null;
+        }
+        return new ImGuiImplGl3ProgramCache(directory);
+    }
+
+    /**
+     * @return program loaded from the cache, or 0 if there is no cached binary or the driver rejected it
+     */
+    int load(final CharSequence vertShaderSource, final CharSequence fragShaderSource) {
+        final Path file = getFile(vertShaderSource, fragShaderSource);
+        if (!Files.isRegularFile(file)) {
+            return 0;
+        }
+
+        final ByteBuffer data;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE || channel.size() > Integer.MAX_VALUE) {
+                return 0;
+            }
+            data = ByteBuffer.allocateDirect((int) channel.size()).order(ByteOrder.nativeOrder());
+            while (data.hasRemaining()) {
+                if (channel.read(data) == -1) {
+                    return 0;
+                }
+            }
+            data.flip();
+        } catch (IOException e) {
+            return 0;
+        }
+
+        final int binaryFormat = data.getInt();
+        final int binaryLength = data.getInt();
+        if (binaryLength != data.remaining()) {
+            return 0;
+        }
+
+        final int program = glCreateProgram();
+        glProgramBinary(program, binaryFormat, data);
+        if (glGetProgrami(program, GL_LINK_STATUS) == GL_FALSE) {
+            glDeleteProgram(program);
+            return 0;
+        }
+        return program;
+    }
+
+    /**
+     * Should be called before the program is linked, so the driver keeps its binary.
+     */
+    void prepare(final int program) {
+        glProgramParameteri(program, GL_PROGRAM_BINARY_RETRIEVABLE_HINT, GL_TRUE);
+    }
+
+    /**
+     * Stores the binary of the linked program. Failures are ignored, since the cache is only an optimization.
+     */
+    void save(final int program, final CharSequence vertShaderSource, final CharSequence fragShaderSource) {
+        final int binaryLength = glGetProgrami(program, GL_PROGRAM_BINARY_LENGTH);
+        if (binaryLength <= 0) {
+            return;
+        }
+
+        final ByteBuffer data = ByteBuffer.allocateDirect(HEADER_SIZE + binaryLength).order(ByteOrder.nativeOrder());
+        final int[] length = new int[1];
+        final int[] binaryFormat = new int[1];
+        data.position(HEADER_SIZE);
+        glGetProgramBinary(program, length, binaryFormat, data);
+        data.putInt(0, binaryFormat[0]);
+        data.putInt(Integer.BYTES, length[0]);
+        data.position(0);
+        data.limit(HEADER_SIZE + length[0]);
+
+        final Path file = getFile(vertShaderSource, fragShaderSource);
+        try {
+            Files.createDirectories(directory);
+            final Path tmpFile = Files.createTempFile(directory, "program-", ".tmp");
+            try {
+                try (FileChannel channel = FileChannel.open(tmpFile, StandardOpenOption.WRITE)) {
+                    while (data.hasRemaining()) {
+                        channel.write(data);
+                    }
+                }
+                Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmpFile);
+            }
+        } catch (IOException ignored) {
+            // Program will be compiled again on the next start
+        }
+    }
+
+    private Path getFile(final CharSequence vertShaderSource, final CharSequence fragShaderSource) {
+        final String key = glInfo + "\n" + vertShaderSource + "\n" + fragShaderSource;
+        long hash = 0xcbf29ce484222325L;
+        for (final byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001b3L;
+        }
+        return directory.resolve(String.format("program-%016x.bin", hash));
+    }
+}
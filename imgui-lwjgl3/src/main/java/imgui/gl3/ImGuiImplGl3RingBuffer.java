@@ -0,0 +1,138 @@
+package imgui.gl3;
+
+import org.lwjgl.system.MemoryUtil;
+
+import java.nio.ByteBuffer;
+
+import static org.lwjgl.opengl.GL32.*;
+import static org.lwjgl.opengl.GL44.GL_MAP_COHERENT_BIT;
+import static org.lwjgl.opengl.GL44.GL_MAP_PERSISTENT_BIT;
+import static org.lwjgl.opengl.GL44.glBufferStorage;
+
+/**
+ * Triple-buffered, persistently mapped buffer used by {@link ImGuiImplGl3} to stream geometry on OpenGL 4.4+ contexts.
+ * <p>
+ * The buffer storage is split into equal segments. Every frame writes into the next segment and puts a fence after its draw calls,
+ * so the segment isn't overwritten until the GPU is done reading from it. Data is copied directly into the mapped memory,
+ * so there is no driver-side copy and no implicit synchronization, which is the case for glBufferData.
+ */
+final class ImGuiImplGl3RingBuffer {
+    private static final int SEGMENT_COUNT = 3;
+    private static final int MAP_FLAGS = GL_MAP_WRITE_BIT | GL_MAP_PERSISTENT_BIT | GL_MAP_COHERENT_BIT;
+    private static final long FENCE_TIMEOUT = 1_000_000L; // 1ms in nanoseconds
+
+    private final int elementSize;
+    private final long[] fences = new long[SEGMENT_COUNT];
+
+    private int handle = 0;
+    private long segmentSize = 0;
+    private long mappedAddress = MemoryUtil.NULL;
+    private int segment = 0;
+    private long writeOffset = 0;
+    private int generation = 0;
+
+    /**
+     * @param elementSize size of the single element stored in the buffer, segments are aligned to it
+     */
+    ImGuiImplGl3RingBuffer(final int elementSize) {
+        this.elementSize = elementSize;
+    }
+
+    int getHandle() {
+        return handle;
+    }
+
+    /**
+     * @return counter incremented every time the buffer storage is recreated
+     */
+    int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Switches to the next segment and waits until the GPU stops using it. Buffer storage is recreated when the size doesn't fit into a segment.
+     *
+     * @param size amount of bytes to write during the current frame
+     * @return offset of the segment start in elements
+     */
+    int begin(final long size) {
+        if (size > segmentSize) {
+            recreate(size + size / 2);
+        }
+
+        segment = (segment + 1) % SEGMENT_COUNT;
+        waitFence(segment);
+
+        writeOffset = segment * segmentSize;
+        return (int) (writeOffset / elementSize);
+    }
+
+    /**
+     * Copies remaining bytes of the buffer into the current segment.
+     *
+     * @param src direct buffer to copy
+     */
+    void write(final ByteBuffer src) {
+        final int length = src.remaining();
+        MemoryUtil.memCopy(MemoryUtil.memAddress(src), mappedAddress + writeOffset, length);
+        writeOffset += length;
+    }
+
+    /**
+     * Puts the fence for the current segment. Should be called after the last draw call which reads from the segment.
+     */
+    void end() {
+        fences[segment] = glFenceSync(GL_SYNC_GPU_COMMANDS_COMPLETE, 0);
+    }
+
+    void dispose() {
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            waitFence(i);
+        }
+        if (handle != 0) {
+            glBindBuffer(GL_COPY_WRITE_BUFFER, handle);
+            glUnmapBuffer(GL_COPY_WRITE_BUFFER);
+            glBindBuffer(GL_COPY_WRITE_BUFFER, 0);
+            glDeleteBuffers(handle);
+        }
+        handle = 0;
+        segmentSize = 0;
+        mappedAddress = MemoryUtil.NULL;
+    }
+
+    private void recreate(final long minSegmentSize) {
+        dispose();
+
+        // Keep every segment start aligned to the element size, so offsets could be expressed in elements
+        segmentSize = (minSegmentSize + elementSize - 1) / elementSize * elementSize;
+
+        // Copy-write target is used to not modify the element array binding of the currently bound VAO
+        handle = glGenBuffers();
+        glBindBuffer(GL_COPY_WRITE_BUFFER, handle);
+        glBufferStorage(GL_COPY_WRITE_BUFFER, segmentSize * SEGMENT_COUNT, MAP_FLAGS);
+        final ByteBuffer mapped = glMapBufferRange(GL_COPY_WRITE_BUFFER, 0, segmentSize * SEGMENT_COUNT, MAP_FLAGS);
+        glBindBuffer(GL_COPY_WRITE_BUFFER, 0);
+
+        if (mapped == null) {
+            throw new IllegalStateException("Failed to map persistent buffer of size " + segmentSize * SEGMENT_COUNT);
+        }
+
+        mappedAddress = MemoryUtil.memAddress(mapped);
+        generation++;
+    }
+
+    private void waitFence(final int segmentIdx) {
+        final long fence = fences[segmentIdx];
+        if (fence == 0) {
+            return;
+        }
+
+        int result = glClientWaitSync(fence, GL_SYNC_FLUSH_COMMANDS_BIT, FENCE_TIMEOUT);
+        while (result == GL_TIMEOUT_EXPIRED) {
+            result = glClientWaitSync(fence, 0, FENCE_TIMEOUT);
+        }
+
+        glDeleteSync(fence);
+        fences[segmentIdx] = 0;
+    }
+}
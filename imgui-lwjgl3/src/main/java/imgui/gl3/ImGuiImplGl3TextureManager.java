@@ -0,0 +1,400 @@
+package imgui.gl3;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.lwjgl.opengl.GL32.*;
+
+/**
+ * Manager of user image textures (thumbnails, video frames etc.), which accepts pixel data from any thread
+ * and uploads it on the render thread through a pool of pixel buffer objects, without waiting for the GPU.
+ * <p>
+ * Texture IDs are handed out immediately and stay the same for the whole texture lifetime, so they could be passed
+ * to the {@link imgui.ImGui#image(int, float, float)} or {@link imgui.ImDrawList#addImage(int, float, float, float, float)} right away.
+ * Until the pixels are uploaded, the texture shows a 1x1 placeholder.
+ * <p>
+ * Uploads are limited by the amount of bytes per frame. What doesn't fit is uploaded during next frames.
+ * On the render thread pixels are copied once into a mapped pixel buffer, the texture is then filled from it by the driver asynchronously.
+ * Pixel buffers keep their storage between uploads (it only grows for bigger images) and every buffer is guarded by a fence:
+ * the buffer is reused only after the GPU has finished reading it, so it's mapped without an implicit synchronization.
+ * When all buffers are still in use, the rest of uploads waits for the next frame.
+ * <p>
+ * IDs are taken from a pool of texture names generated in advance on the render thread, since GL objects can't be created on other threads.
+ * The pool is refilled on every {@link #update()}, its size limits the amount of textures which could be created between two updates.
+ * <p>
+ * Usage:
+ * <pre>
+ *     // Render thread, after the ImGuiImplGl3 initialization
+ *     textureManager.init();
+ *
+ *     // Any thread
+ *     final int textureId = textureManager.createTexture(width, height, rgbaPixels);
+ *
+ *     // Render thread, every frame before the rendering
+ *     textureManager.update();
+ * </pre>
+ * Pixels are expected in the RGBA8 format. The buffer should not be modified until the texture becomes ready, see {@link #isReady(int)}.
+ */
+@SuppressWarnings("MagicNumber")
+public final class ImGuiImplGl3TextureManager {
+    private static final long DEFAULT_UPLOAD_BUDGET = 8L * 1024 * 1024;
+    private static final int DEFAULT_NAME_POOL_SIZE = 64;
+    private static final int DEFAULT_PIXEL_BUFFER_COUNT = 4;
+
+    private long uploadBudget = DEFAULT_UPLOAD_BUDGET;
+    private int namePoolSize = DEFAULT_NAME_POOL_SIZE;
+    private int placeholderColor = 0xFF404040;
+    private Runnable uploadCallback = null;
+
+    // Shared with other threads
+    private final Queue<Integer> freeNames = new ConcurrentLinkedQueue<>();
+    private final Map<Integer, UploadRequest> pendingRequests = new ConcurrentHashMap<>();
+    private final Queue<Integer> pendingOrder = new ConcurrentLinkedQueue<>();
+    private final Queue<Integer> deletedTextures = new ConcurrentLinkedQueue<>();
+    private final Set<Integer> readyTextures = ConcurrentHashMap.newKeySet();
+    // Names handed out by the createTexture(), names still in the pool are not included
+    private final Set<Integer> issuedTextures = ConcurrentHashMap.newKeySet();
+
+    // Used only on the render thread
+    private final Map<Integer, int[]> textureSizes = new HashMap<>();
+    private final Queue<PixelBuffer> pixelBuffers = new ArrayDeque<>();
+    private final ByteBuffer placeholderPixels = ByteBuffer.allocateDirect(4).order(ByteOrder.LITTLE_ENDIAN);
+    private long lastFrameUploadedBytes = 0;
+
+    /**
+     * Sets the limit of bytes uploaded during one {@link #update()}. A single texture bigger than the limit is still uploaded,
+     * but alone in its frame. Default is 8 MiB.
+     */
+    public void setUploadBudget(final long uploadBudget) {
+        this.uploadBudget = uploadBudget;
+    }
+
+    public long getUploadBudget() {
+        return uploadBudget;
+    }
+
+    /**
+     * Sets the amount of texture names generated in advance. Default is 64.
+     */
+    public void setNamePoolSize(final int namePoolSize) {
+        this.namePoolSize = namePoolSize;
+    }
+
+    public int getNamePoolSize() {
+        return namePoolSize;
+    }
+
+    /**
+     * Sets the color of textures which are not uploaded yet. Uses the same packed format as Dear ImGui colors: 0xAABBGGRR.
+     * Should be called before the {@link #init()}.
+     */
+    public void setPlaceholderColor(final int placeholderColor) {
+        this.placeholderColor = placeholderColor;
+    }
+
+    public int getPlaceholderColor() {
+        return placeholderColor;
+    }
+
+    /**
+     * Sets the callback called on the render thread after pixels of any texture were uploaded during the {@link #update()}.
+     * Could be used to render the frame when the draw data is unchanged, e.g. with {@code imgui.app.Window#requestRedraw()}.
+     *
+     * @param uploadCallback callback or null to remove it
+     */
+    public void setUploadCallback(final Runnable uploadCallback) {
+        this.uploadCallback = uploadCallback;
+    }
+
+    public Runnable getUploadCallback() {
+        return uploadCallback;
+    }
+
+    /**
+     * Creates pixel buffers and fills the pool of texture names. Should be called on the render thread.
+     */
+    public void init() {
+        placeholderPixels.putInt(0, placeholderColor);
+        for (int i = 0; i < DEFAULT_PIXEL_BUFFER_COUNT; i++) {
+            pixelBuffers.add(new PixelBuffer(glGenBuffers()));
+        }
+        refillNamePool();
+    }
+
+    /**
+     * Creates a texture and schedules the upload of its pixels. Could be called from any thread.
+     *
+     * @param width      width of the image
+     * @param height     height of the image
+     * @param rgbaPixels direct buffer with RGBA8 pixels, read from its position
+     * @return texture ID, which shows a placeholder until the pixels are uploaded
+     */
+    public int createTexture(final int width, final int height, final ByteBuffer rgbaPixels) {
+        final Integer textureId = freeNames.poll();
+        if (textureId == null) {
+            throw new IllegalStateException("No free texture names, increase the pool size or call update() more often");
+        }
+        issuedTextures.add(textureId);
+        updateTexture(textureId, width, height, rgbaPixels);
+        return textureId;
+    }
+
+    /**
+     * Schedules the upload of new pixels for the existing texture, e.g. a new frame of the video. Could be called from any thread.
+     * If the previous pixels of the texture are not uploaded yet, they are replaced and never uploaded.
+     * The call is ignored for deleted textures and IDs which were not returned by the {@link #createTexture(int, int, ByteBuffer)}.
+     *
+     * @param textureId  texture ID returned by the {@link #createTexture(int, int, ByteBuffer)}
+     * @param width      width of the image
+     * @param height     height of the image
+     * @param rgbaPixels direct buffer with RGBA8 pixels, read from its position
+     */
+    public void updateTexture(final int textureId, final int width, final int height, final ByteBuffer rgbaPixels) {
+        if (!rgbaPixels.isDirect()) {
+            throw new IllegalArgumentException("Buffer must be direct");
+        }
+        if (rgbaPixels.remaining() < width * height * 4) {
+            throw new IllegalArgumentException("Buffer is too small for the image " + width + "x" + height + ": " + rgbaPixels.remaining());
+        }
+        if (!issuedTextures.contains(textureId)) {
+            return;
+        }
+        if (pendingRequests.put(textureId, new UploadRequest(width, height, rgbaPixels)) == null) {
+            pendingOrder.add(textureId);
+        }
+    }
+
+    /**
+     * @return true if the last scheduled pixels of the texture are uploaded
+     */
+    public boolean isReady(final int textureId) {
+        return readyTextures.contains(textureId) && !pendingRequests.containsKey(textureId);
+    }
+
+    /**
+     * Schedules the texture for deletion on the next {@link #update()}. Could be called from any thread.
+     */
+    public void deleteTexture(final int textureId) {
+        deletedTextures.add(textureId);
+    }
+
+    /**
+     * Uploads scheduled pixels within the budget, deletes textures and refills the pool of texture names.
+     * Should be called on the render thread once per frame, before the rendering.
+     */
+    public void update() {
+        deleteTextures();
+        uploadTextures();
+        refillNamePool();
+        if (lastFrameUploadedBytes > 0 && uploadCallback != null) {
+            uploadCallback.run();
+        }
+    }
+
+    /**
+     * @return amount of bytes uploaded during the last {@link #update()}
+     */
+    public long getLastFrameUploadedBytes() {
+        return lastFrameUploadedBytes;
+    }
+
+    /**
+     * @return amount of textures waiting for the upload
+     */
+    public int getPendingCount() {
+        return pendingRequests.size();
+    }
+
+    /**
+     * Deletes all textures, pixel buffers and texture names from the pool. Should be called on the render thread.
+     */
+    public void dispose() {
+        // Contains both issued textures and names from the pool
+        for (final Integer textureId : textureSizes.keySet()) {
+            glDeleteTextures(textureId);
+        }
+        freeNames.clear();
+        for (final PixelBuffer pixelBuffer : pixelBuffers) {
+            pixelBuffer.dispose();
+        }
+        textureSizes.clear();
+        issuedTextures.clear();
+        pixelBuffers.clear();
+        pendingRequests.clear();
+        pendingOrder.clear();
+        deletedTextures.clear();
+        readyTextures.clear();
+    }
+
+    private void deleteTextures() {
+        Integer textureId;
+        while ((textureId = deletedTextures.poll()) != null) {
+            if (!issuedTextures.remove(textureId)) {
+                continue; // Already deleted, or the ID wasn't handed out by the manager
+            }
+            pendingRequests.remove(textureId);
+            readyTextures.remove(textureId);
+            textureSizes.remove(textureId);
+            glDeleteTextures(textureId);
+        }
+    }
+
+    private void uploadTextures() {
+        lastFrameUploadedBytes = 0;
+        if (pendingOrder.isEmpty()) {
+            return; // Avoids state queries, which are synchronous, on frames without uploads
+        }
+
+        final int[] lastTexture = new int[1];
+        glGetIntegerv(GL_TEXTURE_BINDING_2D, lastTexture);
+        final int lastUnpackAlignment = glGetInteger(GL_UNPACK_ALIGNMENT);
+        glPixelStorei(GL_UNPACK_ALIGNMENT, 1);
+
+        Integer textureId;
+        while ((textureId = pendingOrder.peek()) != null) {
+            final UploadRequest request = pendingRequests.get(textureId);
+            if (request == null || !textureSizes.containsKey(textureId)) {
+                pendingOrder.poll(); // Deleted, or the ID doesn't belong to the manager
+                if (request != null) {
+                    pendingRequests.remove(textureId, request);
+                }
+                continue;
+            }
+
+            final long size = (long) request.width * request.height * 4;
+            if (lastFrameUploadedBytes > 0 && lastFrameUploadedBytes + size > uploadBudget) {
+                break;
+            }
+
+            final PixelBuffer pixelBuffer = acquirePixelBuffer();
+            if (pixelBuffer == null) {
+                break;
+            }
+
+            pendingOrder.poll();
+            // Newer pixels could arrive after the request was taken, then the texture is queued again
+            if (!pendingRequests.remove(textureId, request)) {
+                pendingOrder.add(textureId);
+            }
+
+            upload(textureId, request, pixelBuffer, size);
+            lastFrameUploadedBytes += size;
+        }
+
+        glBindBuffer(GL_PIXEL_UNPACK_BUFFER, 0);
+        glPixelStorei(GL_UNPACK_ALIGNMENT, lastUnpackAlignment);
+        glBindTexture(GL_TEXTURE_2D, lastTexture[0]);
+    }
+
+    private void upload(final int textureId, final UploadRequest request, final PixelBuffer pixelBuffer, final long size) {
+        final ByteBuffer pixels = request.pixels.duplicate();
+        pixels.limit(pixels.position() + (int) size);
+        glBindBuffer(GL_PIXEL_UNPACK_BUFFER, pixelBuffer.handle);
+        if (pixelBuffer.capacity < size) {
+            glBufferData(GL_PIXEL_UNPACK_BUFFER, size, GL_STREAM_DRAW);
+            pixelBuffer.capacity = size;
+        }
+
+        // The fence guarantees the GPU doesn't read the buffer anymore, so it's mapped without the implicit synchronization
+        final ByteBuffer mapped = glMapBufferRange(GL_PIXEL_UNPACK_BUFFER, 0, size,
+            GL_MAP_WRITE_BIT | GL_MAP_INVALIDATE_RANGE_BIT | GL_MAP_UNSYNCHRONIZED_BIT);
+        if (mapped != null) {
+            mapped.put(pixels);
+            glUnmapBuffer(GL_PIXEL_UNPACK_BUFFER);
+        } else {
+            glBufferSubData(GL_PIXEL_UNPACK_BUFFER, 0, pixels);
+        }
+
+        glBindTexture(GL_TEXTURE_2D, textureId);
+        final int[] textureSize = textureSizes.get(textureId);
+        if (textureSize[0] == request.width && textureSize[1] == request.height) {
+            glTexSubImage2D(GL_TEXTURE_2D, 0, 0, 0, request.width, request.height, GL_RGBA, GL_UNSIGNED_BYTE, 0L);
+        } else {
+            glTexImage2D(GL_TEXTURE_2D, 0, GL_RGBA, request.width, request.height, 0, GL_RGBA, GL_UNSIGNED_BYTE, 0L);
+            textureSize[0] = request.width;
+            textureSize[1] = request.height;
+        }
+
+        pixelBuffer.fence = glFenceSync(GL_SYNC_GPU_COMMANDS_COMPLETE, 0);
+        pixelBuffers.add(pixelBuffer);
+        readyTextures.add(textureId);
+    }
+
+    /**
+     * @return pixel buffer which is not read by the GPU anymore, or null if all buffers are still in use
+     */
+    private PixelBuffer acquirePixelBuffer() {
+        final PixelBuffer pixelBuffer = pixelBuffers.peek();
+        if (pixelBuffer == null) {
+            return null;
+        }
+        if (pixelBuffer.fence != 0) {
+            final int status = glClientWaitSync(pixelBuffer.fence, 0, 0);
+            if (status != GL_ALREADY_SIGNALED && status != GL_CONDITION_SATISFIED) {
+                return null;
+            }
+            glDeleteSync(pixelBuffer.fence);
+            pixelBuffer.fence = 0;
+        }
+        return pixelBuffers.poll();
+    }
+
+    private void refillNamePool() {
+        if (freeNames.size() >= namePoolSize) {
+            return;
+        }
+
+        final int[] lastTexture = new int[1];
+        glGetIntegerv(GL_TEXTURE_BINDING_2D, lastTexture);
+
+        while (freeNames.size() < namePoolSize) {
+            final int textureId = glGenTextures();
+            glBindTexture(GL_TEXTURE_2D, textureId);
+            glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MIN_FILTER, GL_LINEAR);
+            glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MAG_FILTER, GL_LINEAR);
+            glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_WRAP_S, GL_CLAMP_TO_EDGE);
+            glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_WRAP_T, GL_CLAMP_TO_EDGE);
+            glTexImage2D(GL_TEXTURE_2D, 0, GL_RGBA, 1, 1, 0, GL_RGBA, GL_UNSIGNED_BYTE, placeholderPixels);
+            textureSizes.put(textureId, new int[]{1, 1});
+            freeNames.add(textureId);
+        }
+
+        glBindTexture(GL_TEXTURE_2D, lastTexture[0]);
+    }
+
+    private static final class UploadRequest {
+        final int width;
+        final int height;
+        final ByteBuffer pixels;
+
+        UploadRequest(final int width, final int height, final ByteBuffer pixels) {
+            this.width = width;
+            this.height = height;
+            this.pixels = pixels;
+        }
+    }
+
+    private static final class PixelBuffer {
+        final int handle;
+        long capacity = 0;
+        long fence = 0;
+
+        PixelBuffer(final int handle) {
+            this.handle = handle;
+        }
+
+        void dispose() {
+            if (fence != 0) {
+                glDeleteSync(fence);
+            }
+            glDeleteBuffers(handle);
+        }
+    }
+}
@@ -35,6 +35,7 @@ import org.lwjgl.glfw.GLFWWindowFocusCallback;
 import org.lwjgl.glfw.Callbacks;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.FloatBuffer;
 
 import static org.lwjgl.glfw.GLFW.*;
@@ -74,12 +75,12 @@ public class ImGuiImplGlfw {
     private final long[] mouseCursors = new long[ImGuiMouseCursor.COUNT];
     private final long[] keyOwnerWindows = new long[512];
 
-    // Empty array to fill ImGuiIO.NavInputs with zeroes
-    private final float[] emptyNavInputs = new float[ImGuiNavInput.COUNT];
+    // Per-frame inputs and outputs of the ImGuiIO, exchanged with one native call each
+    private final ByteBuffer frameInput = ByteBuffer.allocateDirect(ImGuiIO.SIZEOF_FRAME_INPUT).order(ByteOrder.nativeOrder());
+    private final ByteBuffer frameOutput = ByteBuffer.allocateDirect(ImGuiIO.SIZEOF_FRAME_OUTPUT).order(ByteOrder.nativeOrder());
 
     // For mouse tracking
     private final boolean[] mouseJustPressed = new boolean[ImGuiMouseButton.COUNT];
-    private final ImVec2 mousePosBackup = new ImVec2();
     private final double[] mouseX = new double[1];
     private final double[] mouseY = new double[1];
 
@@ -344,27 +345,35 @@ public class ImGuiImplGlfw {
      */
     public void newFrame() {
         final ImGuiIO io = ImGui.getIO();
+        io.getFrameOutput(frameOutput);
+        final int configFlags = frameOutput.getInt(ImGuiIO.FRAME_OUTPUT_OFFSET_CONFIG_FLAGS);
 
         glfwGetWindowSize(windowPtr, winWidth, winHeight);
         glfwGetFramebufferSize(windowPtr, fbWidth, fbHeight);
 
-        io.setDisplaySize((float) winWidth[0], (float) winHeight[0]);
+        frameInput.putFloat(ImGuiIO.FRAME_INPUT_OFFSET_DISPLAY_SIZE, (float) winWidth[0]);
+        frameInput.putFloat(ImGuiIO.FRAME_INPUT_OFFSET_DISPLAY_SIZE + 4, (float) winHeight[0]);
         if (winWidth[0] > 0 && winHeight[0] > 0) {
-            final float scaleX = (float) fbWidth[0] / winWidth[0];
-            final float scaleY = (float) fbHeight[0] / winHeight[0];
-            io.setDisplayFramebufferScale(scaleX, scaleY);
+            frameInput.putFloat(ImGuiIO.FRAME_INPUT_OFFSET_DISPLAY_FRAMEBUFFER_SCALE, (float) fbWidth[0] / winWidth[0]);
+            frameInput.putFloat(ImGuiIO.FRAME_INPUT_OFFSET_DISPLAY_FRAMEBUFFER_SCALE + 4, (float) fbHeight[0] / winHeight[0]);
+        } else {
+            // Not positive scale keeps the current value
+            frameInput.putFloat(ImGuiIO.FRAME_INPUT_OFFSET_DISPLAY_FRAMEBUFFER_SCALE, 0);
+            frameInput.putFloat(ImGuiIO.FRAME_INPUT_OFFSET_DISPLAY_FRAMEBUFFER_SCALE + 4, 0);
         }
         if (wantUpdateMonitors) {
             updateMonitors();
         }
 
         final double currentTime = glfwGetTime();
-        io.setDeltaTime(time > 0.0 ? (float) (currentTime - time) : 1.0f / 60.0f);
+        frameInput.putFloat(ImGuiIO.FRAME_INPUT_OFFSET_DELTA_TIME, time > 0.0 ? (float) (currentTime - time) : 1.0f / 60.0f);
         time = currentTime;
 
-        updateMousePosAndButtons();
-        updateMouseCursor();
-        updateGamepads();
+        updateMousePosAndButtons(configFlags);
+        updateMouseCursor(configFlags);
+        updateGamepads(io, configFlags);
+
+        io.setFrameInput(frameInput);
     }
 
     /**
@@ -409,18 +418,18 @@ public class ImGuiImplGlfw {
         glfwHasMonitorWorkArea = version >= 3300;
     }
 
-    private void updateMousePosAndButtons() {
-        final ImGuiIO io = ImGui.getIO();
-
+    private void updateMousePosAndButtons(final int configFlags) {
         for (int i = 0; i < ImGuiMouseButton.COUNT; i++) {
             // If a mouse press event came, always pass it as "mouse held this frame", so we don't miss click-release events that are shorter than 1 frame.
-            io.setMouseDown(i, mouseJustPressed[i] || glfwGetMouseButton(windowPtr, i) != 0);
+            setFrameInputMouseDown(i, mouseJustPressed[i] || glfwGetMouseButton(windowPtr, i) != 0);
             mouseJustPressed[i] = false;
         }
 
-        io.getMousePos(mousePosBackup);
-        io.setMousePos(-Float.MAX_VALUE, -Float.MAX_VALUE);
-        io.setMouseHoveredViewport(0);
+        final float mousePosBackupX = frameOutput.getFloat(ImGuiIO.FRAME_OUTPUT_OFFSET_MOUSE_POS);
+        final float mousePosBackupY = frameOutput.getFloat(ImGuiIO.FRAME_OUTPUT_OFFSET_MOUSE_POS + 4);
+        final boolean wantSetMousePos = frameOutput.getInt(ImGuiIO.FRAME_OUTPUT_OFFSET_WANT_SET_MOUSE_POS) != 0;
+        setFrameInputMousePos(-Float.MAX_VALUE, -Float.MAX_VALUE);
+        frameInput.putInt(ImGuiIO.FRAME_INPUT_OFFSET_MOUSE_HOVERED_VIEWPORT, 0);
 
         final ImGuiPlatformIO platformIO = ImGui.getPlatformIO();
 
@@ -435,36 +444,43 @@ public class ImGuiImplGlfw {
             // Update mouse buttons
             if (focused) {
                 for (int i = 0; i < ImGuiMouseButton.COUNT; i++) {
-                    io.setMouseDown(i, glfwGetMouseButton(windowPtr, i) != 0);
+                    setFrameInputMouseDown(i, glfwGetMouseButton(windowPtr, i) != 0);
                 }
             }
 
             // Set OS mouse position from Dear ImGui if requested (rarely used, only when ImGuiConfigFlags_NavEnableSetMousePos is enabled by user)
             // (When multi-viewports are enabled, all Dear ImGui positions are same as OS positions)
-            if (io.getWantSetMousePos() && focused) {
-                glfwSetCursorPos(windowPtr, mousePosBackup.x - viewport.getPosX(), mousePosBackup.y - viewport.getPosY());
+            if (wantSetMousePos && focused) {
+                glfwSetCursorPos(windowPtr, mousePosBackupX - viewport.getPosX(), mousePosBackupY - viewport.getPosY());
             }
 
             // Set Dear ImGui mouse position from OS position
             if (mouseWindowPtr != 0) {
                 glfwGetCursorPos(mouseWindowPtr, mouseX, mouseY);
 
-                if (io.hasConfigFlags(ImGuiConfigFlags.ViewportsEnable)) {
+                if ((configFlags & ImGuiConfigFlags.ViewportsEnable) != 0) {
                     // Multi-viewport mode: mouse position in OS absolute coordinates (io.MousePos is (0,0) when the mouse is on the upper-left of the primary monitor)
                     glfwGetWindowPos(windowPtr, windowX, windowY);
-                    io.setMousePos((float) mouseX[0] + windowX[0], (float) mouseY[0] + windowY[0]);
+                    setFrameInputMousePos((float) mouseX[0] + windowX[0], (float) mouseY[0] + windowY[0]);
                 } else {
                     // Single viewport mode: mouse position in client window coordinates (io.MousePos is (0,0) when the mouse is on the upper-left corner of the app window)
-                    io.setMousePos((float) mouseX[0], (float) mouseY[0]);
+                    setFrameInputMousePos((float) mouseX[0], (float) mouseY[0]);
                 }
             }
         }
     }
 
-    private void updateMouseCursor() {
-        final ImGuiIO io = ImGui.getIO();
+    private void setFrameInputMouseDown(final int button, final boolean down) {
+        frameInput.putInt(ImGuiIO.FRAME_INPUT_OFFSET_MOUSE_DOWN + button * 4, down ? 1 : 0);
+    }
+
+    private void setFrameInputMousePos(final float x, final float y) {
+        frameInput.putFloat(ImGuiIO.FRAME_INPUT_OFFSET_MOUSE_POS, x);
+        frameInput.putFloat(ImGuiIO.FRAME_INPUT_OFFSET_MOUSE_POS + 4, y);
+    }
 
-        final boolean noCursorChange = io.hasConfigFlags(ImGuiConfigFlags.NoMouseCursorChange);
+    private void updateMouseCursor(final int configFlags) {
+        final boolean noCursorChange = (configFlags & ImGuiConfigFlags.NoMouseCursorChange) != 0;
         final boolean cursorDisabled = glfwGetInputMode(windowPtr, GLFW_CURSOR) == GLFW_CURSOR_DISABLED;
 
         if (noCursorChange || cursorDisabled) {
@@ -472,12 +488,13 @@ public class ImGuiImplGlfw {
         }
 
         final int imguiCursor = ImGui.getMouseCursor();
+        final boolean mouseDrawCursor = frameOutput.getInt(ImGuiIO.FRAME_OUTPUT_OFFSET_MOUSE_DRAW_CURSOR) != 0;
         final ImGuiPlatformIO platformIO = ImGui.getPlatformIO();
 
         for (int n = 0; n < platformIO.getViewportsSize(); n++) {
             final long windowPtr = platformIO.getViewports(n).getPlatformHandle();
 
-            if (imguiCursor == ImGuiMouseCursor.None || io.getMouseDrawCursor()) {
+            if (imguiCursor == ImGuiMouseCursor.None || mouseDrawCursor) {
                 // Hide OS mouse cursor if imgui is drawing it or if it wants no cursor
                 glfwSetInputMode(windowPtr, GLFW_CURSOR, GLFW_CURSOR_HIDDEN);
             } else {
@@ -489,14 +506,16 @@ public class ImGuiImplGlfw {
         }
     }
 
-    private void updateGamepads() {
-        final ImGuiIO io = ImGui.getIO();
-
-        if (!io.hasConfigFlags(ImGuiConfigFlags.NavEnableGamepad)) {
+    private void updateGamepads(final ImGuiIO io, final int configFlags) {
+        if ((configFlags & ImGuiConfigFlags.NavEnableGamepad) == 0) {
+            frameInput.putInt(ImGuiIO.FRAME_INPUT_OFFSET_HAS_NAV_INPUTS, 0);
             return;
         }
 
-        io.setNavInputs(emptyNavInputs);
+        frameInput.putInt(ImGuiIO.FRAME_INPUT_OFFSET_HAS_NAV_INPUTS, 1);
+        for (int i = 0; i < ImGuiNavInput.COUNT; i++) {
+            setFrameInputNavInput(i, 0);
+        }
 
         final ByteBuffer buttons = glfwGetJoystickButtons(GLFW_JOYSTICK_1);
         final int buttonsCount = buttons.limit();
@@ -504,33 +523,41 @@ public class ImGuiImplGlfw {
         final FloatBuffer axis = glfwGetJoystickAxes(GLFW_JOYSTICK_1);
         final int axisCount = axis.limit();
 
-        mapButton(ImGuiNavInput.Activate, 0, buttons, buttonsCount, io);   // Cross / A
-        mapButton(ImGuiNavInput.Cancel, 1, buttons, buttonsCount, io);     // Circle / B
-        mapButton(ImGuiNavInput.Menu, 2, buttons, buttonsCount, io);       // Square / X
-        mapButton(ImGuiNavInput.Input, 3, buttons, buttonsCount, io);      // Triangle / Y
-        mapButton(ImGuiNavInput.DpadLeft, 13, buttons, buttonsCount, io);  // D-Pad Left
-        mapButton(ImGuiNavInput.DpadRight, 11, buttons, buttonsCount, io); // D-Pad Right
-        mapButton(ImGuiNavInput.DpadUp, 10, buttons, buttonsCount, io);    // D-Pad Up
-        mapButton(ImGuiNavInput.DpadDown, 12, buttons, buttonsCount, io);  // D-Pad Down
-        mapButton(ImGuiNavInput.FocusPrev, 4, buttons, buttonsCount, io);  // L1 / LB
-        mapButton(ImGuiNavInput.FocusNext, 5, buttons, buttonsCount, io);  // R1 / RB
-        mapButton(ImGuiNavInput.TweakSlow, 4, buttons, buttonsCount, io);  // L1 / LB
-        mapButton(ImGuiNavInput.TweakFast, 5, buttons, buttonsCount, io);  // R1 / RB
-        mapAnalog(ImGuiNavInput.LStickLeft, 0, -0.3f, -0.9f, axis, axisCount, io);
-        mapAnalog(ImGuiNavInput.LStickRight, 0, +0.3f, +0.9f, axis, axisCount, io);
-        mapAnalog(ImGuiNavInput.LStickUp, 1, +0.3f, +0.9f, axis, axisCount, io);
-        mapAnalog(ImGuiNavInput.LStickDown, 1, -0.3f, -0.9f, axis, axisCount, io);
-
+        mapButton(ImGuiNavInput.Activate, 0, buttons, buttonsCount);   // Cross / A
+        mapButton(ImGuiNavInput.Cancel, 1, buttons, buttonsCount);     // Circle / B
+        mapButton(ImGuiNavInput.Menu, 2, buttons, buttonsCount);       // Square / X
+        mapButton(ImGuiNavInput.Input, 3, buttons, buttonsCount);      // Triangle / Y
+        mapButton(ImGuiNavInput.DpadLeft, 13, buttons, buttonsCount);  // D-Pad Left
+        mapButton(ImGuiNavInput.DpadRight, 11, buttons, buttonsCount); // D-Pad Right
+        mapButton(ImGuiNavInput.DpadUp, 10, buttons, buttonsCount);    // D-Pad Up
+        mapButton(ImGuiNavInput.DpadDown, 12, buttons, buttonsCount);  // D-Pad Down
+        mapButton(ImGuiNavInput.FocusPrev, 4, buttons, buttonsCount);  // L1 / LB
+        mapButton(ImGuiNavInput.FocusNext, 5, buttons, buttonsCount);  // R1 / RB
+        mapButton(ImGuiNavInput.TweakSlow, 4, buttons, buttonsCount);  // L1 / LB
+        mapButton(ImGuiNavInput.TweakFast, 5, buttons, buttonsCount);  // R1 / RB
+        mapAnalog(ImGuiNavInput.LStickLeft, 0, -0.3f, -0.9f, axis, axisCount);
+        mapAnalog(ImGuiNavInput.LStickRight, 0, +0.3f, +0.9f, axis, axisCount);
+        mapAnalog(ImGuiNavInput.LStickUp, 1, +0.3f, +0.9f, axis, axisCount);
+        mapAnalog(ImGuiNavInput.LStickDown, 1, -0.3f, -0.9f, axis, axisCount);
+
+        // Backend flags are changed only when needed, since they are not a part of the packed frame input
+        final boolean hasGamepad = (frameOutput.getInt(ImGuiIO.FRAME_OUTPUT_OFFSET_BACKEND_FLAGS) & ImGuiBackendFlags.HasGamepad) != 0;
         if (axisCount > 0 && buttonsCount > 0) {
-            io.addBackendFlags(ImGuiBackendFlags.HasGamepad);
-        } else {
+            if (!hasGamepad) {
+                io.addBackendFlags(ImGuiBackendFlags.HasGamepad);
+            }
+        } else if (hasGamepad) {
             io.removeBackendFlags(ImGuiBackendFlags.HasGamepad);
         }
     }
 
-    private void mapButton(final int navNo, final int buttonNo, final ByteBuffer buttons, final int buttonsCount, final ImGuiIO io) {
+    private void setFrameInputNavInput(final int navNo, final float value) {
+        frameInput.putFloat(ImGuiIO.FRAME_INPUT_OFFSET_NAV_INPUTS + navNo * 4, value);
+    }
+
+    private void mapButton(final int navNo, final int buttonNo, final ByteBuffer buttons, final int buttonsCount) {
         if (buttonsCount > buttonNo && buttons.get(buttonNo) == GLFW_PRESS) {
-            io.setNavInputs(navNo, 1.0f);
+            setFrameInputNavInput(navNo, 1.0f);
         }
     }
 
@@ -540,16 +567,15 @@ public class ImGuiImplGlfw {
         final float v0,
         final float v1,
         final FloatBuffer axis,
-        final int axisCount,
-        final ImGuiIO io
+        final int axisCount
     ) {
         float v = axisCount > axisNo ? axis.get(axisNo) : v0;
         v = (v - v0) / (v1 - v0);
         if (v > 1.0f) {
             v = 1.0f;
         }
-        if (io.getNavInputs(navNo) < v) {
-            io.setNavInputs(navNo, v);
+        if (frameInput.getFloat(ImGuiIO.FRAME_INPUT_OFFSET_NAV_INPUTS + navNo * 4) < v) {
+            setFrameInputNavInput(navNo, v);
         }
     }
 
@@ -0,0 +1,83 @@
+package imgui.cpu;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ImGuiImplCpuTest {
+    private static final int SIZE = 8;
+    private static final int CLEAR = 0xFF000000;
+    private static final int RED = 0xFFFF0000;
+    private static final int HALF_RED = 0x80FF0000;
+
+    private static float[] quad(final float x0, final float y0, final float x1, final float y1) {
+        return new float[]{x0, y0, x1, y0, x1, y1, x0, y0, x1, y1, x0, y1};
+    }
+
+    private static int[] colors(final int count, final int argb) {
+        final int[] colors = new int[count];
+        Arrays.fill(colors, argb);
+        return colors;
+    }
+
+    private static int[] render(final ImGuiImplCpu cpu, final float[] xy, final int argb, final int[] clipRect) {
+        final int[] pixels = new int[SIZE * SIZE];
+        cpu.setClearColor(CLEAR);
+        cpu.renderTriangles(xy, colors(xy.length / 2, argb), clipRect, pixels, SIZE, SIZE);
+        return pixels;
+    }
+
+    private static void assertRect(final int[] pixels, final int x0, final int y0, final int x1, final int y1, final int inside) {
+        for (int y = 0; y < SIZE; y++) {
+            for (int x = 0; x < SIZE; x++) {
+                final boolean isInside = x >= x0 && x < x1 && y >= y0 && y < y1;
+                assertEquals(isInside ? inside : CLEAR, pixels[y * SIZE + x], "pixel " + x + ", " + y);
+            }
+        }
+    }
+
+    @Nested
+    class renderTriangles {
+        @Test
+        void quad() {
+            final int[] pixels = render(new ImGuiImplCpu(), ImGuiImplCpuTest.quad(2, 2, 6, 6), RED, new int[]{0, 0, SIZE, SIZE});
+            assertRect(pixels, 2, 2, 6, 6, RED);
+        }
+
+        @Test
+        void sharedEdgeBlendedOnce() {
+            final int[] pixels = render(new ImGuiImplCpu(), ImGuiImplCpuTest.quad(0, 0, SIZE, SIZE), HALF_RED, new int[]{0, 0, SIZE, SIZE});
+            assertRect(pixels, 0, 0, SIZE, SIZE, 0xFF800000);
+        }
+
+        @Test
+        void clipped() {
+            final int[] pixels = render(new ImGuiImplCpu(), ImGuiImplCpuTest.quad(0, 0, SIZE, SIZE), RED, new int[]{1, 3, 4, SIZE});
+            assertRect(pixels, 1, 3, 4, SIZE, RED);
+        }
+
+        @Test
+        void acrossTiles() {
+            final ImGuiImplCpu cpu = new ImGuiImplCpu();
+            cpu.setTileSize(3);
+            final int[] pixels = render(cpu, ImGuiImplCpuTest.quad(1, 1, 7, 5), RED, new int[]{0, 0, SIZE, SIZE});
+            assertRect(pixels, 1, 1, 7, 5, RED);
+        }
+
+        @Test
+        void triangle() {
+            final int[] pixels = render(new ImGuiImplCpu(), new float[]{0, 0, SIZE, 0, 0, SIZE}, RED, new int[]{0, 0, SIZE, SIZE});
+            for (int y = 0; y < SIZE; y++) {
+                for (int x = 0; x < SIZE; x++) {
+                    // Centers lying exactly on the hypotenuse depend on the tie-breaking rule
+                    if (x + y + 1 != SIZE) {
+                        assertEquals(x + y + 1 < SIZE ? RED : CLEAR, pixels[y * SIZE + x], "pixel " + x + ", " + y);
+                    }
+                }
+            }
+        }
+    }
+}